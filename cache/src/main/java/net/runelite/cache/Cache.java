@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -40,6 +41,7 @@ public class Cache
 		Options options = new Options();
 
 		options.addOption("c", "cache", true, "cache base");
+		options.addOption(null, "since", true, "cache base of a previous dump; only what changed since it is dumped");
 
 		options.addOption(null, "items", true, "directory to dump items to");
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
@@ -62,6 +64,12 @@ public class Cache
 		String cache = cmd.getOptionValue("cache");
 
 		Store store = loadStore(cache);
+		StoreDiff diff = null;
+		if (cmd.hasOption("since"))
+		{
+			diff = StoreDiff.diff(loadStore(cmd.getOptionValue("since")), store);
+			System.out.println(diff.getChanges().size() + " archives changed since " + cmd.getOptionValue("since"));
+		}
 
 		if (cmd.hasOption("items"))
 		{
@@ -74,7 +82,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			dumpItems(store, diff, new File(itemdir));
 		}
 		else if (cmd.hasOption("npcs"))
 		{
@@ -87,7 +95,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			dumpNpcs(store, diff, new File(npcdir));
 		}
 		else if (cmd.hasOption("objects"))
 		{
@@ -100,7 +108,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			dumpObjects(store, diff, new File(objectdir));
 		}
 		else if (cmd.hasOption("sprites"))
 		{
@@ -113,7 +121,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping sprites to " + spritedir);
-			dumpSprites(store, new File(spritedir));
+			dumpSprites(store, diff, new File(spritedir));
 		}
 		else
 		{
@@ -128,33 +136,63 @@ public class Cache
 		return store;
 	}
 
-	private static void dumpItems(Store store, File itemdir) throws IOException
+	private static void dumpItems(Store store, StoreDiff diff, File itemdir) throws IOException
 	{
-		ItemManager dumper = new ItemManager(store);
+		ItemManager dumper = new ItemManager(store, diff != null);
 		dumper.load();
-		dumper.export(itemdir);
-		dumper.java(itemdir);
+		if (diff != null)
+		{
+			dumper.export(itemdir, diff);
+			dumper.java(itemdir, diff);
+		}
+		else
+		{
+			dumper.export(itemdir);
+			dumper.java(itemdir);
+		}
 	}
 
-	private static void dumpNpcs(Store store, File npcdir) throws IOException
+	private static void dumpNpcs(Store store, StoreDiff diff, File npcdir) throws IOException
 	{
-		NpcManager dumper = new NpcManager(store);
+		NpcManager dumper = new NpcManager(store, diff != null);
 		dumper.load();
-		dumper.dump(npcdir);
-		dumper.java(npcdir);
+		if (diff != null)
+		{
+			dumper.dump(npcdir, diff);
+			dumper.java(npcdir, diff);
+		}
+		else
+		{
+			dumper.dump(npcdir);
+			dumper.java(npcdir);
+		}
 	}
 
-	private static void dumpObjects(Store store, File objectdir) throws IOException
+	private static void dumpObjects(Store store, StoreDiff diff, File objectdir) throws IOException
 	{
-		ObjectManager dumper = new ObjectManager(store);
+		ObjectManager dumper = new ObjectManager(store, diff != null);
 		dumper.load();
-		dumper.dump(objectdir);
-		dumper.java(objectdir);
+		if (diff != null)
+		{
+			dumper.dump(objectdir, diff);
+			dumper.java(objectdir, diff);
+		}
+		else
+		{
+			dumper.dump(objectdir);
+			dumper.java(objectdir);
+		}
 	}
 
-	private static void dumpSprites(Store store, File spritedir) throws IOException
+	private static void dumpSprites(Store store, StoreDiff diff, File spritedir) throws IOException
 	{
 		SpriteManager dumper = new SpriteManager(store);
+		if (diff != null)
+		{
+			dumper.export(spritedir, diff);
+			return;
+		}
+
 		dumper.load();
 		dumper.export(spritedir);
 	}
@@ -25,57 +25,80 @@
 package net.runelite.cache;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import net.runelite.cache.definitions.DBTableIndex;
 import net.runelite.cache.definitions.loaders.DBTableIndexLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class DBTableIndexManager
 {
 	private final Store store;
-	private final Map<Integer, DBTableIndex> indexes = new HashMap<>();
+	private final boolean lazy;
+	private final DBTableIndexLoader loader = new DBTableIndexLoader();
+	private Index index;
+	/**
+	 * indexes of each table, indexed by table id, then by file id
+	 */
+	private DefinitionTable<DBTableIndex>[] tables = newTables(0);
 
 	public DBTableIndexManager(Store store)
+	{
+		this(store, false);
+	}
+
+	/**
+	 * @param store the store to load indexes from
+	 * @param lazy if true, a table's indexes are read and decoded when the table is first accessed
+	 */
+	public DBTableIndexManager(Store store, boolean lazy)
 	{
 		this.store = store;
+		this.lazy = lazy;
 	}
 
 	public void load() throws IOException
 	{
-		DBTableIndexLoader loader = new DBTableIndexLoader();
-
-		Storage storage = store.getStorage();
-		Index index = store.getIndex(IndexType.DBTABLEINDEX);
+		index = store.getIndex(IndexType.DBTABLEINDEX);
 		if (index == null)
 		{
 			return;
 		}
 
+		int max = -1;
 		for (Archive archive : index.getArchives())
 		{
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
+			max = Math.max(max, archive.getArchiveId());
+		}
+		tables = newTables(max + 1);
 
-			for (FSFile f : files.getFiles())
+		if (!lazy)
+		{
+			for (Archive archive : index.getArchives())
 			{
-				// file 0 = master index, all others are fileId - 1 = columnId
-				DBTableIndex row = loader.load(archive.getArchiveId(), f.getFileId() - 1, f.getContents());
-				indexes.put(archive.getArchiveId() << 16 | f.getFileId(), row);
+				loadTable(archive);
 			}
 		}
 	}
 
 	public Collection<DBTableIndex> getIndexes()
 	{
-		return Collections.unmodifiableCollection(indexes.values());
+		List<DBTableIndex> indexes = new ArrayList<>();
+		for (int tableId = 0; tableId < tables.length; ++tableId)
+		{
+			DefinitionTable<DBTableIndex> table = getTable(tableId);
+			if (table != null)
+			{
+				indexes.addAll(table.getAll());
+			}
+		}
+		return Collections.unmodifiableList(indexes);
 	}
 
 	/**
@@ -86,7 +109,8 @@ public class DBTableIndexManager
 	 */
 	public DBTableIndex getMaster(int tableId)
 	{
-		return indexes.get(tableId << 16);
+		DefinitionTable<DBTableIndex> table = getTable(tableId);
+		return table != null ? table.get(0) : null;
 	}
 
 	/**
@@ -98,6 +122,53 @@ public class DBTableIndexManager
 	 */
 	public DBTableIndex get(int tableId, int columnId)
 	{
-		return indexes.get(tableId << 16 | columnId + 1);
+		DefinitionTable<DBTableIndex> table = getTable(tableId);
+		return table != null ? table.get(columnId + 1) : null;
+	}
+
+	private DefinitionTable<DBTableIndex> getTable(int tableId)
+	{
+		if (tableId < 0 || tableId >= tables.length)
+		{
+			return null;
+		}
+
+		DefinitionTable<DBTableIndex> table = tables[tableId];
+		if (table == null && lazy)
+		{
+			Archive archive = index.getArchive(tableId);
+			if (archive == null)
+			{
+				return null;
+			}
+
+			try
+			{
+				table = loadTable(archive);
+			}
+			catch (IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+		}
+		return table;
+	}
+
+	private DefinitionTable<DBTableIndex> loadTable(Archive archive) throws IOException
+	{
+		int tableId = archive.getArchiveId();
+		ArchiveFiles files = store.getFiles(archive);
+
+		// file 0 = master index, all others are fileId - 1 = columnId
+		DefinitionTable<DBTableIndex> table = new DefinitionTable<>((fileId, data) -> loader.load(tableId, fileId - 1, data));
+		table.load(files, lazy);
+		tables[tableId] = table;
+		return table;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static DefinitionTable<DBTableIndex>[] newTables(int size)
+	{
+		return new DefinitionTable[size];
 	}
 }
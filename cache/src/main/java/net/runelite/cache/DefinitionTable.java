@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+
+/**
+ * Definitions of a single archive, indexed by file id. Definitions are either
+ * decoded when the archive is loaded, or lazily decoded from the archive's
+ * file contents the first time they are requested.
+ * <p>
+ * Lazy decoding mutates the table, so it is not safe for concurrent use.
+ */
+class DefinitionTable<T>
+{
+	@FunctionalInterface
+	interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private final Decoder<T> decoder;
+	private Object[] definitions = new Object[0];
+	/**
+	 * undecoded file contents, indexed by file id. null when all
+	 * definitions have been decoded.
+	 */
+	private byte[][] contents;
+	private int pending;
+
+	DefinitionTable(Decoder<T> decoder)
+	{
+		this.decoder = decoder;
+	}
+
+	void load(ArchiveFiles files, boolean lazy)
+	{
+		int max = -1;
+		for (FSFile f : files.getFiles())
+		{
+			max = Math.max(max, f.getFileId());
+		}
+
+		definitions = new Object[max + 1];
+		contents = null;
+		pending = 0;
+
+		if (lazy)
+		{
+			contents = new byte[max + 1][];
+			for (FSFile f : files.getFiles())
+			{
+				contents[f.getFileId()] = f.getContents();
+				++pending;
+			}
+			return;
+		}
+
+		for (FSFile f : files.getFiles())
+		{
+			definitions[f.getFileId()] = decoder.decode(f.getFileId(), f.getContents());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int id)
+	{
+		if (id < 0 || id >= definitions.length)
+		{
+			return null;
+		}
+
+		Object def = definitions[id];
+		if (def == null && contents != null && contents[id] != null)
+		{
+			def = decode(id);
+		}
+		return (T) def;
+	}
+
+	private T decode(int id)
+	{
+		T def = decoder.decode(id, contents[id]);
+		definitions[id] = def;
+		contents[id] = null;
+		if (--pending == 0)
+		{
+			contents = null;
+		}
+		return def;
+	}
+
+	/**
+	 * Gets all definitions in file id order, decoding any which have not
+	 * been decoded yet.
+	 */
+	@SuppressWarnings("unchecked")
+	List<T> getAll()
+	{
+		if (contents != null)
+		{
+			for (int id = 0; contents != null && id < contents.length; ++id)
+			{
+				if (contents[id] != null)
+				{
+					decode(id);
+				}
+			}
+		}
+
+		List<T> all = new ArrayList<>();
+		for (Object def : definitions)
+		{
+			if (def != null)
+			{
+				all.add((T) def);
+			}
+		}
+		return Collections.unmodifiableList(all);
+	}
+}
@@ -29,7 +29,6 @@ import net.runelite.cache.definitions.loaders.FontLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Djb2;
 import java.io.IOException;
@@ -48,14 +47,12 @@ public class FontManager
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.FONTS);
 		FontLoader fontLoader = new FontLoader();
 
 		for (Archive archive : index.getArchives())
 		{
-			byte[] data = storage.loadArchive(archive);
-			FSFile file = archive.getFiles(data).findFile(0);
+			FSFile file = store.getFiles(archive).findFile(0);
 			FontDefinition fontDefinition = fontLoader.load(file.getContents());
 
 			fonts.put(archive.getNameHash(), fontDefinition);
@@ -34,7 +34,6 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.Namer;
 
@@ -53,7 +52,6 @@ public class InterfaceManager
 	{
 		InterfaceLoader loader = new InterfaceLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.INTERFACES);
 
 		int max = index.getArchives().stream().mapToInt(a -> a.getArchiveId()).max().getAsInt();
@@ -62,8 +60,7 @@ public class InterfaceManager
 		for (Archive archive : index.getArchives())
 		{
 			int archiveId = archive.getArchiveId();
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
+			ArchiveFiles files = store.getFiles(archive);
 
 			InterfaceDefinition[] ifaces = interfaces[archiveId];
 			if (ifaces == null)
@@ -27,52 +27,54 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.util.IDClass;
 
 public class ItemManager implements ItemProvider
 {
 	private final Store store;
-	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final boolean lazy;
+	private DefinitionTable<ItemDefinition> items = new DefinitionTable<>(null);
 
 	public ItemManager(Store store)
+	{
+		this(store, false);
+	}
+
+	/**
+	 * @param store the store to load definitions from
+	 * @param lazy if true, definitions are decoded on first access instead of on load
+	 */
+	public ItemManager(Store store, boolean lazy)
 	{
 		this.store = store;
+		this.lazy = lazy;
 	}
 
 	public void load() throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.ITEM.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.getFiles(archive);
 
-		for (FSFile f : files.getFiles())
-		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+		items = new DefinitionTable<>(loader::load);
+		items.load(files, lazy);
 	}
 
 	public void link()
 	{
-		for (ItemDefinition oc : items.values())
+		for (ItemDefinition oc : items.getAll())
 		{
 			link(oc);
 		}
@@ -96,7 +98,7 @@ public class ItemManager implements ItemProvider
 
 	public Collection<ItemDefinition> getItems()
 	{
-		return Collections.unmodifiableCollection(items.values());
+		return items.getAll();
 	}
 
 	public ItemDefinition getItem(int itemId)
@@ -108,7 +110,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : items.getAll())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -117,13 +119,39 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Exports only the items which were added or changed between the stores
+	 * of the diff, and deletes the exports of removed items.
+	 *
+	 * @param out the directory a full export was previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void export(File out, StoreDiff diff) throws IOException
+	{
+		out.mkdirs();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.ITEM.getId()))
+		{
+			File targ = new File(out, change.getFileId() + ".json");
+			if (change.getType() == StoreDiff.ChangeType.REMOVED)
+			{
+				targ.delete();
+				continue;
+			}
+
+			ItemDefinition def = getItem(change.getFileId());
+			ItemExporter exporter = new ItemExporter(def);
+			exporter.exportTo(targ);
+		}
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : items.getAll())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -137,6 +165,29 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Regenerates the id classes if the diff adds, removes or renames an item. Other
+	 * changes leave the constants as they were, so only the changed items are decoded.
+	 *
+	 * @param java the directory the id classes were previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void java(File java, StoreDiff diff) throws IOException
+	{
+		ItemManager previous = new ItemManager(diff.getFrom(), true);
+		previous.load();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.ITEM.getId()))
+		{
+			if (change.getType() != StoreDiff.ChangeType.CHANGED
+				|| !previous.getItem(change.getFileId()).name.equals(getItem(change.getFileId()).name))
+			{
+				java(java);
+				return;
+			}
+		}
+	}
+
 	@Override
 	public ItemDefinition provide(int itemId)
 	{
@@ -24,17 +24,34 @@
  */
 package net.runelite.cache;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -54,8 +71,8 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
@@ -64,6 +81,7 @@ import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.StreamingPngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -78,6 +96,9 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int TILE_REGIONS = 8; // width and height of a rendered tile, in regions
+	private static final int TILE_MARGIN = 1; // regions around a tile whose objects, icons and labels may overlap it
+	private static final int REGION_PIXELS = Region.X * MAP_SCALE;
 
 	private static byte[][][] TILE_SHAPE_2D;
 
@@ -138,12 +159,46 @@ public class MapImageDumper
 	@Setter
 	private boolean lowMemory = true;
 
+	/**
+	 * Executor map tiles are rendered on
+	 */
+	@Getter
+	@Setter
+	private Executor executor = ForkJoinPool.commonPool();
+
+	/**
+	 * Maximum number of rendered tiles which have not yet been consumed
+	 */
+	@Getter
+	@Setter
+	private int maxPendingTiles = Runtime.getRuntime().availableProcessors() * 2;
+
+	/**
+	 * Receives rendered map tiles
+	 */
+	@FunctionalInterface
+	public interface MapTileConsumer
+	{
+		/**
+		 * @param x x offset of the tile in the image of the whole plane, in pixels
+		 * @param y y offset of the tile in the image of the whole plane, in pixels
+		 * @param tile the rendered tile
+		 */
+		void accept(int x, int y, BufferedImage tile) throws IOException;
+	}
+
 	public MapImageDumper(Store store, KeyProvider keyProvider)
 	{
 		this(store, new RegionLoader(store, keyProvider));
 	}
 
 	public MapImageDumper(Store store, RegionLoader regionLoader)
+	{
+		this(store, regionLoader, new ObjectManager(store));
+	}
+
+	@VisibleForTesting
+	MapImageDumper(Store store, RegionLoader regionLoader, ObjectManager objectManager)
 	{
 		this.store = store;
 		this.regionLoader = regionLoader;
@@ -151,7 +206,7 @@ public class MapImageDumper
 		this.sprites = new SpriteManager(store);
 		this.fonts = new FontManager(store);
 		this.worldMapManager = new WorldMapManager(store);
-		this.objectManager = new ObjectManager(store);
+		this.objectManager = objectManager;
 	}
 
 	public static void main(String[] args) throws IOException
@@ -160,6 +215,8 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tilelevels").hasArg().desc("write a directory of tiles with this many zoom levels instead of one image per plane").build());
+		options.addOption(Option.builder().longOpt("since").hasArg().desc("cache the tiles were previously written from; only changed regions are redrawn").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -177,6 +234,8 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int tileLevels = Integer.parseInt(cmd.getOptionValue("tilelevels", "0"));
+		final String sinceDirectory = cmd.getOptionValue("since");
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -188,20 +247,44 @@ public class MapImageDumper
 		File outDir = new File(outputDirectory);
 		outDir.mkdirs();
 
-		try (Store store = new Store(base))
+		try (Store store = new Store(base);
+			Store since = sinceDirectory != null ? new Store(new File(sinceDirectory)) : null)
 		{
 			store.load();
 
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
 			dumper.load();
 
+			StoreDiff diff = null;
+			if (since != null)
+			{
+				since.load();
+				diff = StoreDiff.diff(since, store);
+			}
+
 			for (int i = 0; i < Region.Z; ++i)
 			{
-				BufferedImage image = dumper.drawMap(i);
+				if (tileLevels > 0)
+				{
+					File tileDir = new File(outDir, "tiles-" + i);
+					if (diff != null)
+					{
+						dumper.writeMapTiles(i, tileDir, tileLevels, diff);
+					}
+					else
+					{
+						dumper.writeMapTiles(i, tileDir, tileLevels);
+					}
+					log.info("Wrote tiles {}", tileDir);
+					continue;
+				}
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
 
-				ImageIO.write(image, "png", imageFile);
+				try (OutputStream out = new BufferedOutputStream(new FileOutputStream(imageFile)))
+				{
+					dumper.writeMap(i, out);
+				}
 				log.info("Wrote image {}", imageFile);
 			}
 		}
@@ -261,14 +344,527 @@ public class MapImageDumper
 			image = new BufferedImage(pixelsX, pixelsY, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
 		}
 
-		drawMap(image, z);
-		drawObjects(image, z);
-		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		try
+		{
+			drawMapTiles(z, (x, y, tile) -> image.getRaster().setRect(x, y, tile.getRaster()));
+		}
+		catch (IOException ex)
+		{
+			// copying tiles into the image does not do any io
+			throw new UncheckedIOException(ex);
+		}
 
 		return image;
 	}
 
+	/**
+	 * Renders a plane of the map as square tiles, rendering tiles in parallel on the
+	 * {@link #getExecutor() executor}. The tiles together form the image {@link #drawMap(int)}
+	 * returns, and are passed to the consumer one at a time on the calling thread,
+	 * left to right and top to bottom.
+	 *
+	 * @param z the plane to render
+	 * @param consumer receives each tile along with its position in the image of the plane
+	 */
+	public void drawMapTiles(int z, MapTileConsumer consumer) throws IOException
+	{
+		drawMapTiles(z, TILE_REGIONS, tile -> true, consumer);
+	}
+
+	/**
+	 * @param tileRegions width and height of the tiles, in regions
+	 * @param include selects the tiles to draw, by index in left to right, top to bottom order
+	 */
+	@VisibleForTesting
+	void drawMapTiles(int z, int tileRegions, IntPredicate include, MapTileConsumer consumer) throws IOException
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		int regionsX = getRegionsX();
+		int regionsY = getRegionsY();
+		int tilesX = (regionsX + tileRegions - 1) / tileRegions;
+		int tilesY = (regionsY + tileRegions - 1) / tileRegions;
+		int[] tiles = IntStream.range(0, tilesX * tilesY)
+			.filter(include)
+			.toArray();
+
+		Deque<CompletableFuture<BufferedImage>> pending = new ArrayDeque<>();
+		int next = 0;
+		try
+		{
+			for (int tileIndex : tiles)
+			{
+				for (; next < tiles.length && pending.size() < Math.max(1, maxPendingTiles); ++next)
+				{
+					int tileX = tiles[next] % tilesX;
+					int tileY = tiles[next] / tilesX;
+					pending.add(CompletableFuture.supplyAsync(() -> drawMapTile(z, tileX, tileY, tileRegions), executor));
+				}
+
+				BufferedImage tile;
+				try
+				{
+					tile = pending.remove().join();
+				}
+				catch (CompletionException ex)
+				{
+					Throwables.throwIfUnchecked(ex.getCause());
+					throw ex;
+				}
+
+				consumer.accept((tileIndex % tilesX) * tileRegions * REGION_PIXELS, (tileIndex / tilesX) * tileRegions * REGION_PIXELS, tile);
+			}
+		}
+		finally
+		{
+			for (CompletableFuture<BufferedImage> future : pending)
+			{
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Renders a plane of the map to a png, without holding the whole image in memory.
+	 *
+	 * @param z the plane to render
+	 * @param out the stream to write the png to. It is closed once the image is written.
+	 */
+	public void writeMap(int z, OutputStream out) throws IOException
+	{
+		int width = getRegionsX() * REGION_PIXELS;
+		int tilesX = (getRegionsX() + TILE_REGIONS - 1) / TILE_REGIONS;
+
+		try (StreamingPngWriter png = new StreamingPngWriter(out, width, getRegionsY() * REGION_PIXELS, transparency))
+		{
+			// a row of tiles is written once its last tile arrives
+			BufferedImage[] row = new BufferedImage[tilesX];
+			int[] argb = new int[width];
+			drawMapTiles(z, (x, y, tile) ->
+			{
+				int tileX = x / (TILE_REGIONS * REGION_PIXELS);
+				row[tileX] = tile;
+				if (tileX != tilesX - 1)
+				{
+					return;
+				}
+
+				for (int py = 0; py < tile.getHeight(); ++py)
+				{
+					int off = 0;
+					for (BufferedImage t : row)
+					{
+						t.getRGB(0, py, t.getWidth(), 1, argb, off, t.getWidth());
+						off += t.getWidth();
+					}
+					png.writeRow(argb, 0);
+				}
+				Arrays.fill(row, null);
+			});
+		}
+	}
+
+	/**
+	 * Renders a plane of the map to a directory of {@code REGION_PIXELS} square png tiles.
+	 * Level 0 has one tile per region, named {@code 0/<regionX>_<regionY>.png}. Each following
+	 * level is downscaled by half, so tile {@code <level>/<x>_<y>.png} covers regions
+	 * {@code x << level} to {@code (x + 1) << level}, and likewise for y.
+	 *
+	 * @param z the plane to render
+	 * @param outDir the directory to write tiles into
+	 * @param levels the number of zoom levels to write
+	 */
+	public void writeMapTiles(int z, File outDir, int levels) throws IOException
+	{
+		writeTiles(z, outDir, levels, null);
+	}
+
+	/**
+	 * Updates tiles previously written by {@link #writeMapTiles(int, File, int)} for the
+	 * changes between two stores. When only map archives or the definitions of objects
+	 * placed on the map changed, just the affected regions, their neighbours and the
+	 * zoomed out tiles containing them are redrawn. Changes which can affect every region,
+	 * such as to underlays, overlays, areas, textures or the map's sprites and fonts,
+	 * redraw everything.
+	 *
+	 * @param z the plane to render
+	 * @param outDir the directory the tiles were previously written to
+	 * @param levels the number of zoom levels to write
+	 * @param diff the diff from the previously rendered store to the store of this dumper
+	 */
+	public void writeMapTiles(int z, File outDir, int levels, StoreDiff diff) throws IOException
+	{
+		if (redrawsAllRegions(diff))
+		{
+			writeTiles(z, outDir, levels, null);
+			return;
+		}
+
+		Set<Integer> changed = new HashSet<>(diff.getChangedRegions());
+
+		Set<Integer> objectIds = new HashSet<>();
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.OBJECT.getId()))
+		{
+			objectIds.add(change.getFileId());
+		}
+		if (!objectIds.isEmpty())
+		{
+			for (Region region : regionLoader.getRegions())
+			{
+				for (Location location : region.getLocations())
+				{
+					if (objectIds.contains(location.getId()))
+					{
+						changed.add(region.getRegionID());
+						break;
+					}
+				}
+			}
+		}
+
+		if (changed.isEmpty())
+		{
+			return;
+		}
+
+		// ground blends into, and objects and icons are drawn over, neighboring regions
+		Set<Integer> regions = new HashSet<>();
+		for (int regionId : changed)
+		{
+			int regionX = regionId >> 8;
+			int regionY = regionId & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					if (regionX + dx >= 0 && regionX + dx < 256 && regionY + dy >= 0 && regionY + dy < 256)
+					{
+						regions.add((regionX + dx) << 8 | (regionY + dy));
+					}
+				}
+			}
+		}
+
+		log.info("Redrawing {} regions for {} changed regions", regions.size(), changed.size());
+		writeTiles(z, outDir, levels, regions);
+	}
+
+	private boolean redrawsAllRegions(StoreDiff diff)
+	{
+		if (diff.isChanged(IndexType.CONFIGS, ConfigType.UNDERLAY.getId())
+			|| diff.isChanged(IndexType.CONFIGS, ConfigType.OVERLAY.getId())
+			|| diff.isChanged(IndexType.CONFIGS, ConfigType.AREA.getId())
+			|| diff.isChanged(IndexType.TEXTURES)
+			|| diff.isChanged(IndexType.FONTS)
+			|| diff.isChanged(IndexType.WORLDMAP))
+		{
+			return true;
+		}
+
+		Index index = store.getIndex(IndexType.SPRITES);
+		Set<Integer> mapSprites = new HashSet<>();
+		mapSprites.add(index.findArchiveByName("mapscene").getArchiveId());
+		for (AreaDefinition area : areas.getAreas())
+		{
+			mapSprites.add(area.spriteId);
+		}
+		for (FontName font : new FontName[]{FontName.VERDANA_11, FontName.VERDANA_13, FontName.VERDANA_15})
+		{
+			Archive archive = index.findArchiveByName(font.getName());
+			if (archive != null)
+			{
+				mapSprites.add(archive.getArchiveId());
+			}
+		}
+
+		for (StoreDiff.ArchiveChange change : diff.getChanges(IndexType.SPRITES))
+		{
+			if (mapSprites.contains(change.getArchive()))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param regionIds the regions to draw, or null to draw every region
+	 */
+	private void writeTiles(int z, File outDir, int levels, Set<Integer> regionIds) throws IOException
+	{
+		int lowestRegionX = regionLoader.getLowestX().getRegionX();
+		int highestRegionY = regionLoader.getHighestY().getRegionY();
+
+		File levelDir = new File(outDir, "0");
+		levelDir.mkdirs();
+
+		Set<Integer> regions = new HashSet<>();
+		if (regionIds == null)
+		{
+			drawMapTiles(z, TILE_REGIONS, tile -> true, (x, y, tile) -> writeRegionTiles(levelDir, x, y, tile, null, regions));
+		}
+		else
+		{
+			for (int regionId : regionIds)
+			{
+				int regionX = regionId >> 8;
+				int regionY = regionId & 0xFF;
+				if (regionLoader.findRegionForRegionCoordinates(regionX, regionY) == null
+					&& new File(levelDir, regionX + "_" + regionY + ".png").delete())
+				{
+					// the region was removed, so the zoomed out tiles need redrawing without it
+					regions.add(regionX << 16 | regionY);
+				}
+			}
+
+			// draw single regions, to not redraw unchanged neighbours
+			int regionsX = getRegionsX();
+			drawMapTiles(z, 1, tile -> regionIds.contains((lowestRegionX + tile % regionsX) << 8 | (highestRegionY - tile / regionsX)),
+				(x, y, tile) -> writeRegionTiles(levelDir, x, y, tile, regionIds, regions));
+		}
+
+		// the tiles of each level with a region under them, taken from the map rather than the
+		// files of the previous dump, which may be of regions since removed
+		Set<Integer> present = new HashSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			present.add(region.getRegionX() << 16 | region.getRegionY());
+		}
+		if (regionIds == null)
+		{
+			deleteTiles(levelDir, present);
+		}
+
+		Set<Integer> written = regions;
+		for (int level = 1; level < levels; ++level)
+		{
+			written = writeTileLevel(outDir, level, written, present);
+			present = parentTiles(present);
+			if (regionIds == null)
+			{
+				deleteTiles(new File(outDir, Integer.toString(level)), present);
+			}
+		}
+	}
+
+	private static Set<Integer> parentTiles(Set<Integer> tiles)
+	{
+		Set<Integer> parents = new HashSet<>();
+		for (int tile : tiles)
+		{
+			parents.add((tile >>> 17) << 16 | (tile & 0xFFFF) >>> 1);
+		}
+		return parents;
+	}
+
+	/**
+	 * Deletes the tiles of a level left over from a previous dump
+	 */
+	private static void deleteTiles(File levelDir, Set<Integer> present)
+	{
+		File[] files = levelDir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String[] name = file.getName().replace(".png", "").split("_");
+			if (file.getName().endsWith(".png") && name.length == 2 && !present.contains(Integer.parseInt(name[0]) << 16 | Integer.parseInt(name[1])))
+			{
+				file.delete();
+			}
+		}
+	}
+
+	private void writeRegionTiles(File levelDir, int x, int y, BufferedImage tile, Set<Integer> regionIds, Set<Integer> written) throws IOException
+	{
+		for (int ty = 0; ty < tile.getHeight(); ty += REGION_PIXELS)
+		{
+			for (int tx = 0; tx < tile.getWidth(); tx += REGION_PIXELS)
+			{
+				int regionX = regionLoader.getLowestX().getRegionX() + (x + tx) / REGION_PIXELS;
+				int regionY = regionLoader.getHighestY().getRegionY() - (y + ty) / REGION_PIXELS;
+				if (regionLoader.findRegionForRegionCoordinates(regionX, regionY) == null
+					|| (regionIds != null && !regionIds.contains(regionX << 8 | regionY)))
+				{
+					continue;
+				}
+
+				BufferedImage image = tile.getSubimage(tx, ty, REGION_PIXELS, REGION_PIXELS);
+				ImageIO.write(image, "png", new File(levelDir, regionX + "_" + regionY + ".png"));
+				written.add(regionX << 16 | regionY);
+			}
+		}
+	}
+
+	/**
+	 * Redraws the tiles of a zoom level which contain any of the given tiles of the previous level
+	 *
+	 * @param children the redrawn tiles of the previous level
+	 * @param present every tile of the previous level which has a region under it
+	 * @return the redrawn tiles
+	 */
+	private Set<Integer> writeTileLevel(File outDir, int level, Set<Integer> children, Set<Integer> present) throws IOException
+	{
+		File childDir = new File(outDir, Integer.toString(level - 1));
+		File levelDir = new File(outDir, Integer.toString(level));
+		levelDir.mkdirs();
+
+		Set<Integer> parents = parentTiles(children);
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(parents.size());
+		for (int parent : parents)
+		{
+			int px = parent >>> 16;
+			int py = parent & 0xFFFF;
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				BufferedImage image = new BufferedImage(REGION_PIXELS, REGION_PIXELS, imageType());
+				Graphics2D graphics = image.createGraphics();
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				boolean empty = true;
+				try
+				{
+					for (int dx = 0; dx < 2; ++dx)
+					{
+						for (int dy = 0; dy < 2; ++dy)
+						{
+							int cx = px << 1 | dx;
+							int cy = py << 1 | dy;
+							if (!present.contains(cx << 16 | cy))
+							{
+								continue;
+							}
+
+							BufferedImage child = ImageIO.read(new File(childDir, cx + "_" + cy + ".png"));
+							empty = false;
+							// higher y is further north, which is drawn above
+							graphics.drawImage(child, dx * REGION_PIXELS / 2, (1 - dy) * REGION_PIXELS / 2, REGION_PIXELS / 2, REGION_PIXELS / 2, null);
+						}
+					}
+
+					File file = new File(levelDir, px + "_" + py + ".png");
+					if (empty)
+					{
+						// every region of the tile has been removed
+						file.delete();
+					}
+					else
+					{
+						ImageIO.write(image, "png", file);
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+				finally
+				{
+					graphics.dispose();
+				}
+			}, executor));
+		}
+
+		try
+		{
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw ex;
+		}
+
+		return parents;
+	}
+
+	private BufferedImage drawMapTile(int z, int tileX, int tileY, int tileRegions)
+	{
+		// tile bounds in regions, from the top left of the map
+		int x0 = tileX * tileRegions;
+		int y0 = tileY * tileRegions;
+		int width = Math.min(tileRegions, getRegionsX() - x0);
+		int height = Math.min(tileRegions, getRegionsY() - y0);
+
+		BufferedImage canvas = new BufferedImage((width + TILE_MARGIN * 2) * REGION_PIXELS, (height + TILE_MARGIN * 2) * REGION_PIXELS, imageType());
+
+		// offset of the canvas from the top left of the map, in map squares
+		int originX = (x0 - TILE_MARGIN) * Region.X;
+		int originY = (y0 - TILE_MARGIN) * Region.Y;
+
+		List<Region> inTile = new ArrayList<>();
+		List<Region> canvasRegions = new ArrayList<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int rx = region.getRegionX() - regionLoader.getLowestX().getRegionX();
+			int ry = regionLoader.getHighestY().getRegionY() - region.getRegionY();
+			if (rx < x0 - TILE_MARGIN || rx >= x0 + width + TILE_MARGIN || ry < y0 - TILE_MARGIN || ry >= y0 + height + TILE_MARGIN)
+			{
+				continue;
+			}
+
+			canvasRegions.add(region);
+			if (rx >= x0 && rx < x0 + width && ry >= y0 && ry < y0 + height)
+			{
+				inTile.add(region);
+			}
+		}
+
+		// same passes as the whole map, restricted to the regions which can draw onto the tile
+		for (Region region : inTile)
+		{
+			drawMap(canvas, drawBaseX(region) - originX, drawBaseY(region) - originY, z, region);
+		}
+		for (Region region : canvasRegions)
+		{
+			drawObjects(canvas, drawBaseX(region) - originX, drawBaseY(region) - originY, region, z);
+		}
+		for (Region region : canvasRegions)
+		{
+			drawMapIcons(canvas, drawBaseX(region) - originX, drawBaseY(region) - originY, region, z);
+		}
+		drawMapLabels(canvas, originX, originY, z);
+
+		return canvas.getSubimage(TILE_MARGIN * REGION_PIXELS, TILE_MARGIN * REGION_PIXELS, width * REGION_PIXELS, height * REGION_PIXELS);
+	}
+
+	private int getRegionsX()
+	{
+		return regionLoader.getHighestX().getRegionX() - regionLoader.getLowestX().getRegionX() + 1;
+	}
+
+	private int getRegionsY()
+	{
+		return regionLoader.getHighestY().getRegionY() - regionLoader.getLowestY().getRegionY() + 1;
+	}
+
+	private int drawBaseX(Region region)
+	{
+		// to pixel X
+		return region.getBaseX() - regionLoader.getLowestX().getBaseX();
+	}
+
+	private int drawBaseY(Region region)
+	{
+		// to pixel Y. top most y is 0, but the top most
+		// region has the greatest y, so invert
+		return regionLoader.getHighestY().getBaseY() - region.getBaseY();
+	}
+
+	private int imageType()
+	{
+		return transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+	}
+
 	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
@@ -345,24 +941,6 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMap(BufferedImage image, int z)
-	{
-		for (Region region : regionLoader.getRegions())
-		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawMap(image, drawBaseX, drawBaseY, z, region);
-		}
-	}
-
 	private void drawTile(BufferedImage to, int[][][] planes, Region region, int drawBaseX, int drawBaseY, int z, int x, int y)
 	{
 		int[][] pixels = planes[z];
@@ -1519,24 +2097,6 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawObjects(BufferedImage image, int z)
-	{
-		for (Region region : regionLoader.getRegions())
-		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawObjects(image, drawBaseX, drawBaseY, region, z);
-		}
-	}
-
 	private void drawMapIcons(BufferedImage image, int drawBaseX, int drawBaseY, Region region, int z)
 	{
 		int baseX = region.getBaseX();
@@ -1562,26 +2122,7 @@ public class MapImageDumper
 		graphics.dispose();
 	}
 
-	private void drawMapIcons(BufferedImage image, int z)
-	{
-		// map icons
-		for (Region region : regionLoader.getRegions())
-		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawMapIcons(image, drawBaseX, drawBaseY, region, z);
-		}
-	}
-
-	private void drawMapLabels(BufferedImage image, int z)
+	private void drawMapLabels(BufferedImage image, int originX, int originY, int z)
 	{
 		if (!renderLabels)
 		{
@@ -1615,8 +2156,8 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
+						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX() - originX;
+						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2 - originY;
 						blitGlyph(image,
 							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
 							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
@@ -1778,12 +2319,10 @@ public class MapImageDumper
 
 	private void loadUnderlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.UNDERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.getFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1794,6 +2333,12 @@ public class MapImageDumper
 		}
 	}
 
+	@VisibleForTesting
+	void addUnderlay(UnderlayDefinition underlay)
+	{
+		underlays.put(underlay.getId(), underlay);
+	}
+
 	private UnderlayDefinition findUnderlay(int id)
 	{
 		return underlays.get(id);
@@ -1801,12 +2346,10 @@ public class MapImageDumper
 
 	private void loadOverlays(Store store) throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.getFiles(archive);
 
 		for (FSFile file : files.getFiles())
 		{
@@ -1817,6 +2360,12 @@ public class MapImageDumper
 		}
 	}
 
+	@VisibleForTesting
+	void addOverlay(OverlayDefinition overlay)
+	{
+		overlays.put(overlay.getId(), overlay);
+	}
+
 	private OverlayDefinition findOverlay(int id)
 	{
 		return overlays.get(id);
@@ -1824,10 +2373,9 @@ public class MapImageDumper
 
 	private void loadSprites() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		Archive a = index.findArchiveByName("mapscene");
-		byte[] contents = a.decompress(storage.loadArchive(a));
+		byte[] contents = store.decompress(a);
 
 		SpriteLoader loader = new SpriteLoader();
 		mapDecorations = loader.load(a.getArchiveId(), contents);
@@ -1842,7 +2390,10 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		synchronized (sprite)
+		{
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1904,24 +2455,31 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// glyphs are shared between tiles rendering concurrently, so color copies of them
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
 	}
 }
@@ -27,53 +27,55 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.util.IDClass;
 
 public class NpcManager
 {
 	private final Store store;
-	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private final boolean lazy;
+	private DefinitionTable<NpcDefinition> npcs = new DefinitionTable<>(null);
 
 	public NpcManager(Store store)
+	{
+		this(store, false);
+	}
+
+	/**
+	 * @param store the store to load definitions from
+	 * @param lazy if true, definitions are decoded on first access instead of on load
+	 */
+	public NpcManager(Store store, boolean lazy)
 	{
 		this.store = store;
+		this.lazy = lazy;
 	}
 
 	public void load() throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.NPC.getId());
 
 		loader.configureForRevision(archive.getRevision());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.getFiles(archive);
 
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
-		}
+		npcs = new DefinitionTable<>(loader::load);
+		npcs.load(files, lazy);
 	}
 
 	public Collection<NpcDefinition> getNpcs()
 	{
-		return Collections.unmodifiableCollection(npcs.values());
+		return npcs.getAll();
 	}
 
 	public NpcDefinition get(int npcId)
@@ -85,7 +87,7 @@ public class NpcManager
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : npcs.getAll())
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -94,13 +96,39 @@ public class NpcManager
 		}
 	}
 
+	/**
+	 * Exports only the npcs which were added or changed between the stores
+	 * of the diff, and deletes the exports of removed npcs.
+	 *
+	 * @param out the directory a full export was previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void dump(File out, StoreDiff diff) throws IOException
+	{
+		out.mkdirs();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.NPC.getId()))
+		{
+			File targ = new File(out, change.getFileId() + ".json");
+			if (change.getType() == StoreDiff.ChangeType.REMOVED)
+			{
+				targ.delete();
+				continue;
+			}
+
+			NpcDefinition def = get(change.getFileId());
+			NpcExporter exporter = new NpcExporter(def);
+			exporter.exportTo(targ);
+		}
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : npcs.getAll())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -113,4 +141,27 @@ public class NpcManager
 			}
 		}
 	}
+
+	/**
+	 * Regenerates the id classes if the diff adds, removes or renames an npc. Other
+	 * changes leave the constants as they were, so only the changed npcs are decoded.
+	 *
+	 * @param java the directory the id classes were previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void java(File java, StoreDiff diff) throws IOException
+	{
+		NpcManager previous = new NpcManager(diff.getFrom(), true);
+		previous.load();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.NPC.getId()))
+		{
+			if (change.getType() != StoreDiff.ChangeType.CHANGED
+				|| !previous.get(change.getFileId()).name.equals(get(change.getFileId()).name))
+			{
+				java(java);
+				return;
+			}
+		}
+	}
 }
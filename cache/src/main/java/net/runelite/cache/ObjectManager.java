@@ -27,53 +27,55 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.util.IDClass;
 
 public class ObjectManager
 {
 	private final Store store;
-	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private final boolean lazy;
+	private DefinitionTable<ObjectDefinition> objects = new DefinitionTable<>(null);
 
 	public ObjectManager(Store store)
+	{
+		this(store, false);
+	}
+
+	/**
+	 * @param store the store to load definitions from
+	 * @param lazy if true, definitions are decoded on first access instead of on load
+	 */
+	public ObjectManager(Store store, boolean lazy)
 	{
 		this.store = store;
+		this.lazy = lazy;
 	}
 
 	public void load() throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
 
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
 
 		loader.configureForRevision(archive.getRevision());
 
-		byte[] archiveData = storage.loadArchive(archive);
-		ArchiveFiles files = archive.getFiles(archiveData);
+		ArchiveFiles files = store.getFiles(archive);
 
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		objects = new DefinitionTable<>(loader::load);
+		objects.load(files, lazy);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
 	{
-		return Collections.unmodifiableCollection(objects.values());
+		return objects.getAll();
 	}
 
 	public ObjectDefinition getObject(int id)
@@ -85,7 +87,7 @@ public class ObjectManager
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : objects.getAll())
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -94,13 +96,39 @@ public class ObjectManager
 		}
 	}
 
+	/**
+	 * Exports only the objects which were added or changed between the stores
+	 * of the diff, and deletes the exports of removed objects.
+	 *
+	 * @param out the directory a full export was previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void dump(File out, StoreDiff diff) throws IOException
+	{
+		out.mkdirs();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.OBJECT.getId()))
+		{
+			File targ = new File(out, change.getFileId() + ".json");
+			if (change.getType() == StoreDiff.ChangeType.REMOVED)
+			{
+				targ.delete();
+				continue;
+			}
+
+			ObjectDefinition def = getObject(change.getFileId());
+			ObjectExporter exporter = new ObjectExporter(def);
+			exporter.exportTo(targ);
+		}
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : objects.getAll())
 			{
 				if ("null".equals(def.getName()))
 				{
@@ -113,4 +141,27 @@ public class ObjectManager
 			}
 		}
 	}
+
+	/**
+	 * Regenerates the id classes if the diff adds, removes or renames an object. Other
+	 * changes leave the constants as they were, so only the changed objects are decoded.
+	 *
+	 * @param java the directory the id classes were previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void java(File java, StoreDiff diff) throws IOException
+	{
+		ObjectManager previous = new ObjectManager(diff.getFrom(), true);
+		previous.load();
+
+		for (StoreDiff.FileChange change : diff.diffFiles(IndexType.CONFIGS, ConfigType.OBJECT.getId()))
+		{
+			if (change.getType() != StoreDiff.ChangeType.CHANGED
+				|| !previous.getObject(change.getFileId()).getName().equals(getObject(change.getFileId()).getName()))
+			{
+				java(java);
+				return;
+			}
+		}
+	}
 }
@@ -39,8 +39,8 @@ import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.StoreDiff;
 import net.runelite.cache.util.Djb2;
 
 public class SpriteManager implements SpriteProvider
@@ -56,12 +56,11 @@ public class SpriteManager implements SpriteProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
 		for (Archive a : index.getArchives())
 		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
+			byte[] contents = store.decompress(a);
 
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
@@ -114,17 +113,61 @@ public class SpriteManager implements SpriteProvider
 	{
 		for (SpriteDefinition sprite : sprites.values())
 		{
-			// Some sprites like ones for non-printable font characters do not have sizes
-			if (sprite.getHeight() <= 0 || sprite.getWidth() <= 0)
+			export(outDir, sprite);
+		}
+	}
+
+	/**
+	 * Exports only the sprites whose archives were added or changed between the
+	 * stores of the diff, and deletes the exports of removed sprites. Changed
+	 * sprites are read from the store, so this does not require {@link #load()}.
+	 *
+	 * @param outDir the directory a full export was previously written to
+	 * @param diff the diff between the previously exported store and this store
+	 */
+	public void export(File outDir, StoreDiff diff) throws IOException
+	{
+		Index index = store.getIndex(IndexType.SPRITES);
+		SpriteLoader loader = new SpriteLoader();
+
+		for (StoreDiff.ArchiveChange change : diff.getChanges(IndexType.SPRITES))
+		{
+			// the number of frames may have changed too
+			String prefix = change.getArchive() + "-";
+			File[] frames = outDir.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(".png"));
+			if (frames != null)
+			{
+				for (File frame : frames)
+				{
+					frame.delete();
+				}
+			}
+
+			if (change.getType() == StoreDiff.ChangeType.REMOVED)
 			{
 				continue;
 			}
 
-			SpriteExporter exporter = new SpriteExporter(sprite);
-			File png = new File(outDir, sprite.getId() + "-" + sprite.getFrame() + ".png");
+			Archive a = index.getArchive(change.getArchive());
+			for (SpriteDefinition sprite : loader.load(a.getArchiveId(), store.decompress(a)))
+			{
+				export(outDir, sprite);
+			}
+		}
+	}
 
-			exporter.exportTo(png);
+	private static void export(File outDir, SpriteDefinition sprite) throws IOException
+	{
+		// Some sprites like ones for non-printable font characters do not have sizes
+		if (sprite.getHeight() <= 0 || sprite.getWidth() <= 0)
+		{
+			return;
 		}
+
+		SpriteExporter exporter = new SpriteExporter(sprite);
+		File png = new File(outDir, sprite.getId() + "-" + sprite.getFrame() + ".png");
+
+		exporter.exportTo(png);
 	}
 
 	@Override
@@ -116,7 +116,17 @@ public class Archive
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
 	{
 		byte[] decompressedData = decompress(data, keys);
+		return createFiles(decompressedData);
+	}
 
+	/**
+	 * Split already decompressed archive data into its files
+	 *
+	 * @param decompressedData decompressed archive data
+	 * @return
+	 */
+	public ArchiveFiles createFiles(byte[] decompressedData)
+	{
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
 		{
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Value;
+
+/**
+ * A cache of decompressed archive data, bounded by the total size of the
+ * cached data. Entries are keyed by index, archive and crc, so modified
+ * archives never return stale data.
+ */
+public class ArchiveCache
+{
+	@Value
+	private static class Key
+	{
+		int index;
+		int archive;
+		int crc;
+	}
+
+	private final long maximumSize;
+	private final Cache<Key, byte[]> cache;
+
+	/**
+	 * @param maximumSize maximum total size of the cached archive data, in bytes
+	 */
+	public ArchiveCache(long maximumSize)
+	{
+		this.maximumSize = maximumSize;
+		this.cache = CacheBuilder.newBuilder()
+			.maximumWeight(maximumSize)
+			.<Key, byte[]>weigher((k, v) -> v.length)
+			.recordStats()
+			.build();
+	}
+
+	public long getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	/**
+	 * Get the cached decompressed data of an archive
+	 *
+	 * @param archive
+	 * @return the data, or null if it is not cached
+	 */
+	public byte[] get(Archive archive)
+	{
+		return cache.getIfPresent(key(archive));
+	}
+
+	public void put(Archive archive, byte[] data)
+	{
+		cache.put(key(archive), data);
+	}
+
+	public void invalidateAll()
+	{
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return number of cached archives
+	 */
+	public long size()
+	{
+		return cache.size();
+	}
+
+	public long getHitCount()
+	{
+		return cache.stats().hitCount();
+	}
+
+	public long getMissCount()
+	{
+		return cache.stats().missCount();
+	}
+
+	public long getEvictionCount()
+	{
+		return cache.stats().evictionCount();
+	}
+
+	public CacheStats stats()
+	{
+		return cache.stats();
+	}
+
+	private static Key key(Archive archive)
+	{
+		return new Key(archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc());
+	}
+}
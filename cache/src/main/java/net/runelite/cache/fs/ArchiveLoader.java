@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Loads and decompresses many archives in parallel. Archives are read from
+ * storage and decompressed on the executor, and then handed to the consumer
+ * on the calling thread in the order they were requested. At most
+ * {@code maxPending} archives are loaded ahead of the consumer, which bounds
+ * the memory used when loading large parts of the cache.
+ * <p>
+ * The storage must support concurrent reads, which both {@link net.runelite.cache.fs.jagex.DiskStorage}
+ * and {@link net.runelite.cache.fs.flat.FlatStorage} do.
+ */
+public class ArchiveLoader
+{
+	private final Storage storage;
+	private final Executor executor;
+	private final int maxPending;
+
+	public ArchiveLoader(Storage storage)
+	{
+		this(storage, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() * 2);
+	}
+
+	public ArchiveLoader(Storage storage, Executor executor, int maxPending)
+	{
+		if (maxPending < 1)
+		{
+			throw new IllegalArgumentException("maxPending must be positive");
+		}
+
+		this.storage = storage;
+		this.executor = executor;
+		this.maxPending = maxPending;
+	}
+
+	/**
+	 * Load archives without keys
+	 *
+	 * @param archives archives to load
+	 * @param consumer consumer for the loaded archives
+	 * @throws IOException
+	 */
+	public void load(List<Archive> archives, ArchiveConsumer consumer) throws IOException
+	{
+		load(archives, null, consumer);
+	}
+
+	/**
+	 * Load archives
+	 *
+	 * @param archives archives to load
+	 * @param keys function returning the xtea keys of an archive, may be null if no archives are encrypted
+	 * @param consumer consumer for the loaded archives
+	 * @throws IOException
+	 */
+	public void load(List<Archive> archives, Function<Archive, int[]> keys, ArchiveConsumer consumer) throws IOException
+	{
+		Deque<CompletableFuture<ArchiveFiles>> pending = new ArrayDeque<>(maxPending);
+		int next = 0;
+
+		try
+		{
+			for (Archive archive : archives)
+			{
+				while (next < archives.size() && pending.size() < maxPending)
+				{
+					Archive a = archives.get(next++);
+					pending.add(CompletableFuture.supplyAsync(() -> loadArchive(a, keys == null ? null : keys.apply(a)), executor));
+				}
+
+				ArchiveFiles files;
+				try
+				{
+					files = pending.remove().join();
+				}
+				catch (CompletionException ex)
+				{
+					Throwable cause = ex.getCause();
+					if (cause instanceof UncheckedIOException)
+					{
+						consumer.failed(archive, ((UncheckedIOException) cause).getCause());
+						continue;
+					}
+					if (cause instanceof RuntimeException)
+					{
+						throw (RuntimeException) cause;
+					}
+					throw ex;
+				}
+
+				consumer.accept(archive, files);
+			}
+		}
+		finally
+		{
+			// stop any loads which haven't started yet if the consumer aborted
+			for (CompletableFuture<ArchiveFiles> future : pending)
+			{
+				future.cancel(false);
+			}
+		}
+	}
+
+	private ArchiveFiles loadArchive(Archive archive, int[] keys)
+	{
+		try
+		{
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				return null;
+			}
+
+			return archive.getFiles(data, keys);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
@@ -27,8 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -92,63 +92,68 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		// decryption is done in place, so don't modify the caller's data
+		return decompress(ByteBuffer.wrap(keys == null ? b : b.clone()), keys);
+	}
+
+	/**
+	 * Decompress a container from the remaining bytes of a buffer. The compressed data is
+	 * read directly from the buffer, and if keys are given it is decrypted in place, so the
+	 * buffer must be writable in that case. The buffer's position is not changed.
+	 *
+	 * @param buffer container data
+	 * @param keys xtea keys, or null
+	 * @return
+	 * @throws IOException
+	 */
+	public static Container decompress(ByteBuffer buffer, int[] keys) throws IOException
+	{
+		ByteBuffer b = buffer.slice();
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = b.get(0) & 0xFF;
+		int compressedLength = b.getInt(1);
 		if (compressedLength < 0)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
+		// compressed data is prefixed with the decompressed length
+		int dataLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		if (5 + dataLength > b.limit())
+		{
+			throw new IOException("Container data is truncated");
+		}
+
+		// the crc is of the encrypted data
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		crc32.update(b, 0, 5 + dataLength);
+
+		if (keys != null)
+		{
+			Xtea xtea = new Xtea(keys);
+			xtea.decrypt(b, 5, dataLength);
+		}
 
 		byte[] data;
 		switch (compression)
 		{
 			case CompressionType.NONE:
 			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				data = decryptedData;
-
+				data = new byte[compressedLength];
+				b.position(5);
+				b.get(data);
 				break;
 			}
 			case CompressionType.BZ2:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				InputStream decryptedStream = new InputStream(decryptedData);
-
-				int decompressedLength = decryptedStream.readInt();
-				data = BZip2.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				int decompressedLength = b.getInt(5);
+				data = BZip2.decompress(b, 9, compressedLength, decompressedLength);
 				break;
 			}
 			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				InputStream decryptedStream = new InputStream(decryptedData);
-
-				int decompressedLength = decryptedStream.readInt();
-				data = GZip.decompress(decryptedStream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				int decompressedLength = b.getInt(5);
+				data = GZip.decompress(b, 9, compressedLength, decompressedLength);
 				break;
 			}
 			default:
@@ -156,13 +161,14 @@ public class Container
 		}
 
 		int revision = -1;
-		if (stream.remaining() >= 4)
+		int remaining = b.limit() - 5 - dataLength;
+		if (remaining >= 4)
 		{
-			revision = stream.readInt();
+			revision = b.getInt(5 + dataLength);
 		}
-		else if (stream.remaining() >= 2)
+		else if (remaining >= 2)
 		{
-			revision = stream.readUnsignedShort();
+			revision = b.getShort(5 + dataLength) & 0xFFFF;
 		}
 
 		Container container = new Container(compression, revision);
@@ -171,17 +177,6 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
-	{
-		if (keys == null)
-		{
-			return data;
-		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
-	}
-
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
 	{
 		if (keys == null)
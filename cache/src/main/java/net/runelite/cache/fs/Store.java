@@ -36,8 +36,14 @@ import net.runelite.cache.fs.jagex.DiskStorage;
 @EqualsAndHashCode(of = "indexes")
 public final class Store implements Closeable
 {
+	/**
+	 * default size of the decompressed archive cache, in bytes
+	 */
+	public static final long DEFAULT_ARCHIVE_CACHE_SIZE = 64L * 1024 * 1024;
+
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private ArchiveCache archiveCache = new ArchiveCache(DEFAULT_ARCHIVE_CACHE_SIZE);
 
 	public Store(File folder) throws IOException
 	{
@@ -57,6 +63,107 @@ public final class Store implements Closeable
 		return storage;
 	}
 
+	/**
+	 * Get the cache of decompressed archive data
+	 *
+	 * @return the archive cache, or null if archive caching is disabled
+	 */
+	public ArchiveCache getArchiveCache()
+	{
+		return archiveCache;
+	}
+
+	/**
+	 * Set the maximum size of the decompressed archive cache. This clears the cache.
+	 *
+	 * @param maximumSize maximum size in bytes, or 0 to disable the cache
+	 */
+	public void setArchiveCacheSize(long maximumSize)
+	{
+		archiveCache = maximumSize > 0 ? new ArchiveCache(maximumSize) : null;
+	}
+
+	/**
+	 * Load and decompress an archive, using the archive cache
+	 *
+	 * @param archive archive
+	 * @return the decompressed archive data, or null if the storage has no data for the archive.
+	 * The data is shared with the archive cache and must not be modified.
+	 * @throws IOException
+	 */
+	public byte[] decompress(Archive archive) throws IOException
+	{
+		return decompress(archive, null);
+	}
+
+	/**
+	 * Load and decompress an archive, using the archive cache
+	 *
+	 * @param archive archive
+	 * @param keys xtea keys
+	 * @return the decompressed archive data, or null if the storage has no data for the archive.
+	 * The data is shared with the archive cache and must not be modified.
+	 * @throws IOException
+	 */
+	public byte[] decompress(Archive archive, int[] keys) throws IOException
+	{
+		ArchiveCache cache = archiveCache;
+		if (cache == null)
+		{
+			return archive.decompress(storage.loadArchive(archive), keys);
+		}
+
+		byte[] data = cache.get(archive);
+		if (data == null)
+		{
+			data = archive.decompress(storage.loadArchive(archive), keys);
+			if (data != null)
+			{
+				cache.put(archive, data);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Load the files of an archive, using the archive cache. The returned
+	 * files are not shared and may be modified by the caller.
+	 *
+	 * @param archive archive
+	 * @return the archive files, or null if the storage has no data for the archive
+	 * @throws IOException
+	 */
+	public ArchiveFiles getFiles(Archive archive) throws IOException
+	{
+		return getFiles(archive, null);
+	}
+
+	/**
+	 * Load the files of an archive, using the archive cache. The returned
+	 * files are not shared and may be modified by the caller.
+	 *
+	 * @param archive archive
+	 * @param keys xtea keys
+	 * @return the archive files, or null if the storage has no data for the archive
+	 * @throws IOException
+	 */
+	public ArchiveFiles getFiles(Archive archive, int[] keys) throws IOException
+	{
+		byte[] data = decompress(archive, keys);
+		if (data == null)
+		{
+			return null;
+		}
+
+		if (archive.getFileData().length == 1)
+		{
+			// the single file's contents would otherwise be the cached array
+			data = data.clone();
+		}
+
+		return archive.createFiles(data);
+	}
+
 	@Override
 	public void close() throws IOException
 	{
@@ -95,6 +202,36 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Load and decompress archives in parallel on the common pool.
+	 *
+	 * @param archives archives to load
+	 * @return the files of each archive, in the same order as {@code archives}. Archives which
+	 * have no data are null.
+	 * @throws IOException
+	 * @see ArchiveLoader
+	 */
+	public List<ArchiveFiles> loadArchives(List<Archive> archives) throws IOException
+	{
+		List<ArchiveFiles> files = new ArrayList<>(archives.size());
+		new ArchiveLoader(storage).load(archives, (archive, f) -> files.add(f));
+		return files;
+	}
+
+	/**
+	 * Load and decompress archives in parallel on the common pool, passing each to
+	 * the consumer on the calling thread in the order requested.
+	 *
+	 * @param archives archives to load
+	 * @param consumer archive consumer
+	 * @throws IOException
+	 * @see ArchiveLoader
+	 */
+	public void loadArchives(List<Archive> archives, ArchiveConsumer consumer) throws IOException
+	{
+		new ArchiveLoader(storage).load(archives, consumer);
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
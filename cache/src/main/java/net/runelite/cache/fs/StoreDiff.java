@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import lombok.Value;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.util.Djb2;
+
+/**
+ * The differences between two stores, found by comparing the crc and revision of
+ * their indexes and archives. Used to only reprocess what changed between two
+ * revisions of the cache.
+ */
+public class StoreDiff
+{
+	public enum ChangeType
+	{
+		ADDED,
+		CHANGED,
+		REMOVED
+	}
+
+	@Value
+	public static class ArchiveChange
+	{
+		int index;
+		int archive;
+		ChangeType type;
+	}
+
+	@Value
+	public static class FileChange
+	{
+		int fileId;
+		ChangeType type;
+	}
+
+	@Getter
+	private final Store from;
+	@Getter
+	private final Store to;
+	@Getter
+	private final List<ArchiveChange> changes;
+	private final Map<Integer, List<ArchiveChange>> changesByIndex = new HashMap<>();
+
+	private StoreDiff(Store from, Store to, List<ArchiveChange> changes)
+	{
+		this.from = from;
+		this.to = to;
+		this.changes = Collections.unmodifiableList(changes);
+
+		for (ArchiveChange change : changes)
+		{
+			changesByIndex.computeIfAbsent(change.getIndex(), k -> new ArrayList<>()).add(change);
+		}
+	}
+
+	/**
+	 * Compares two loaded stores.
+	 *
+	 * @param from the older store
+	 * @param to the newer store
+	 * @return the archives added, changed or removed going from the older to the newer store
+	 */
+	public static StoreDiff diff(Store from, Store to)
+	{
+		List<ArchiveChange> changes = new ArrayList<>();
+
+		for (Index toIndex : to.getIndexes())
+		{
+			Index fromIndex = from.findIndex(toIndex.getId());
+			if (fromIndex != null && fromIndex.getCrc() == toIndex.getCrc() && fromIndex.getRevision() == toIndex.getRevision())
+			{
+				continue;
+			}
+
+			diff(fromIndex, toIndex, changes);
+		}
+
+		for (Index fromIndex : from.getIndexes())
+		{
+			if (to.findIndex(fromIndex.getId()) == null)
+			{
+				diff(fromIndex, null, changes);
+			}
+		}
+
+		return new StoreDiff(from, to, changes);
+	}
+
+	private static void diff(Index from, Index to, List<ArchiveChange> changes)
+	{
+		if (to != null)
+		{
+			for (Archive archive : to.getArchives())
+			{
+				Archive old = from != null ? from.getArchive(archive.getArchiveId()) : null;
+				if (old == null)
+				{
+					changes.add(new ArchiveChange(to.getId(), archive.getArchiveId(), ChangeType.ADDED));
+				}
+				else if (old.getCrc() != archive.getCrc() || old.getRevision() != archive.getRevision())
+				{
+					changes.add(new ArchiveChange(to.getId(), archive.getArchiveId(), ChangeType.CHANGED));
+				}
+			}
+		}
+
+		if (from != null)
+		{
+			for (Archive archive : from.getArchives())
+			{
+				if (to == null || to.getArchive(archive.getArchiveId()) == null)
+				{
+					changes.add(new ArchiveChange(from.getId(), archive.getArchiveId(), ChangeType.REMOVED));
+				}
+			}
+		}
+	}
+
+	public boolean isEmpty()
+	{
+		return changes.isEmpty();
+	}
+
+	/**
+	 * Gets the changed archives of an index
+	 */
+	public List<ArchiveChange> getChanges(IndexType index)
+	{
+		return changesByIndex.getOrDefault(index.getNumber(), Collections.emptyList());
+	}
+
+	public boolean isChanged(IndexType index)
+	{
+		return changesByIndex.containsKey(index.getNumber());
+	}
+
+	public ChangeType getChange(IndexType index, int archiveId)
+	{
+		for (ArchiveChange change : getChanges(index))
+		{
+			if (change.getArchive() == archiveId)
+			{
+				return change.getType();
+			}
+		}
+		return null;
+	}
+
+	public boolean isChanged(IndexType index, int archiveId)
+	{
+		return getChange(index, archiveId) != null;
+	}
+
+	/**
+	 * Compares the contents of the files of an archive in both stores. Archives
+	 * which hold many definitions, such as the config archives, change every
+	 * revision, but only a few of their files do.
+	 *
+	 * @param index the index of the archive
+	 * @param archiveId the archive to compare
+	 * @return the files added, changed or removed, in file id order
+	 */
+	public List<FileChange> diffFiles(IndexType index, int archiveId) throws IOException
+	{
+		ChangeType change = getChange(index, archiveId);
+		if (change == null)
+		{
+			return Collections.emptyList();
+		}
+
+		Map<Integer, FSFile> fromFiles = files(from, index, archiveId);
+		Map<Integer, FSFile> toFiles = files(to, index, archiveId);
+
+		Set<Integer> fileIds = new TreeSet<>(fromFiles.keySet());
+		fileIds.addAll(toFiles.keySet());
+
+		List<FileChange> changes = new ArrayList<>();
+		for (int fileId : fileIds)
+		{
+			FSFile fromFile = fromFiles.get(fileId);
+			FSFile toFile = toFiles.get(fileId);
+			if (fromFile == null)
+			{
+				changes.add(new FileChange(fileId, ChangeType.ADDED));
+			}
+			else if (toFile == null)
+			{
+				changes.add(new FileChange(fileId, ChangeType.REMOVED));
+			}
+			else if (!Arrays.equals(fromFile.getContents(), toFile.getContents()))
+			{
+				changes.add(new FileChange(fileId, ChangeType.CHANGED));
+			}
+		}
+		return changes;
+	}
+
+	private static Map<Integer, FSFile> files(Store store, IndexType indexType, int archiveId) throws IOException
+	{
+		Index index = store.getIndex(indexType);
+		Archive archive = index != null ? index.getArchive(archiveId) : null;
+		if (archive == null)
+		{
+			return Collections.emptyMap();
+		}
+
+		Map<Integer, FSFile> files = new HashMap<>();
+		for (FSFile file : store.getFiles(archive).getFiles())
+		{
+			files.put(file.getFileId(), file);
+		}
+		return files;
+	}
+
+	/**
+	 * Gets the ids of the regions whose map or location archive was added, changed or
+	 * removed. The archives are compared without decrypting them, so no xtea keys are
+	 * required.
+	 */
+	public Set<Integer> getChangedRegions()
+	{
+		List<ArchiveChange> mapChanges = getChanges(IndexType.MAPS);
+		if (mapChanges.isEmpty())
+		{
+			return Collections.emptySet();
+		}
+
+		Map<Integer, Integer> regionsByNameHash = new HashMap<>();
+		for (int x = 0; x < 256; ++x)
+		{
+			for (int y = 0; y < 256; ++y)
+			{
+				int regionId = x << 8 | y;
+				regionsByNameHash.put(Djb2.hash("m" + x + "_" + y), regionId);
+				regionsByNameHash.put(Djb2.hash("l" + x + "_" + y), regionId);
+			}
+		}
+
+		Set<Integer> regions = new HashSet<>();
+		for (ArchiveChange change : mapChanges)
+		{
+			Store store = change.getType() == ChangeType.REMOVED ? from : to;
+			Archive archive = store.getIndex(IndexType.MAPS).getArchive(change.getArchive());
+			Integer regionId = regionsByNameHash.get(archive.getNameHash());
+			if (regionId != null)
+			{
+				regions.add(regionId);
+			}
+		}
+		return regions;
+	}
+}
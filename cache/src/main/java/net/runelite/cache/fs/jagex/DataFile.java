@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,25 +40,85 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	/**
+	 * size of each mapped region of the file. This is a multiple of the sector size
+	 * so that a sector never spans two regions.
+	 */
+	private static final int MAP_REGION_SIZE = (Integer.MAX_VALUE / SECTOR_SIZE) * SECTOR_SIZE;
 
 	private final RandomAccessFile dat;
+	private final ByteBuffer[] regions;
+	private final long length;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.regions = null;
+		this.length = -1L;
+	}
+
+	/**
+	 * Open a data file.
+	 *
+	 * @param file the data file
+	 * @param mapped if true, the file is memory mapped read-only. Reads from a
+	 *               mapped data file do not lock and may happen concurrently,
+	 *               however the file can not be written to.
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean mapped) throws IOException
+	{
+		if (!mapped)
+		{
+			this.dat = new RandomAccessFile(file, "rw");
+			this.regions = null;
+			this.length = -1L;
+			return;
+		}
+
+		this.dat = null;
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			this.length = channel.size();
+			this.regions = new ByteBuffer[(int) ((length + MAP_REGION_SIZE - 1) / MAP_REGION_SIZE)];
+
+			for (int i = 0; i < regions.length; ++i)
+			{
+				long position = (long) i * MAP_REGION_SIZE;
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_REGION_SIZE, length - position));
+			}
+		}
+	}
+
+	public boolean isMapped()
+	{
+		return regions != null;
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		dat.close();
+		if (dat != null)
+		{
+			dat.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		dat.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (dat == null)
+		{
+			throw new IOException("data file is mapped read-only");
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +128,96 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (regions != null)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
+			return null;
+		}
+
+		byte[] data = new byte[size];
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			long position = (long) SECTOR_SIZE * sector;
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if (position + headerSize + dataBlockSize > length)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			ByteBuffer region = regions[(int) (position / MAP_REGION_SIZE)];
+			int offset = (int) (position % MAP_REGION_SIZE);
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (archiveId > 0xFFFF)
+			{
+				currentArchive = region.getInt(offset);
+				currentPart = region.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((region.get(offset + 6) & 0xFF) << 16)
+					| (region.getShort(offset + 7) & 0xFFFF);
+				currentIndex = region.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = region.getShort(offset) & 0xFFFF;
+				currentPart = region.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((region.get(offset + 4) & 0xFF) << 16)
+					| (region.getShort(offset + 5) & 0xFFFF);
+				currentIndex = region.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			// the shared region buffer must not have its position changed, so copy through a duplicate
+			ByteBuffer view = region.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -171,6 +322,8 @@ public class DataFile implements Closeable
 
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		checkWritable();
+
 		int sector;
 		int startSector;
 
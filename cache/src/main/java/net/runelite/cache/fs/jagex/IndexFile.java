@@ -29,6 +29,9 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -45,6 +48,7 @@ public class IndexFile implements Closeable
 	private final int indexFileId;
 	private final File file;
 	private final RandomAccessFile idx;
+	private final ByteBuffer map;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
@@ -52,21 +56,78 @@ public class IndexFile implements Closeable
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.map = null;
+	}
+
+	/**
+	 * Open an index file.
+	 *
+	 * @param indexFileId id of the index
+	 * @param file the index file
+	 * @param mapped if true, the file is memory mapped read-only. Reads from a
+	 *               mapped index file do not lock, however the file can not be
+	 *               written to.
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean mapped) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+
+		if (!mapped)
+		{
+			this.idx = new RandomAccessFile(file, "rw");
+			this.map = null;
+			return;
+		}
+
+		this.idx = null;
+
+		if (!file.exists())
+		{
+			// behave like an empty index, as the writable index would after creating the file
+			this.map = ByteBuffer.allocate(0);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			this.map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+		}
+	}
+
+	public boolean isMapped()
+	{
+		return map != null;
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		idx.close();
+		if (idx != null)
+		{
+			idx.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		idx.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (idx == null)
+		{
+			throw new IOException("index file " + indexFileId + " is mapped read-only");
+		}
+	}
+
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		checkWritable();
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -80,7 +141,38 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (map != null)
+		{
+			return readMapped(id);
+		}
+
+		return readFile(id);
+	}
+
+	private IndexEntry readMapped(int id)
+	{
+		int position = id * INDEX_ENTRY_LEN;
+		if (id < 0 || position + INDEX_ENTRY_LEN > map.capacity())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((map.get(position) & 0xFF) << 16) | (map.getShort(position + 1) & 0xFFFF);
+		int sector = ((map.get(position + 3) & 0xFF) << 16) | (map.getShort(position + 4) & 0xFFFF);
+
+		if (length <= 0 || sector <= 0)
+		{
+			logger.debug("invalid length or sector {}/{}", length, sector);
+			return null;
+		}
+
+		return new IndexEntry(this, id, sector, length);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -102,8 +194,16 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	public int getIndexCount() throws IOException
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		if (map != null)
+		{
+			return map.capacity() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
 	}
 }
@@ -25,8 +25,11 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
@@ -35,8 +38,10 @@ import net.runelite.cache.definitions.MapDefinition;
 import net.runelite.cache.definitions.loaders.LocationsLoader;
 import net.runelite.cache.definitions.loaders.MapLoader;
 import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveConsumer;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.ArchiveLoader;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.KeyProvider;
 
@@ -61,23 +66,104 @@ public class RegionLoader
 	}
 
 	public void loadRegions() throws IOException
+	{
+		loadRegions(new ArchiveLoader(store.getStorage()));
+	}
+
+	/**
+	 * Load all regions, decompressing the map archives using the given loader
+	 *
+	 * @param loader
+	 * @throws IOException
+	 */
+	public void loadRegions(ArchiveLoader loader) throws IOException
 	{
 		if (!this.regions.isEmpty())
 		{
 			return;
 		}
 
+		List<Archive> archives = new ArrayList<>();
+		Map<Archive, Integer> regionIds = new IdentityHashMap<>();
+		Map<Archive, int[]> keys = new IdentityHashMap<>();
+		boolean[] hasLocations = new boolean[MAX_REGION];
+
 		for (int i = 0; i < MAX_REGION; ++i)
 		{
-			try
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			Archive map = index.findArchiveByName("m" + x + "_" + y);
+			Archive land = index.findArchiveByName("l" + x + "_" + y);
+
+			assert (map == null) == (land == null);
+
+			if (map == null || land == null)
 			{
-				this.loadRegionFromArchive(i);
+				continue;
 			}
-			catch (IOException ex)
+
+			archives.add(map);
+			regionIds.put(map, i);
+
+			int[] key = keyProvider.getKey(i);
+			if (key != null)
 			{
-				log.debug("Can't decrypt region " + i, ex);
+				archives.add(land);
+				regionIds.put(land, i);
+				keys.put(land, key);
+				hasLocations[i] = true;
 			}
 		}
+
+		// archives are consumed in order, so a region's land archive directly follows its map archive
+		loader.load(archives, keys::get, new ArchiveConsumer()
+		{
+			private Region region;
+
+			@Override
+			public void accept(Archive archive, ArchiveFiles files)
+			{
+				int i = regionIds.get(archive);
+				int x = i >> 8;
+				int y = i & 0xFF;
+
+				if (files == null)
+				{
+					region = null;
+					return;
+				}
+
+				byte[] data = files.getFiles().iterator().next().getContents();
+
+				if (!keys.containsKey(archive))
+				{
+					MapDefinition mapDef = new MapLoader().load(x, y, data);
+
+					region = new Region(i);
+					region.loadTerrain(mapDef);
+
+					if (!hasLocations[i])
+					{
+						regions.put(i, region);
+					}
+				}
+				else if (region != null && region.getRegionID() == i)
+				{
+					LocationsDefinition locDef = new LocationsLoader().load(x, y, data);
+					region.loadLocations(locDef);
+
+					regions.put(i, region);
+				}
+			}
+
+			@Override
+			public void failed(Archive archive, IOException ex)
+			{
+				log.debug("Can't decrypt region " + regionIds.get(archive), ex);
+				region = null;
+			}
+		});
 	}
 
 	public Region loadRegionFromArchive(int i) throws IOException
@@ -85,7 +171,6 @@ public class RegionLoader
 		int x = i >> 8;
 		int y = i & 0xFF;
 
-		Storage storage = store.getStorage();
 		Archive map = index.findArchiveByName("m" + x + "_" + y);
 		Archive land = index.findArchiveByName("l" + x + "_" + y);
 
@@ -96,7 +181,7 @@ public class RegionLoader
 			return null;
 		}
 
-		byte[] data = map.decompress(storage.loadArchive(map));
+		byte[] data = store.decompress(map);
 
 		MapDefinition mapDef = new MapLoader().load(x, y, data);
 
@@ -106,7 +191,7 @@ public class RegionLoader
 		int[] keys = keyProvider.getKey(i);
 		if (keys != null)
 		{
-			data = land.decompress(storage.loadArchive(land), keys);
+			data = store.decompress(land, keys);
 			LocationsDefinition locDef = new LocationsLoader().load(x, y, data);
 			region.loadLocations(locDef);
 		}
@@ -30,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -41,6 +42,8 @@ public class BZip2
 {
 	private static final boolean USE_NATIVE_BZIP2 = "true".equalsIgnoreCase(System.getProperty("runelite.useNativeBzip"));
 
+	private static final ThreadLocal<BZip2Decompressor> DECOMPRESSOR = ThreadLocal.withInitial(BZip2Decompressor::new);
+
 	private static final byte[] BZIP_HEADER = new byte[]
 	{
 		'B', 'Z', // magic
@@ -142,4 +145,58 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress headerless bzip2 data of a known decompressed length
+	 *
+	 * @param bytes compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param decompressedLength decompressed length
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		return decompress(ByteBuffer.wrap(bytes), off, len, decompressedLength);
+	}
+
+	/**
+	 * Decompress headerless bzip2 data of a known decompressed length from a buffer
+	 *
+	 * @param buffer compressed data
+	 * @param off offset of the compressed data in the buffer
+	 * @param len length of the compressed data
+	 * @param decompressedLength decompressed length
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] decompress(ByteBuffer buffer, int off, int len, int decompressedLength) throws IOException
+	{
+		// check the stream looks valid before allocating, as the length is garbage if the data was decrypted with the wrong keys
+		if (decompressedLength < 0 || !BZip2Decompressor.hasValidMagic(buffer, off, len))
+		{
+			throw new IOException("invalid bzip2 data");
+		}
+
+		byte[] out = new byte[decompressedLength];
+		DECOMPRESSOR.get().decompress(buffer, off, len, out, 0, decompressedLength);
+		return out;
+	}
+
+	/**
+	 * Decompress headerless bzip2 data of a known decompressed length into an existing array
+	 *
+	 * @param bytes compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output array
+	 * @param outOff offset in the output array
+	 * @param decompressedLength decompressed length
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] bytes, int off, int len, byte[] out, int outOff, int decompressedLength) throws IOException
+	{
+		DECOMPRESSOR.get().decompress(bytes, off, len, out, outOff, decompressedLength);
+	}
 }
@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A bzip2 decompressor for headerless bzip2 streams, as stored in the cache.
+ * Data is decompressed directly into a caller supplied array of the known
+ * decompressed length, and the decompressor reuses its internal tables
+ * between calls. Instances are not thread safe.
+ */
+public class BZip2Decompressor
+{
+	private static final long BLOCK_MAGIC = 0x314159265359L;
+	private static final long EOS_MAGIC = 0x177245385090L;
+
+	private static final int MAX_BLOCK_SIZE = 900_000;
+	private static final int MAX_GROUPS = 6;
+	private static final int MAX_ALPHA_SIZE = 258;
+	private static final int MAX_CODE_LEN = 23;
+	private static final int MAX_SELECTORS = 18002;
+	private static final int GROUP_SIZE = 50;
+	private static final int RUNA = 0;
+	private static final int RUNB = 1;
+
+	private static final int[] CRC_TABLE = new int[256];
+
+	static
+	{
+		for (int i = 0; i < 256; ++i)
+		{
+			int c = i << 24;
+			for (int j = 0; j < 8; ++j)
+			{
+				c = (c & 0x80000000) != 0 ? (c << 1) ^ 0x04c11db7 : c << 1;
+			}
+			CRC_TABLE[i] = c;
+		}
+	}
+
+	// input
+	private ByteBuffer in;
+	private int inPos;
+	private int inEnd;
+	private long bitBuffer;
+	private int bitCount;
+
+	// output
+	private byte[] out;
+	private int outPos;
+	private int outEnd;
+
+	// block state
+	private int[] tt = new int[100_000]; // enough for block size 1, which the cache uses
+	private final int[] unzftab = new int[256];
+	private final int[] cftab = new int[257];
+	private final byte[] seqToUnseq = new byte[256];
+	private final byte[] mtf = new byte[256];
+	private final byte[] selectorMtf = new byte[MAX_SELECTORS];
+	private final byte[] selector = new byte[MAX_SELECTORS];
+	private final byte[][] length = new byte[MAX_GROUPS][MAX_ALPHA_SIZE];
+	private final int[][] limit = new int[MAX_GROUPS][MAX_CODE_LEN];
+	private final int[][] base = new int[MAX_GROUPS][MAX_CODE_LEN];
+	private final int[][] perm = new int[MAX_GROUPS][MAX_ALPHA_SIZE];
+	private final int[] minLens = new int[MAX_GROUPS];
+	private final byte[] pos = new byte[MAX_GROUPS];
+
+	/**
+	 * Decompress a headerless bzip2 stream
+	 *
+	 * @param in compressed data
+	 * @param inOff offset of the compressed data
+	 * @param inLen length of the compressed data
+	 * @param out output array
+	 * @param outOff offset to decompress to
+	 * @param outLen expected decompressed length
+	 * @throws IOException if the data is corrupt or does not decompress to exactly {@code outLen} bytes
+	 */
+	public void decompress(byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen) throws IOException
+	{
+		decompress(ByteBuffer.wrap(in), inOff, inLen, out, outOff, outLen);
+	}
+
+	/**
+	 * Decompress a headerless bzip2 stream from a buffer. The buffer's position is not changed.
+	 *
+	 * @param in compressed data
+	 * @param inOff offset of the compressed data in the buffer
+	 * @param inLen length of the compressed data
+	 * @param out output array
+	 * @param outOff offset to decompress to
+	 * @param outLen expected decompressed length
+	 * @throws IOException if the data is corrupt or does not decompress to exactly {@code outLen} bytes
+	 */
+	public void decompress(ByteBuffer in, int inOff, int inLen, byte[] out, int outOff, int outLen) throws IOException
+	{
+		this.in = in;
+		this.inPos = inOff;
+		this.inEnd = inOff + inLen;
+		this.bitBuffer = 0;
+		this.bitCount = 0;
+		this.out = out;
+		this.outPos = outOff;
+		this.outEnd = outOff + outLen;
+
+		try
+		{
+			int combinedCrc = 0;
+			for (;;)
+			{
+				long magic = ((long) getBits(24) << 24) | getBits(24);
+				int crc = getBits(16) << 16 | getBits(16);
+
+				if (magic == EOS_MAGIC)
+				{
+					if (crc != combinedCrc)
+					{
+						throw new IOException("bzip2 stream crc mismatch");
+					}
+					break;
+				}
+				if (magic != BLOCK_MAGIC)
+				{
+					throw new IOException("bad bzip2 block magic");
+				}
+
+				int blockCrc = decodeBlock();
+				if (blockCrc != crc)
+				{
+					throw new IOException("bzip2 block crc mismatch");
+				}
+
+				combinedCrc = ((combinedCrc << 1) | (combinedCrc >>> 31)) ^ blockCrc;
+			}
+
+			if (outPos != outEnd)
+			{
+				throw new IOException("bzip2 stream decompressed to " + (outPos - outOff) + " bytes, expected " + outLen);
+			}
+		}
+		finally
+		{
+			this.in = null;
+			this.out = null;
+		}
+	}
+
+	/**
+	 * Check if data begins with a bzip2 block or end of stream marker
+	 *
+	 * @param in data
+	 * @param off offset
+	 * @param len length
+	 * @return
+	 */
+	public static boolean hasValidMagic(ByteBuffer in, int off, int len)
+	{
+		if (len < 6)
+		{
+			return false;
+		}
+
+		long magic = 0;
+		for (int i = 0; i < 6; ++i)
+		{
+			magic = (magic << 8) | (in.get(off + i) & 0xFF);
+		}
+		return magic == BLOCK_MAGIC || magic == EOS_MAGIC;
+	}
+
+	private int getBits(int n) throws IOException
+	{
+		if (bitCount < n)
+		{
+			fill();
+			if (bitCount < n)
+			{
+				throw new IOException("unexpected end of bzip2 stream");
+			}
+		}
+
+		bitCount -= n;
+		return (int) (bitBuffer >>> bitCount) & ((1 << n) - 1);
+	}
+
+	private int getBit() throws IOException
+	{
+		return getBits(1);
+	}
+
+	/**
+	 * Fill the bit buffer with as many whole bytes as fit
+	 */
+	private void fill()
+	{
+		while (bitCount <= 56 && inPos < inEnd)
+		{
+			bitBuffer = (bitBuffer << 8) | (in.get(inPos++) & 0xFF);
+			bitCount += 8;
+		}
+	}
+
+	/**
+	 * Decode a huffman symbol. The longest code is peeked at once and the
+	 * code length found from the limit table, rather than reading a bit at a time.
+	 */
+	private int getSymbol(int[] limit, int[] base, int[] perm, int minLen) throws IOException
+	{
+		if (bitCount < 20)
+		{
+			fill();
+		}
+
+		// pad with zeros past the end of the stream, overreading is detected below
+		int bits = bitCount >= 20
+			? (int) (bitBuffer >>> (bitCount - 20)) & 0xFFFFF
+			: (int) (bitBuffer << (20 - bitCount)) & 0xFFFFF;
+
+		int zn = minLen;
+		int zvec = bits >>> (20 - zn);
+		while (zvec > limit[zn])
+		{
+			if (++zn > 20)
+			{
+				throw new IOException("bad bzip2 huffman code");
+			}
+			zvec = bits >>> (20 - zn);
+		}
+
+		if (zn > bitCount)
+		{
+			throw new IOException("unexpected end of bzip2 stream");
+		}
+		bitCount -= zn;
+
+		int idx = zvec - base[zn];
+		if (idx < 0 || idx >= MAX_ALPHA_SIZE)
+		{
+			throw new IOException("bad bzip2 huffman code");
+		}
+		return perm[idx];
+	}
+
+	/**
+	 * Decode a block and write it to the output
+	 *
+	 * @return crc of the block
+	 * @throws IOException
+	 */
+	private int decodeBlock() throws IOException
+	{
+		if (getBit() != 0)
+		{
+			throw new IOException("randomised bzip2 blocks are not supported");
+		}
+
+		int origPtr = getBits(24);
+
+		// symbol map
+		int nInUse = 0;
+		int inUse16 = getBits(16);
+		for (int i = 0; i < 16; ++i)
+		{
+			if ((inUse16 & (0x8000 >>> i)) != 0)
+			{
+				int inUse = getBits(16);
+				for (int j = 0; j < 16; ++j)
+				{
+					if ((inUse & (0x8000 >>> j)) != 0)
+					{
+						seqToUnseq[nInUse++] = (byte) (i * 16 + j);
+					}
+				}
+			}
+		}
+
+		if (nInUse == 0)
+		{
+			throw new IOException("bzip2 block uses no symbols");
+		}
+
+		int alphaSize = nInUse + 2;
+
+		// selectors
+		int nGroups = getBits(3);
+		if (nGroups < 2 || nGroups > MAX_GROUPS)
+		{
+			throw new IOException("bad number of bzip2 huffman groups: " + nGroups);
+		}
+
+		int nSelectors = getBits(15);
+		if (nSelectors < 1)
+		{
+			throw new IOException("bad number of bzip2 selectors");
+		}
+
+		for (int i = 0; i < nSelectors; ++i)
+		{
+			int j = 0;
+			while (getBit() != 0)
+			{
+				if (++j >= nGroups)
+				{
+					throw new IOException("bad bzip2 selector");
+				}
+			}
+
+			// libbzip2 ignores selectors past the maximum
+			if (i < MAX_SELECTORS)
+			{
+				selectorMtf[i] = (byte) j;
+			}
+		}
+
+		nSelectors = Math.min(nSelectors, MAX_SELECTORS);
+
+		for (int i = 0; i < nGroups; ++i)
+		{
+			pos[i] = (byte) i;
+		}
+
+		for (int i = 0; i < nSelectors; ++i)
+		{
+			int v = selectorMtf[i];
+			byte tmp = pos[v];
+			while (v > 0)
+			{
+				pos[v] = pos[v - 1];
+				--v;
+			}
+			pos[0] = tmp;
+			selector[i] = tmp;
+		}
+
+		// huffman tables
+		for (int t = 0; t < nGroups; ++t)
+		{
+			byte[] len = length[t];
+			int curr = getBits(5);
+			int minLen = 32, maxLen = 0;
+			for (int i = 0; i < alphaSize; ++i)
+			{
+				for (;;)
+				{
+					if (curr < 1 || curr > 20)
+					{
+						throw new IOException("bad bzip2 code length");
+					}
+					if (getBit() == 0)
+					{
+						break;
+					}
+					curr += getBit() == 0 ? 1 : -1;
+				}
+
+				len[i] = (byte) curr;
+				minLen = Math.min(minLen, curr);
+				maxLen = Math.max(maxLen, curr);
+			}
+
+			createDecodeTables(limit[t], base[t], perm[t], len, minLen, maxLen, alphaSize);
+			minLens[t] = minLen;
+		}
+
+		// huffman, rle2, mtf decode
+		int eob = nInUse + 1;
+		int nblock = 0;
+
+		Arrays.fill(unzftab, 0);
+		for (int i = 0; i < 256; ++i)
+		{
+			mtf[i] = (byte) i;
+		}
+
+		int groupNo = -1;
+		int groupPos = 0;
+		int[] gLimit = null, gBase = null, gPerm = null;
+		int gMinLen = 0;
+
+		int es = -1;
+		int n = 1;
+
+		for (;;)
+		{
+			if (groupPos == 0)
+			{
+				if (++groupNo >= nSelectors)
+				{
+					throw new IOException("bzip2 selector overflow");
+				}
+				groupPos = GROUP_SIZE;
+				int g = selector[groupNo];
+				gLimit = limit[g];
+				gBase = base[g];
+				gPerm = perm[g];
+				gMinLen = minLens[g];
+			}
+			--groupPos;
+
+			int sym = getSymbol(gLimit, gBase, gPerm, gMinLen);
+
+			if (sym == RUNA || sym == RUNB)
+			{
+				if (n >= 2 * 1024 * 1024)
+				{
+					throw new IOException("bzip2 run too long");
+				}
+				es += (sym + 1) * n;
+				n <<= 1;
+				continue;
+			}
+
+			if (es >= 0)
+			{
+				// end of a run of the front symbol
+				++es;
+				int uc = seqToUnseq[mtf[0] & 0xFF] & 0xFF;
+				unzftab[uc] += es;
+				ensureBlockCapacity(nblock + es);
+				Arrays.fill(tt, nblock, nblock + es, uc);
+				nblock += es;
+
+				es = -1;
+				n = 1;
+			}
+
+			if (sym == eob)
+			{
+				break;
+			}
+
+			int nn = sym - 1;
+			byte uc = mtf[nn];
+			System.arraycopy(mtf, 0, mtf, 1, nn);
+			mtf[0] = uc;
+
+			int b = seqToUnseq[uc & 0xFF] & 0xFF;
+			++unzftab[b];
+			ensureBlockCapacity(nblock + 1);
+			tt[nblock++] = b;
+		}
+
+		if (origPtr < 0 || origPtr >= nblock)
+		{
+			throw new IOException("bad bzip2 origPtr");
+		}
+
+		// inverse bwt
+		cftab[0] = 0;
+		for (int i = 1; i <= 256; ++i)
+		{
+			cftab[i] = cftab[i - 1] + unzftab[i - 1];
+		}
+
+		int[] tt = this.tt;
+		for (int i = 0; i < nblock; ++i)
+		{
+			int uc = tt[i] & 0xFF;
+			tt[cftab[uc]++] |= i << 8;
+		}
+
+		// output, undoing the initial run length encoding
+		byte[] out = this.out;
+		int outPos = this.outPos;
+		int outEnd = this.outEnd;
+		int crc = 0xFFFFFFFF;
+		int tPos = tt[origPtr] >>> 8;
+		int last = -1;
+		int runLength = 0;
+
+		for (int i = 0; i < nblock; ++i)
+		{
+			tPos = tt[tPos];
+			int ch = tPos & 0xFF;
+			tPos >>>= 8;
+
+			if (runLength == 4)
+			{
+				if (outPos + ch > outEnd)
+				{
+					throw new IOException("bzip2 stream decompresses to more than the expected length");
+				}
+
+				for (int j = 0; j < ch; ++j)
+				{
+					out[outPos++] = (byte) last;
+					crc = (crc << 8) ^ CRC_TABLE[(crc >>> 24) ^ last];
+				}
+				runLength = 0;
+				continue;
+			}
+
+			if (ch == last)
+			{
+				++runLength;
+			}
+			else
+			{
+				last = ch;
+				runLength = 1;
+			}
+
+			if (outPos >= outEnd)
+			{
+				throw new IOException("bzip2 stream decompresses to more than the expected length");
+			}
+
+			out[outPos++] = (byte) ch;
+			crc = (crc << 8) ^ CRC_TABLE[(crc >>> 24) ^ ch];
+		}
+
+		this.outPos = outPos;
+		return ~crc;
+	}
+
+	private void ensureBlockCapacity(int size) throws IOException
+	{
+		if (size > tt.length)
+		{
+			if (size > MAX_BLOCK_SIZE)
+			{
+				throw new IOException("bzip2 block too large");
+			}
+
+			tt = Arrays.copyOf(tt, Math.max(size, Math.min(tt.length * 2, MAX_BLOCK_SIZE)));
+		}
+	}
+
+	private static void createDecodeTables(int[] limit, int[] base, int[] perm, byte[] length, int minLen, int maxLen, int alphaSize)
+	{
+		int pp = 0;
+		for (int i = minLen; i <= maxLen; ++i)
+		{
+			for (int j = 0; j < alphaSize; ++j)
+			{
+				if (length[j] == i)
+				{
+					perm[pp++] = j;
+				}
+			}
+		}
+
+		Arrays.fill(base, 0);
+		for (int i = 0; i < alphaSize; ++i)
+		{
+			++base[length[i] + 1];
+		}
+
+		for (int i = 1; i < MAX_CODE_LEN; ++i)
+		{
+			base[i] += base[i - 1];
+		}
+
+		Arrays.fill(limit, 0);
+		int vec = 0;
+		for (int i = minLen; i <= maxLen; ++i)
+		{
+			vec += base[i + 1] - base[i];
+			limit[i] = vec - 1;
+			vec <<= 1;
+		}
+
+		for (int i = minLen + 1; i <= maxLen; ++i)
+		{
+			base[i] = ((limit[i - 1] + 1) << 1) - base[i];
+		}
+	}
+}
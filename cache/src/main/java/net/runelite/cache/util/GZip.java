@@ -30,11 +30,24 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
 public class GZip
 {
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -61,4 +74,107 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress gzip data of a known decompressed length from a buffer, without
+	 * copying the compressed data. The buffer's position is not changed.
+	 *
+	 * @param buffer compressed data
+	 * @param off offset of the compressed data in the buffer
+	 * @param len length of the compressed data
+	 * @param decompressedLength decompressed length
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] decompress(ByteBuffer buffer, int off, int len, int decompressedLength) throws IOException
+	{
+		if (decompressedLength < 0)
+		{
+			throw new IOException("invalid gzip data");
+		}
+
+		ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		in.limit(off + len);
+		in.position(off);
+
+		try
+		{
+			if (in.getShort() != (short) 0x8b1f || in.get() != 8)
+			{
+				throw new IOException("invalid gzip header");
+			}
+
+			int flags = in.get() & 0xFF;
+			in.position(in.position() + 6); // mtime, xfl, os
+
+			if ((flags & FEXTRA) != 0)
+			{
+				int xlen = in.getShort() & 0xFFFF;
+				in.position(in.position() + xlen);
+			}
+			if ((flags & FNAME) != 0)
+			{
+				skipString(in);
+			}
+			if ((flags & FCOMMENT) != 0)
+			{
+				skipString(in);
+			}
+			if ((flags & FHCRC) != 0)
+			{
+				in.getShort();
+			}
+
+			byte[] out = new byte[decompressedLength];
+
+			Inflater inflater = INFLATER.get();
+			inflater.reset();
+			inflater.setInput(in);
+
+			int n = 0;
+			while (!inflater.finished())
+			{
+				int r = inflater.inflate(out, n, decompressedLength - n);
+				if (r == 0 && !inflater.finished())
+				{
+					// the output is full, or the stream is truncated
+					throw new IOException("gzip data does not decompress to " + decompressedLength + " bytes");
+				}
+				n += r;
+			}
+
+			if (n != decompressedLength)
+			{
+				throw new IOException("gzip data decompressed to " + n + " bytes, expected " + decompressedLength);
+			}
+
+			// the inflater advances the input buffer past the deflate data
+			CRC32 crc32 = new CRC32();
+			crc32.update(out, 0, n);
+			if (in.getInt() != (int) crc32.getValue() || in.getInt() != n)
+			{
+				throw new IOException("gzip trailer mismatch");
+			}
+
+			return out;
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+		catch (BufferUnderflowException | IllegalArgumentException ex)
+		{
+			throw new IOException("truncated gzip data", ex);
+		}
+	}
+
+	private static void skipString(ByteBuffer in)
+	{
+		byte b;
+		do
+		{
+			b = in.get();
+		}
+		while (b != 0);
+	}
 }
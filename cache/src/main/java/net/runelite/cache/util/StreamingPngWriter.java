@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a PNG image a row at a time, so that images too large to be held
+ * in memory can be encoded as they are produced.
+ */
+public class StreamingPngWriter implements Closeable
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int IDAT_SIZE = 1 << 16;
+	private static final int FILTER_SUB = 1;
+
+	private final DataOutputStream out;
+	private final int width;
+	private final int height;
+	private final boolean alpha;
+	private final int bytesPerPixel;
+
+	private final ChunkOutputStream idat;
+	private final Deflater def;
+	private final DeflaterOutputStream deflater;
+	private final byte[] scanline;
+	private final int[] argb;
+	private int rows;
+
+	public StreamingPngWriter(OutputStream out, int width, int height, boolean alpha) throws IOException
+	{
+		if (width <= 0 || height <= 0)
+		{
+			throw new IllegalArgumentException("invalid dimensions " + width + "x" + height);
+		}
+
+		this.out = new DataOutputStream(out);
+		this.width = width;
+		this.height = height;
+		this.alpha = alpha;
+		this.bytesPerPixel = alpha ? 4 : 3;
+		this.scanline = new byte[1 + width * bytesPerPixel];
+		this.argb = new int[width];
+
+		this.out.write(SIGNATURE);
+
+		ByteArrayOutputStream ihdr = new ByteArrayOutputStream(13);
+		DataOutputStream data = new DataOutputStream(ihdr);
+		data.writeInt(width);
+		data.writeInt(height);
+		data.writeByte(8); // bit depth
+		data.writeByte(alpha ? 6 : 2); // truecolor, with or without alpha
+		data.writeByte(0); // deflate
+		data.writeByte(0); // adaptive filtering
+		data.writeByte(0); // no interlace
+		writeChunk("IHDR", ihdr.toByteArray(), ihdr.size());
+
+		idat = new ChunkOutputStream();
+		def = new Deflater(Deflater.DEFAULT_COMPRESSION);
+		deflater = new DeflaterOutputStream(idat, def, IDAT_SIZE);
+	}
+
+	/**
+	 * Writes the next row of the image.
+	 *
+	 * @param pixels argb pixels of the row
+	 * @param off offset of the first pixel of the row
+	 */
+	public void writeRow(int[] pixels, int off) throws IOException
+	{
+		if (rows == height)
+		{
+			throw new IOException("all " + height + " rows have already been written");
+		}
+
+		int pos = 1;
+		for (int i = 0; i < width; ++i)
+		{
+			int p = pixels[off + i];
+			scanline[pos++] = (byte) (p >> 16);
+			scanline[pos++] = (byte) (p >> 8);
+			scanline[pos++] = (byte) p;
+			if (alpha)
+			{
+				scanline[pos++] = (byte) (p >>> 24);
+			}
+		}
+
+		// the sub filter stores each byte as the difference to the same byte of the previous pixel,
+		// which compresses the long runs of the same color in map images well
+		scanline[0] = FILTER_SUB;
+		for (int i = scanline.length - 1; i > bytesPerPixel; --i)
+		{
+			scanline[i] -= scanline[i - bytesPerPixel];
+		}
+
+		deflater.write(scanline);
+		++rows;
+	}
+
+	/**
+	 * Writes every row of the image as the next rows of the png.
+	 *
+	 * @param image image with the same width as the png
+	 */
+	public void writeRows(BufferedImage image) throws IOException
+	{
+		if (image.getWidth() != width)
+		{
+			throw new IllegalArgumentException("image width " + image.getWidth() + " does not match " + width);
+		}
+
+		for (int y = 0; y < image.getHeight(); ++y)
+		{
+			image.getRGB(0, y, width, 1, argb, 0, width);
+			writeRow(argb, 0);
+		}
+	}
+
+	public int getRowsWritten()
+	{
+		return rows;
+	}
+
+	/**
+	 * Finishes the image and closes the underlying stream.
+	 *
+	 * @throws IOException if not every row of the image has been written
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		try
+		{
+			if (rows != height)
+			{
+				throw new IOException("only " + rows + " of " + height + " rows were written");
+			}
+
+			deflater.finish();
+			idat.flushChunk();
+			writeChunk("IEND", new byte[0], 0);
+			out.flush();
+		}
+		finally
+		{
+			def.end();
+			out.close();
+		}
+	}
+
+	private void writeChunk(String type, byte[] data, int len) throws IOException
+	{
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, len);
+
+		out.writeInt(len);
+		out.write(typeBytes);
+		out.write(data, 0, len);
+		out.writeInt((int) crc.getValue());
+	}
+
+	/**
+	 * Buffers the compressed image data and writes it out as IDAT chunks
+	 */
+	private class ChunkOutputStream extends OutputStream
+	{
+		private final byte[] buffer = new byte[IDAT_SIZE];
+		private int size;
+
+		@Override
+		public void write(int b) throws IOException
+		{
+			if (size == buffer.length)
+			{
+				flushChunk();
+			}
+			buffer[size++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException
+		{
+			while (len > 0)
+			{
+				if (size == buffer.length)
+				{
+					flushChunk();
+				}
+
+				int n = Math.min(len, buffer.length - size);
+				System.arraycopy(b, off, buffer, size, n);
+				size += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		void flushChunk() throws IOException
+		{
+			if (size > 0)
+			{
+				writeChunk("IDAT", buffer, size);
+				size = 0;
+			}
+		}
+	}
+}
@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.util;
 
+import java.nio.ByteBuffer;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 
@@ -85,4 +86,31 @@ public class Xtea
 		out.writeBytes(in.getRemaining());
 		return out.flip();
 	}
+
+	/**
+	 * Decrypt data in place. Trailing bytes which do not form a whole block are left as is.
+	 *
+	 * @param buffer buffer
+	 * @param offset offset of the data in the buffer
+	 * @param len length of the data
+	 */
+	public void decrypt(ByteBuffer buffer, int offset, int len)
+	{
+		int numBlocks = len / 8;
+		for (int block = 0; block < numBlocks; ++block)
+		{
+			int pos = offset + block * 8;
+			int v0 = buffer.getInt(pos);
+			int v1 = buffer.getInt(pos + 4);
+			int sum = GOLDEN_RATIO * ROUNDS;
+			for (int i = 0; i < ROUNDS; ++i)
+			{
+				v1 -= (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
+				sum -= GOLDEN_RATIO;
+				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
+			}
+			buffer.putInt(pos, v0);
+			buffer.putInt(pos + 4, v1);
+		}
+	}
 }
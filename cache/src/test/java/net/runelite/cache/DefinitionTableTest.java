@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class DefinitionTableTest
+{
+	private final List<Integer> decoded = new ArrayList<>();
+
+	private String decode(int id, byte[] data)
+	{
+		decoded.add(id);
+		return id + ":" + data.length;
+	}
+
+	private static ArchiveFiles files(int... ids)
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int id : ids)
+		{
+			FSFile file = new FSFile(id);
+			file.setContents(new byte[id]);
+			files.addFile(file);
+		}
+		return files;
+	}
+
+	@Test
+	public void testEager()
+	{
+		DefinitionTable<String> table = new DefinitionTable<>(this::decode);
+		table.load(files(0, 2, 5), false);
+
+		assertEquals(Arrays.asList(0, 2, 5), decoded);
+		assertEquals("2:2", table.get(2));
+		assertNull(table.get(1));
+		assertNull(table.get(6));
+		assertNull(table.get(-1));
+		assertEquals(Arrays.asList("0:0", "2:2", "5:5"), table.getAll());
+	}
+
+	@Test
+	public void testLazy()
+	{
+		DefinitionTable<String> table = new DefinitionTable<>(this::decode);
+		table.load(files(0, 2, 5), true);
+
+		assertEquals(0, decoded.size());
+		assertEquals("5:5", table.get(5));
+		assertEquals("5:5", table.get(5));
+		assertNull(table.get(3));
+		assertEquals(Arrays.asList(5), decoded);
+
+		assertEquals(Arrays.asList("0:0", "2:2", "5:5"), table.getAll());
+		assertEquals(Arrays.asList(5, 0, 2), decoded);
+		assertEquals("0:0", table.get(0));
+		assertEquals(3, decoded.size());
+	}
+}
@@ -25,8 +25,11 @@
 package net.runelite.cache;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
@@ -75,6 +78,60 @@ public class MapImageDumperTest
 		}
 	}
 
+	@Test
+	@Ignore
+	public void dumpMapStreaming() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				File imageFile = new File(outDir, "img-" + i + ".png");
+
+				long start = System.nanoTime();
+				try (OutputStream out = new BufferedOutputStream(new FileOutputStream(imageFile)))
+				{
+					dumper.writeMap(i, out);
+				}
+				logger.info("Wrote image {} in {}ms", imageFile, (System.nanoTime() - start) / 1_000_000L);
+			}
+		}
+	}
+
+	@Test
+	@Ignore
+	public void dumpMapTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			File tileDir = new File(outDir, "tiles-0");
+			dumper.writeMapTiles(0, tileDir, 4);
+			logger.info("Wrote tiles {}", tileDir);
+		}
+	}
+
 	@Test
 	@Ignore
 	public void dumpRegions() throws Exception
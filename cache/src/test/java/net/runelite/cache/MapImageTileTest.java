@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.OverlayDefinition;
+import net.runelite.cache.definitions.UnderlayDefinition;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Renders a small synthetic map, which unlike the other map tests does not need a cache,
+ * and checks rendering in tiles matches rendering the map in one piece.
+ */
+public class MapImageTileTest
+{
+	private static final int REGIONS_X = 3;
+	private static final int REGIONS_Y = 2;
+	private static final int WALL = 1;
+	private static final int DOOR = 2;
+	private static final int LARGE_WALL = 3;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private MapImageDumper dumper;
+
+	@Before
+	public void before() throws IOException
+	{
+		Store store = new Store(folder.newFolder());
+		RegionLoader regionLoader = new RegionLoader(store, null);
+		Random random = new Random(42);
+		for (int rx = 0; rx < REGIONS_X; ++rx)
+		{
+			for (int ry = 0; ry < REGIONS_Y; ++ry)
+			{
+				int regionX = 50 + rx;
+				int regionY = 50 + ry;
+				regionLoader.loadRegion(regionX << 8 | regionY, map(random, regionX, regionY), locations(random, regionX, regionY));
+			}
+		}
+		regionLoader.calculateBounds();
+
+		ObjectManager objectManager = new ObjectManager(store)
+		{
+			@Override
+			public ObjectDefinition getObject(int id)
+			{
+				ObjectDefinition object = new ObjectDefinition();
+				object.setId(id);
+				object.setWallOrDoor(id == DOOR ? 1 : 0);
+				// larger than a map square, so walls on the edge of a region draw into the next
+				object.setSizeY(id == LARGE_WALL ? 3 : 1);
+				return object;
+			}
+		};
+
+		dumper = new MapImageDumper(store, regionLoader, objectManager);
+		dumper.setLowMemory(false);
+		// icons and labels come from sprites and fonts, which a synthetic map does not have
+		dumper.setRenderIcons(false);
+		dumper.setRenderLabels(false);
+
+		// tiles refer to these as id + 1, with 0 for none
+		for (int id = 0; id < 4; ++id)
+		{
+			UnderlayDefinition underlay = new UnderlayDefinition();
+			underlay.setId(id);
+			underlay.setColor(random.nextInt(0xFFFFFF));
+			underlay.calculateHsl();
+			dumper.addUnderlay(underlay);
+
+			OverlayDefinition overlay = new OverlayDefinition();
+			overlay.setId(id);
+			overlay.setRgbColor(random.nextInt(0xFFFFFF));
+			overlay.calculateHsl();
+			dumper.addOverlay(overlay);
+		}
+	}
+
+	@Test
+	public void testTilesMatchWholeMap() throws IOException
+	{
+		for (int z = 0; z < 2; ++z)
+		{
+			// the map is smaller than a tile, so this draws every region onto one canvas, as the map was drawn before tiling
+			BufferedImage whole = dumper.drawMap(z);
+			assertImageEquals(whole, drawTiles(z, 1, whole));
+			assertImageEquals(whole, drawTiles(z, 2, whole));
+		}
+	}
+
+	@Test
+	public void testWriteMap() throws IOException
+	{
+		BufferedImage image = dumper.drawMap(0);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		dumper.writeMap(0, out);
+		BufferedImage written = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+
+		assertImageEquals(image, written);
+	}
+
+	@Test
+	public void testWriteMapTilesIgnoresStaleTiles() throws IOException
+	{
+		File outDir = folder.newFolder();
+		File levelDir = new File(outDir, "0");
+		levelDir.mkdirs();
+
+		// a region east of the map, left over from a previous dump
+		BufferedImage stale = new BufferedImage(256, 256, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < stale.getHeight(); ++y)
+		{
+			for (int x = 0; x < stale.getWidth(); ++x)
+			{
+				stale.setRGB(x, y, 0xFF0000);
+			}
+		}
+		File staleFile = new File(levelDir, "53_50.png");
+		ImageIO.write(stale, "png", staleFile);
+
+		dumper.writeMapTiles(0, outDir, 2);
+
+		assertFalse(staleFile.exists());
+		assertTrue(new File(levelDir, "52_50.png").exists());
+
+		// 26_25 covers regions 52 and 53 by 50 and 51, so it is half empty
+		BufferedImage parent = ImageIO.read(new File(outDir, "1/26_25.png"));
+		assertEquals(0, parent.getRGB(parent.getWidth() * 3 / 4, parent.getHeight() * 3 / 4) & 0xFFFFFF);
+	}
+
+	private BufferedImage drawTiles(int z, int tileRegions, BufferedImage whole) throws IOException
+	{
+		BufferedImage image = new BufferedImage(whole.getWidth(), whole.getHeight(), BufferedImage.TYPE_INT_RGB);
+		dumper.drawMapTiles(z, tileRegions, tile -> true, (x, y, tile) -> image.getRaster().setRect(x, y, tile.getRaster()));
+		return image;
+	}
+
+	private static void assertImageEquals(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		for (int y = 0; y < expected.getHeight(); ++y)
+		{
+			for (int x = 0; x < expected.getWidth(); ++x)
+			{
+				assertEquals("pixel " + x + "," + y, expected.getRGB(x, y) & 0xFFFFFF, actual.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+
+	private static MapDefinition map(Random random, int regionX, int regionY)
+	{
+		MapDefinition map = new MapDefinition();
+		map.setRegionX(regionX);
+		map.setRegionY(regionY);
+		MapDefinition.Tile[][][] tiles = map.getTiles();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					MapDefinition.Tile tile = new MapDefinition.Tile();
+					tile.setHeight(random.nextInt(4) == 0 ? random.nextInt(40) : null);
+					tile.setUnderlayId((short) (1 + random.nextInt(4)));
+					if (random.nextInt(3) == 0)
+					{
+						tile.setOverlayId((short) (1 + random.nextInt(4)));
+						tile.setOverlayPath((byte) random.nextInt(12));
+						tile.setOverlayRotation((byte) random.nextInt(4));
+					}
+					tiles[z][x][y] = tile;
+				}
+			}
+		}
+		return map;
+	}
+
+	private static LocationsDefinition locations(Random random, int regionX, int regionY)
+	{
+		LocationsDefinition locs = new LocationsDefinition();
+		locs.setRegionX(regionX);
+		locs.setRegionY(regionY);
+		for (int i = 0; i < 200; ++i)
+		{
+			// favour the region edges, where objects overlap neighbouring regions and tiles
+			int x = random.nextBoolean() ? random.nextInt(Region.X) : (random.nextBoolean() ? 0 : Region.X - 1);
+			int y = random.nextBoolean() ? random.nextInt(Region.Y) : (random.nextBoolean() ? 0 : Region.Y - 1);
+			int id = 1 + random.nextInt(3);
+			locs.getLocations().add(new Location(id, random.nextInt(4), random.nextInt(4), new Position(x, y, random.nextInt(2))));
+		}
+		return locs;
+	}
+}
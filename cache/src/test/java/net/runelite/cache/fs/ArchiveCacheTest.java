@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private File createStore() throws IOException
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				Container container = new Container(CompressionType.GZ, -1);
+				container.compress(new byte[1000 * (i + 1)], null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+		return file;
+	}
+
+	@Test
+	public void testHitMiss() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore())))
+		{
+			store.load();
+
+			ArchiveCache cache = store.getArchiveCache();
+			Archive archive = store.findIndex(0).getArchive(0);
+
+			byte[] data = store.decompress(archive);
+			assertEquals(1000, data.length);
+			assertEquals(0, cache.getHitCount());
+			assertEquals(1, cache.getMissCount());
+
+			assertSame(data, store.decompress(archive));
+			assertEquals(1, cache.getHitCount());
+
+			// the files of single file archives must not share the cached data
+			ArchiveFiles files = store.getFiles(archive);
+			files.findFile(0).getContents()[0] = 42;
+			assertEquals(0, store.decompress(archive)[0]);
+			assertEquals(3, cache.getHitCount());
+		}
+	}
+
+	@Test
+	public void testEviction() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore())))
+		{
+			store.load();
+			store.setArchiveCacheSize(3500);
+
+			ArchiveCache cache = store.getArchiveCache();
+			Index index = store.findIndex(0);
+			for (Archive archive : index.getArchives())
+			{
+				store.decompress(archive);
+			}
+
+			assertEquals(4, cache.getMissCount());
+			assertTrue(cache.getEvictionCount() > 0);
+
+			int cached = 0;
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = cache.get(archive);
+				if (data != null)
+				{
+					cached += data.length;
+				}
+			}
+			assertTrue(cached <= 3500);
+		}
+	}
+
+	@Test
+	public void testCrcChange() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore())))
+		{
+			store.load();
+
+			ArchiveCache cache = store.getArchiveCache();
+			Archive archive = store.findIndex(0).getArchive(1);
+			store.decompress(archive);
+
+			int crc = archive.getCrc();
+			archive.setCrc(crc + 1);
+			assertNull(cache.get(archive));
+
+			archive.setCrc(crc);
+			assertEquals(2000, cache.get(archive).length);
+		}
+	}
+
+	@Test
+	public void testDisabled() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore())))
+		{
+			store.load();
+			store.setArchiveCacheSize(0);
+
+			assertNull(store.getArchiveCache());
+			assertEquals(3000, store.decompress(store.findIndex(0).getArchive(2)).length);
+		}
+	}
+}
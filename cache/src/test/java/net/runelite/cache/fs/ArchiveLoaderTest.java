@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveLoaderTest
+{
+	private static final int ARCHIVES = 100;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private File createStore() throws IOException
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				Container container = new Container(CompressionType.BZ2, -1);
+				container.compress(data(i), null);
+				archive.setCrc(container.crc);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			// archive with no data
+			index.addArchive(ARCHIVES).setFileData(new FileData[]{new FileData()});
+
+			store.save();
+		}
+		return file;
+	}
+
+	private static byte[] data(int archive)
+	{
+		return ("archive " + archive).getBytes();
+	}
+
+	@Test
+	public void testLoad() throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(createStore(), true)))
+		{
+			store.load();
+
+			List<Archive> archives = store.findIndex(0).getArchives();
+			List<Archive> loaded = new ArrayList<>();
+			List<ArchiveFiles> files = new ArrayList<>();
+
+			ArchiveLoader loader = new ArchiveLoader(store.getStorage(), executor, 3);
+			loader.load(archives, (archive, f) ->
+			{
+				loaded.add(archive);
+				files.add(f);
+			});
+
+			assertEquals(archives, loaded);
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				assertSame(archives.get(i), loaded.get(i));
+				assertArrayEquals(data(i), files.get(i).getFiles().iterator().next().getContents());
+			}
+			assertNull(files.get(ARCHIVES));
+
+			List<ArchiveFiles> files2 = store.loadArchives(archives);
+			assertEquals(archives.size(), files2.size());
+			for (int i = 0; i < ARCHIVES; ++i)
+			{
+				assertArrayEquals(data(i), files2.get(i).getFiles().iterator().next().getContents());
+			}
+			assertNull(files2.get(ARCHIVES));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testFailed() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore(), true)))
+		{
+			store.load();
+
+			List<Archive> archives = store.findIndex(0).getArchives();
+			archives.get(42).setCrc(0);
+
+			List<Archive> failed = new ArrayList<>();
+			int[] count = new int[1];
+			store.loadArchives(archives, new ArchiveConsumer()
+			{
+				@Override
+				public void accept(Archive archive, ArchiveFiles files)
+				{
+					++count[0];
+				}
+
+				@Override
+				public void failed(Archive archive, IOException ex)
+				{
+					failed.add(archive);
+				}
+			});
+
+			assertEquals(ARCHIVES, count[0]);
+			assertEquals(1, failed.size());
+			assertSame(archives.get(42), failed.get(0));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testFailedRethrows() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(createStore(), true)))
+		{
+			store.load();
+
+			List<Archive> archives = store.findIndex(0).getArchives();
+			archives.get(42).setCrc(0);
+
+			store.loadArchives(archives);
+		}
+	}
+}
@@ -25,9 +25,13 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +56,42 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, 42);
+			container.compress(data, keys);
+			byte[] compressedData = container.data.clone();
+
+			// decompressing an array must not modify it
+			Container container2 = Container.decompress(container.data, keys);
+			assertArrayEquals(compressedData, container.data);
+			assertArrayEquals(data, container2.data);
+
+			// from the middle of a direct buffer
+			ByteBuffer buffer = ByteBuffer.allocateDirect(compressedData.length + 16);
+			buffer.position(8);
+			buffer.put(compressedData);
+			buffer.flip();
+			buffer.position(8);
+
+			Container container3 = Container.decompress(buffer, keys);
+			assertEquals(8, buffer.position());
+			assertArrayEquals(data, container3.data);
+			assertEquals(container.crc, container3.crc);
+			assertEquals(42, container3.revision);
+			assertEquals(compression, container3.compression);
+		}
+	}
+
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.StoreDiff.ArchiveChange;
+import net.runelite.cache.fs.StoreDiff.ChangeType;
+import net.runelite.cache.fs.StoreDiff.FileChange;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private static void addArchive(Store store, IndexType type, int archiveId, int nameHash, String... files) throws IOException
+	{
+		Index index = store.getIndex(type);
+		if (index == null)
+		{
+			index = store.addIndex(type.getNumber());
+		}
+
+		Archive archive = index.addArchive(archiveId);
+		archive.setNameHash(nameHash);
+
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		FileData[] fileData = new FileData[files.length];
+		for (int i = 0; i < files.length; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+
+			FSFile file = new FSFile(i);
+			file.setContents(files[i].getBytes());
+			archiveFiles.addFile(file);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(archiveFiles.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private File oldStore() throws IOException
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(file))
+		{
+			addArchive(store, IndexType.CONFIGS, ConfigType.ITEM.getId(), 0, "a", "b", "c");
+			addArchive(store, IndexType.CONFIGS, ConfigType.NPC.getId(), 0, "npc");
+			addArchive(store, IndexType.SPRITES, 6, 0, "removed");
+			addArchive(store, IndexType.SPRITES, 7, 0, "unchanged");
+			addArchive(store, IndexType.MAPS, 0, Djb2.hash("m50_50"), "map");
+			store.save();
+		}
+		return file;
+	}
+
+	private File newStore() throws IOException
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(file))
+		{
+			addArchive(store, IndexType.CONFIGS, ConfigType.ITEM.getId(), 0, "a", "changed", "c", "added");
+			addArchive(store, IndexType.CONFIGS, ConfigType.NPC.getId(), 0, "npc");
+			addArchive(store, IndexType.SPRITES, 5, 0, "added");
+			addArchive(store, IndexType.SPRITES, 7, 0, "unchanged");
+			addArchive(store, IndexType.MAPS, 0, Djb2.hash("m50_50"), "changed map");
+			store.save();
+		}
+		return file;
+	}
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		try (Store from = new Store(oldStore());
+			Store to = new Store(newStore()))
+		{
+			from.load();
+			to.load();
+
+			StoreDiff diff = StoreDiff.diff(from, to);
+
+			assertEquals(Collections.singletonList(new ArchiveChange(IndexType.CONFIGS.getNumber(), ConfigType.ITEM.getId(), ChangeType.CHANGED)),
+				diff.getChanges(IndexType.CONFIGS));
+			assertTrue(diff.getChanges(IndexType.SPRITES).containsAll(Arrays.asList(
+				new ArchiveChange(IndexType.SPRITES.getNumber(), 5, ChangeType.ADDED),
+				new ArchiveChange(IndexType.SPRITES.getNumber(), 6, ChangeType.REMOVED))));
+			assertEquals(2, diff.getChanges(IndexType.SPRITES).size());
+			assertFalse(diff.isChanged(IndexType.SPRITES, 7));
+			assertFalse(diff.isChanged(IndexType.MODELS));
+
+			assertEquals(Arrays.asList(new FileChange(1, ChangeType.CHANGED), new FileChange(3, ChangeType.ADDED)),
+				diff.diffFiles(IndexType.CONFIGS, ConfigType.ITEM.getId()));
+			assertEquals(Collections.emptyList(), diff.diffFiles(IndexType.CONFIGS, ConfigType.NPC.getId()));
+
+			assertEquals(Collections.singleton(50 << 8 | 50), diff.getChangedRegions());
+		}
+	}
+
+	@Test
+	public void testSame() throws IOException
+	{
+		File file = oldStore();
+		try (Store from = new Store(file);
+			Store to = new Store(file))
+		{
+			from.load();
+			to.load();
+
+			assertTrue(StoreDiff.diff(from, to).isEmpty());
+		}
+	}
+
+	@Test
+	public void testRemovedFiles() throws IOException
+	{
+		try (Store from = new Store(newStore());
+			Store to = new Store(oldStore()))
+		{
+			from.load();
+			to.load();
+
+			StoreDiff diff = StoreDiff.diff(from, to);
+			assertEquals(Arrays.asList(new FileChange(1, ChangeType.CHANGED), new FileChange(3, ChangeType.REMOVED)),
+				diff.diffFiles(IndexType.CONFIGS, ConfigType.ITEM.getId()));
+		}
+	}
+}
@@ -167,4 +167,46 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+
+		DataFile df = new DataFile(file);
+
+		Container container = new Container(CompressionType.NONE, 42);
+		container.compress(b, null);
+		DataFileWriteResult res = df.write(42, 3, container.data);
+
+		Container container2 = new Container(CompressionType.GZ, 42);
+		container2.compress(b, null);
+		DataFileWriteResult res2 = df.write(42, 0x1FFFF, container2.data);
+		df.close();
+
+		DataFile mapped = new DataFile(file, true);
+		Assert.assertTrue(mapped.isMapped());
+
+		Container res3 = Container.decompress(mapped.read(42, 3, res.sector, res.compressedLength), null);
+		Assert.assertArrayEquals(b, res3.data);
+
+		Container res4 = Container.decompress(mapped.read(42, 0x1FFFF, res2.sector, res2.compressedLength), null);
+		Assert.assertArrayEquals(b, res4.data);
+
+		// wrong archive
+		Assert.assertNull(mapped.read(42, 4, res.sector, res.compressedLength));
+	}
+
+	@Test(expected = IOException.class)
+	public void testMappedWrite() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile(), true);
+		df.write(42, 3, new byte[10]);
+	}
 }
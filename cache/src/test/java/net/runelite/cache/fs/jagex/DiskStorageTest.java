@@ -25,19 +25,28 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
+import org.junit.Ignore;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DiskStorageTest
 {
+	private static final Logger logger = LoggerFactory.getLogger(DiskStorageTest.class);
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -101,4 +110,100 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testMapped() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 64; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				byte[] data = new byte[i * 100];
+				for (int j = 0; j < data.length; ++j)
+				{
+					data[j] = (byte) (i + j);
+				}
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(data, null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		storage = new DiskStorage(file, true);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			assertEquals(64, index.getArchives().size());
+
+			DiskStorage mapped = storage;
+			index.getArchives().parallelStream().forEach(archive ->
+			{
+				try
+				{
+					byte[] data = archive.decompress(mapped.loadArchive(archive));
+					assertEquals(archive.getArchiveId() * 100, data.length);
+					for (int j = 0; j < data.length; ++j)
+					{
+						assertEquals((byte) (archive.getArchiveId() + j), data[j]);
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkLoad() throws Exception
+	{
+		for (int i = 0; i < 3; ++i)
+		{
+			logger.info("file: {}ms, mapped: {}ms, mapped (parallel): {}ms",
+				loadAll(false, false), loadAll(true, false), loadAll(true, true));
+		}
+	}
+
+	private static long loadAll(boolean mapped, boolean parallel) throws IOException
+	{
+		long start = System.nanoTime();
+
+		DiskStorage storage = new DiskStorage(StoreLocation.LOCATION, mapped);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			List<Archive> archives = new ArrayList<>();
+			for (Index index : store.getIndexes())
+			{
+				archives.addAll(index.getArchives());
+			}
+
+			(parallel ? archives.parallelStream() : archives.stream()).forEach(archive ->
+			{
+				try
+				{
+					storage.loadArchive(archive);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+
+		return (System.nanoTime() - start) / 1_000_000L;
+	}
 }
@@ -47,4 +47,20 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		File file = folder.newFile();
+		IndexFile index = new IndexFile(5, file);
+		IndexEntry entry = new IndexEntry(index, 7, 8, 0x10203);
+		index.write(entry);
+		index.close();
+
+		IndexFile mapped = new IndexFile(5, file, true);
+		Assert.assertEquals(8, mapped.getIndexCount());
+		Assert.assertEquals(new IndexEntry(mapped, 7, 8, 0x10203), mapped.read(7));
+		Assert.assertNull(mapped.read(6));
+		Assert.assertNull(mapped.read(8));
+	}
 }
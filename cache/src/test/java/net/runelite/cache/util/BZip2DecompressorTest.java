@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.io.InputStream;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BZip2DecompressorTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(BZip2DecompressorTest.class);
+
+	private static void roundtrip(byte[] data) throws IOException
+	{
+		byte[] compressed = BZip2.compressApache(data);
+		assertArrayEquals(data, BZip2.decompress(compressed, 0, compressed.length, data.length));
+	}
+
+	@Test
+	public void testSmall() throws IOException
+	{
+		roundtrip("runelite".getBytes());
+	}
+
+	@Test
+	public void testEmpty() throws IOException
+	{
+		roundtrip(new byte[0]);
+	}
+
+	@Test
+	public void testRandom() throws IOException
+	{
+		byte[] data = new byte[64 * 1024];
+		new Random(42).nextBytes(data);
+		roundtrip(data);
+	}
+
+	@Test
+	public void testRuns() throws IOException
+	{
+		// runs exercise both run length encodings
+		Random random = new Random(42);
+		byte[] data = new byte[64 * 1024];
+		for (int i = 0; i < data.length; )
+		{
+			int len = Math.min(random.nextInt(600), data.length - i);
+			byte b = (byte) random.nextInt(4);
+			for (int j = 0; j < len; ++j)
+			{
+				data[i++] = b;
+			}
+		}
+		roundtrip(data);
+		roundtrip(new byte[100_000]);
+	}
+
+	@Test
+	public void testMultipleBlocks() throws IOException
+	{
+		byte[] data = new byte[512 * 1024];
+		Random random = new Random(42);
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = (byte) random.nextInt(16);
+		}
+		roundtrip(data);
+	}
+
+	@Test
+	public void testOffset() throws IOException
+	{
+		byte[] data = "testtesttesttesttest".getBytes();
+		byte[] compressed = BZip2.compressApache(data);
+
+		byte[] in = new byte[compressed.length + 10];
+		System.arraycopy(compressed, 0, in, 7, compressed.length);
+
+		byte[] out = new byte[data.length + 3];
+		BZip2.decompress(in, 7, compressed.length, out, 3, data.length);
+
+		byte[] expected = new byte[data.length + 3];
+		System.arraycopy(data, 0, expected, 3, data.length);
+		assertArrayEquals(expected, out);
+	}
+
+	@Test(expected = IOException.class)
+	public void testWrongLength() throws IOException
+	{
+		byte[] data = "runelite".getBytes();
+		byte[] compressed = BZip2.compressApache(data);
+		BZip2.decompress(compressed, 0, compressed.length, data.length + 1);
+	}
+
+	@Test(expected = IOException.class)
+	public void testCorrupt() throws IOException
+	{
+		byte[] data = new byte[1024];
+		new Random(42).nextBytes(data);
+		byte[] compressed = BZip2.compressApache(data);
+		compressed[compressed.length / 2] ^= 0x55;
+		BZip2.decompress(compressed, 0, compressed.length, data.length);
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncated() throws IOException
+	{
+		byte[] data = new byte[1024];
+		new Random(42).nextBytes(data);
+		byte[] compressed = BZip2.compressApache(data);
+		BZip2.decompress(compressed, 0, compressed.length / 2, data.length);
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		List<byte[]> archives = new ArrayList<>();
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			for (Index index : store.getIndexes())
+			{
+				if (index.getId() == IndexType.MAPS.getNumber())
+				{
+					// location archives are encrypted
+					continue;
+				}
+
+				for (Archive archive : index.getArchives())
+				{
+					byte[] data = store.getStorage().loadArchive(archive);
+					if (data != null && data[0] == CompressionType.BZ2)
+					{
+						archives.add(data);
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < 5; ++i)
+		{
+			long start = System.nanoTime();
+			for (byte[] data : archives)
+			{
+				InputStream is = new InputStream(data);
+				is.skip(1);
+				int compressedLength = is.readInt();
+				is.readInt();
+
+				byte[] compressed = new byte[compressedLength];
+				is.readBytes(compressed);
+				BZip2.decompress(compressed, compressedLength);
+			}
+			long apache = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (byte[] data : archives)
+			{
+				InputStream is = new InputStream(data);
+				is.skip(1);
+				int compressedLength = is.readInt();
+				int decompressedLength = is.readInt();
+
+				BZip2.decompress(data, 9, compressedLength, decompressedLength);
+			}
+			long decompressor = System.nanoTime() - start;
+
+			logger.info("{} archives, commons-compress: {}ms, BZip2Decompressor: {}ms",
+				archives.size(), apache / 1_000_000L, decompressor / 1_000_000L);
+		}
+	}
+}
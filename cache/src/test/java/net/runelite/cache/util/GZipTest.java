@@ -25,8 +25,10 @@
 package net.runelite.cache.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import java.util.zip.Deflater;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
@@ -53,4 +55,25 @@ public class GZipTest
 		};
 		assertArrayEquals(header, Arrays.copyOfRange(data, 0, header.length));
 	}
+
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		byte[] data = new byte[10000];
+		new Random(42).nextBytes(data);
+		byte[] compressed = GZip.compress(data);
+
+		ByteBuffer buffer = ByteBuffer.allocate(compressed.length + 3);
+		buffer.position(3);
+		buffer.put(compressed);
+
+		assertArrayEquals(data, GZip.decompress(buffer, 3, compressed.length, data.length));
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressBufferWrongLength() throws IOException
+	{
+		byte[] compressed = GZip.compress("data".getBytes(StandardCharsets.UTF_8));
+		GZip.decompress(ByteBuffer.wrap(compressed), 0, compressed.length, 3);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class StreamingPngWriterTest
+{
+	private static BufferedImage image(int type)
+	{
+		Random random = new Random(42L);
+		BufferedImage image = new BufferedImage(67, 31, type);
+		for (int y = 0; y < image.getHeight(); ++y)
+		{
+			for (int x = 0; x < image.getWidth(); ++x)
+			{
+				// runs of the same color with some noise, like a map
+				int argb = x < 20 ? 0xFF336699 : random.nextInt();
+				image.setRGB(x, y, argb);
+			}
+		}
+		return image;
+	}
+
+	private static void assertImageEquals(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		for (int y = 0; y < expected.getHeight(); ++y)
+		{
+			for (int x = 0; x < expected.getWidth(); ++x)
+			{
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testRgb() throws IOException
+	{
+		BufferedImage image = image(BufferedImage.TYPE_INT_RGB);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (StreamingPngWriter png = new StreamingPngWriter(out, image.getWidth(), image.getHeight(), false))
+		{
+			png.writeRows(image.getSubimage(0, 0, image.getWidth(), 10));
+			png.writeRows(image.getSubimage(0, 10, image.getWidth(), image.getHeight() - 10));
+		}
+
+		assertImageEquals(image, ImageIO.read(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test
+	public void testArgb() throws IOException
+	{
+		BufferedImage image = image(BufferedImage.TYPE_INT_ARGB);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (StreamingPngWriter png = new StreamingPngWriter(out, image.getWidth(), image.getHeight(), true))
+		{
+			png.writeRows(image);
+		}
+
+		assertImageEquals(image, ImageIO.read(new ByteArrayInputStream(out.toByteArray())));
+	}
+
+	@Test(expected = IOException.class)
+	public void testIncomplete() throws IOException
+	{
+		try (StreamingPngWriter png = new StreamingPngWriter(new ByteArrayOutputStream(), 4, 4, false))
+		{
+			png.writeRow(new int[4], 0);
+		}
+	}
+}
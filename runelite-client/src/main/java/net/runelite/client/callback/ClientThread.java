@@ -24,31 +24,78 @@
  */
 package net.runelite.client.callback;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 
+/**
+ * Runs tasks on the client thread. Queued tasks are run once per frame, high priority tasks first.
+ * Normal and low priority tasks stop being run once a frame has spent its time budget on them, and the
+ * remaining tasks are run on the following frames. Part of the budget is kept for low priority tasks,
+ * so they still make progress while normal tasks are backed up. Tasks which repeatedly defer themselves
+ * are retried less and less often.
+ */
 @Singleton
 @Slf4j
 public class ClientThread
 {
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	private static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+	/**
+	 * Fraction of the budget which normal priority tasks leave for low priority tasks
+	 */
+	private static final int LOW_PRIORITY_SHARE = 4;
+	/**
+	 * Number of times a task may defer itself before being retried less often
+	 */
+	private static final int BACKOFF_THRESHOLD = 64;
+	/**
+	 * A task backing off is retried at least once every 2^MAX_BACKOFF_SHIFT frames
+	 */
+	private static final int MAX_BACKOFF_SHIFT = 4;
+
+	private static final ClassValue<String> SUBMITTERS = new ClassValue<>()
+	{
+		@Override
+		protected String computeValue(Class<?> type)
+		{
+			return submitterName(type);
+		}
+	};
+
+	private final Map<TaskPriority, ConcurrentLinkedQueue<Task>> invokes = new EnumMap<>(TaskPriority.class);
+	private final ConcurrentLinkedQueue<Task> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	private final Map<String, TaskStats> stats = new ConcurrentHashMap<>();
+
+	@Setter(AccessLevel.PACKAGE)
+	private long budgetNanos = DEFAULT_BUDGET_NANOS;
 
 	@Inject
 	private Client client;
 
-	public void invoke(Runnable r)
+	public ClientThread()
 	{
-		invoke(() ->
+		for (TaskPriority priority : TaskPriority.values())
 		{
-			r.run();
-			return true;
-		});
+			invokes.put(priority, new ConcurrentLinkedQueue<>());
+		}
+	}
+
+	public void invoke(Runnable r)
+	{
+		invoke(wrap(r), r.getClass());
 	}
 
 	/**
@@ -56,17 +103,23 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(r, r.getClass());
+	}
+
+	private void invoke(BooleanSupplier r, Class<?> source)
 	{
 		if (client.isClientThread())
 		{
-			if (!r.getAsBoolean())
+			Task task = new Task(r, statsFor(source));
+			if (!run(task, System.nanoTime()))
 			{
-				invokes.add(r);
+				invokes.get(TaskPriority.NORMAL).add(task);
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokes.get(TaskPriority.NORMAL).add(new Task(r, statsFor(source)));
 	}
 
 	/**
@@ -75,65 +128,192 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokeLater(r, TaskPriority.NORMAL);
+	}
+
+	public void invokeLater(Runnable r, TaskPriority priority)
+	{
+		invokes.get(priority).add(new Task(wrap(r), statsFor(r.getClass())));
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(r, TaskPriority.NORMAL);
+	}
+
+	public void invokeLater(BooleanSupplier r, TaskPriority priority)
+	{
+		invokes.get(priority).add(new Task(r, statsFor(r.getClass())));
 	}
 
 	public void invokeAtTickEnd(Runnable r)
 	{
-		invokesAtTickEnd.add(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokesAtTickEnd.add(new Task(wrap(r), statsFor(r.getClass())));
 	}
 
 	void invoke()
 	{
-		invokeList(invokes);
+		assert client.isClientThread();
+		runTasks(invokes.get(TaskPriority.HIGH), Long.MAX_VALUE);
+
+		// the budget starts after the high priority tasks, so that other tasks still make progress
+		final long deadline = System.nanoTime() + budgetNanos;
+		// low priority tasks get whatever normal tasks leave of the budget, and always run at least one task
+		runTasks(invokes.get(TaskPriority.NORMAL), deadline - budgetNanos / LOW_PRIORITY_SHARE);
+		runTasks(invokes.get(TaskPriority.LOW), deadline);
 	}
 
 	void invokeTickEnd()
 	{
-		invokeList(invokesAtTickEnd);
+		assert client.isClientThread();
+		runTasks(invokesAtTickEnd, Long.MAX_VALUE);
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	/**
+	 * Run the tasks of a queue in order, until the deadline passes. At least one task is run.
+	 */
+	private void runTasks(ConcurrentLinkedQueue<Task> tasks, long deadline)
 	{
-		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+		Iterator<Task> ir = tasks.iterator();
+		long now = System.nanoTime();
 		while (ir.hasNext())
 		{
-			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
-			{
-				remove = r.getAsBoolean();
-			}
-			catch (ThreadDeath d)
+			Task task = ir.next();
+			if (task.backoff > 0)
 			{
-				throw d;
+				--task.backoff;
+				continue;
 			}
-			catch (Throwable e)
+
+			if (run(task, now))
 			{
-				log.error("Exception in invoke", e);
+				ir.remove();
 			}
-			if (remove)
+
+			now = System.nanoTime();
+			if (now >= deadline)
 			{
-				ir.remove();
+				return;
 			}
-			else
+		}
+	}
+
+	/**
+	 * @return true if the task is complete, false if it deferred itself
+	 */
+	private static boolean run(Task task, long start)
+	{
+		boolean remove = true;
+		try
+		{
+			remove = task.supplier.getAsBoolean();
+		}
+		catch (ThreadDeath d)
+		{
+			throw d;
+		}
+		catch (Throwable e)
+		{
+			log.error("Exception in invoke", e);
+		}
+
+		long end = System.nanoTime();
+		if (remove)
+		{
+			task.stats.recordCompleted(end - start, end - task.queued);
+			return true;
+		}
+
+		task.stats.recordDeferred(end - start);
+		if (++task.deferrals >= BACKOFF_THRESHOLD)
+		{
+			task.backoff = (1 << Math.min(task.deferrals / BACKOFF_THRESHOLD, MAX_BACKOFF_SHIFT)) - 1;
+		}
+		log.trace("Deferring task {}", task.supplier);
+		return false;
+	}
+
+	/**
+	 * @return the number of tasks waiting to be run, for the given priority
+	 */
+	public int getQueueDepth(TaskPriority priority)
+	{
+		return invokes.get(priority).size();
+	}
+
+	/**
+	 * @return the number of tasks waiting to be run at the end of the tick
+	 */
+	public int getTickEndQueueDepth()
+	{
+		return invokesAtTickEnd.size();
+	}
+
+	/**
+	 * Gets the statistics of the tasks submitted by each class
+	 */
+	public List<TaskStats> getTaskStats()
+	{
+		final List<TaskStats> taskStats = new ArrayList<>(stats.size());
+		for (TaskStats s : stats.values())
+		{
+			if (s.getRuns() > 0)
 			{
-				log.trace("Deferring task {}", r);
+				taskStats.add(s);
 			}
 		}
+		return taskStats;
+	}
+
+	/**
+	 * Clear the statistics of all submitters. The statistics are cleared in place, as queued
+	 * tasks hold on to the statistics of their submitter.
+	 */
+	public void resetTaskStats()
+	{
+		stats.values().forEach(TaskStats::reset);
+	}
+
+	private TaskStats statsFor(Class<?> source)
+	{
+		final String submitter = SUBMITTERS.get(source);
+		final TaskStats taskStats = stats.get(submitter);
+		return taskStats != null ? taskStats : stats.computeIfAbsent(submitter, TaskStats::new);
+	}
+
+	/**
+	 * Gets the name of the class which submitted a task, from the class of the task. Lambdas and
+	 * inner classes are attributed to their top level class.
+	 */
+	@VisibleForTesting
+	static String submitterName(Class<?> type)
+	{
+		String name = type.getName();
+		int idx = name.indexOf('$');
+		return idx == -1 ? name : name.substring(0, idx);
+	}
+
+	private static BooleanSupplier wrap(Runnable r)
+	{
+		return () ->
+		{
+			r.run();
+			return true;
+		};
+	}
+
+	private static final class Task
+	{
+		private final BooleanSupplier supplier;
+		private final TaskStats stats;
+		private final long queued = System.nanoTime();
+		private int deferrals;
+		private int backoff;
+
+		private Task(BooleanSupplier supplier, TaskStats stats)
+		{
+			this.supplier = supplier;
+			this.stats = stats;
+		}
 	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import lombok.Getter;
+
+/**
+ * Statistics of the tasks run by the {@link ClientThread} for one submitting class
+ */
+public final class TaskStats
+{
+	@Getter
+	private final String submitter;
+
+	private long tasks;
+	private long runs;
+	private long deferrals;
+	private long totalNanos;
+	private long maxNanos;
+	private long totalLatencyNanos;
+	private long maxLatencyNanos;
+
+	TaskStats(String submitter)
+	{
+		this.submitter = submitter;
+	}
+
+	synchronized void recordDeferred(long nanos)
+	{
+		++runs;
+		++deferrals;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	synchronized void recordCompleted(long nanos, long latencyNanos)
+	{
+		++runs;
+		++tasks;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		totalLatencyNanos += latencyNanos;
+		maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+	}
+
+	/**
+	 * Clear the statistics. Queued tasks keep recording to this object.
+	 */
+	synchronized void reset()
+	{
+		tasks = 0;
+		runs = 0;
+		deferrals = 0;
+		totalNanos = 0;
+		maxNanos = 0;
+		totalLatencyNanos = 0;
+		maxLatencyNanos = 0;
+	}
+
+	/**
+	 * @return the number of tasks which have completed
+	 */
+	public synchronized long getTasks()
+	{
+		return tasks;
+	}
+
+	/**
+	 * @return the number of times a task was run, including runs which deferred the task
+	 */
+	public synchronized long getRuns()
+	{
+		return runs;
+	}
+
+	public synchronized long getDeferrals()
+	{
+		return deferrals;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	/**
+	 * @return the mean time from queueing a task to its completion
+	 */
+	public synchronized long getAverageLatencyNanos()
+	{
+		return tasks == 0 ? 0 : totalLatencyNanos / tasks;
+	}
+
+	public synchronized long getMaxLatencyNanos()
+	{
+		return maxLatencyNanos;
+	}
+}
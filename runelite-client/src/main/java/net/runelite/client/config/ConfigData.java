@@ -24,6 +24,8 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,31 +33,65 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * An in-memory copy of a config file. Changes are appended to a journal next to the
+ * file by {@link #flushJournal()}, which is cheap enough to run every few seconds, and
+ * only written into the config file itself by {@link #patch(Map)}, which rewrites it.
+ * The journal is replayed on load, so changes which have not been patched in yet
+ * survive a crash. It is shared by all clients using the same config file, so
+ * patching only removes the entries which the config file now contains.
+ */
 @Slf4j
 class ConfigData
 {
+	// file locks are held by the whole jvm, and locking a file already locked through another channel
+	// throws OverlappingFileLockException, so instances for the same file share one monitor to lock under
+	private static final ConcurrentHashMap<File, Object> FILE_LOCKS = new ConcurrentHashMap<>();
+
 	private final File configPath;
+	private final File journalPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the keys of properties, for prefix scans
+	private final ConcurrentSkipListSet<String> keyIndex = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
+	// changes not yet written to the journal, always a subset of patchChanges
+	private Map<String, String> journalChanges = new HashMap<>();
+	// guards the journal and the config file lock, shared with other instances for the same file
+	private final Object journalLock;
+
+	private long journalSize;
+	private long journalFlushes;
+	private long lastFlushNanos;
+	private long maxFlushNanos;
+	private long lastPatchNanos;
 
 	ConfigData(File configPath)
 	{
 		this.configPath = configPath;
+		this.journalPath = journalFile(configPath);
+		this.journalLock = FILE_LOCKS.computeIfAbsent(configPath.getAbsoluteFile(), k -> new Object());
 
 		Properties props = new Properties();
 		try (FileInputStream in = new FileInputStream(configPath);
@@ -73,6 +109,28 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+
+		replayJournal();
+		keyIndex.addAll(properties.keySet());
+	}
+
+	static File journalFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".journal");
+	}
+
+	/**
+	 * Replace the contents of a config file, discarding its journal
+	 */
+	static void replace(File configPath, Map<String, String> values)
+	{
+		configPath.delete();
+		// the journal would otherwise be replayed on top of the new values
+		journalFile(configPath).delete();
+
+		ConfigData configData = new ConfigData(configPath);
+		configData.putAll(values);
+		configData.patch(configData.swapChanges());
 	}
 
 	String getProperty(String key)
@@ -83,9 +141,14 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			keyIndex.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
+			journalChanges.put(key, value);
 		}
 		return old;
 	}
@@ -95,7 +158,9 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			keyIndex.remove(key);
 			patchChanges.put(key, null);
+			journalChanges.put(key, null);
 		}
 		return old;
 	}
@@ -103,7 +168,9 @@ class ConfigData
 	synchronized void putAll(Map<String, String> values)
 	{
 		patchChanges.putAll(values);
+		journalChanges.putAll(values);
 		properties.putAll(values);
+		keyIndex.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +178,23 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with a prefix, in order. This only visits the matching keys.
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		List<String> keys = new ArrayList<>();
+		for (String key : keyIndex.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -128,77 +212,372 @@ class ConfigData
 		return p;
 	}
 
+	/**
+	 * Get the number of changes which have not been written to the journal yet
+	 */
+	synchronized int getPendingWrites()
+	{
+		return journalChanges.size();
+	}
+
+	long getJournalSize()
+	{
+		synchronized (journalLock)
+		{
+			return journalSize;
+		}
+	}
+
+	ConfigPersistenceStats getStats()
+	{
+		int pending = getPendingWrites();
+		synchronized (journalLock)
+		{
+			return new ConfigPersistenceStats(configPath.getName(), pending, journalSize, journalFlushes,
+				lastFlushNanos, maxFlushNanos, lastPatchNanos);
+		}
+	}
+
+	/**
+	 * Append the changes made since the last flush to the journal. Repeated writes
+	 * to a key since the last flush are coalesced into one entry.
+	 */
+	void flushJournal()
+	{
+		synchronized (journalLock)
+		{
+			Map<String, String> changes;
+			synchronized (this)
+			{
+				if (journalChanges.isEmpty())
+				{
+					return;
+				}
+
+				changes = journalChanges;
+				journalChanges = new HashMap<>();
+			}
+
+			long start = System.nanoTime();
+			try
+			{
+				writeJournal(changes);
+			}
+			catch (IOException ex)
+			{
+				log.error("unable to write configuration journal", ex);
+				return;
+			}
+
+			long elapsed = System.nanoTime() - start;
+			++journalFlushes;
+			lastFlushNanos = elapsed;
+			maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+			log.trace("flushed {} changes to {} in {}us", changes.size(), journalPath, elapsed / 1000);
+		}
+	}
+
 	void patch(Map<String, String> patch)
 	{
+		long start = System.nanoTime();
+		// journal our changes first so that the journal order says which of
+		// its entries are newer than the patched file
+		flushJournal();
+
 		// load + patch + store instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
 		// correctly
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
-		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
-			FileChannel lckChannel = lockOut.getChannel())
+		Properties tempProps = new Properties();
+		synchronized (journalLock)
 		{
-			lckChannel.lock();
+			File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+			try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+				FileChannel lckChannel = lockOut.getChannel())
+			{
+				lckChannel.lock();
+
+				try (FileInputStream in = new FileInputStream(configPath);
+					InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+				{
+					tempProps.load(reader);
+				}
+				catch (FileNotFoundException e)
+				{
+					log.debug("config file {} does not exist", configPath);
+				}
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+				if (tempProps.isEmpty())
+				{
+					// this probably doesn't happen outside of the very first save (when no file exists)
+					// but to be safe in the event the prop is deleted off disk, flush the entire properties
+					// from memory
+					tempProps.putAll(properties);
+				}
+				else
+				{
+					// apply patches
+					for (Map.Entry<String, String> entry : patch.entrySet())
+					{
+						if (entry.getValue() == null)
+						{
+							tempProps.remove(entry.getKey());
+						}
+						else
+						{
+							tempProps.put(entry.getKey(), entry.getValue());
+						}
+					}
+				}
+
+				File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+				try (FileOutputStream out = new FileOutputStream(tempFile);
+					FileChannel channel = out.getChannel();
+					OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+				{
+					channel.lock();
+					tempProps.store(writer, "RuneLite configuration");
+					writer.flush();
+					channel.force(true);
+				}
+
+				try
+				{
+					Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex)
+				{
+					log.debug("atomic move not supported", ex);
+					Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			catch (IOException ex)
 			{
-				tempProps.load(reader);
+				log.error("unable to save configuration file", ex);
+				lckFile.delete();
+				return;
 			}
-			catch (FileNotFoundException e)
+			lckFile.delete();
+		}
+
+		resetJournal(tempProps);
+
+		synchronized (journalLock)
+		{
+			lastPatchNanos = System.nanoTime() - start;
+		}
+	}
+
+	/**
+	 * Rewrite the journal to contain only the changes which have not been patched
+	 * into the config file. This includes changes journaled by other clients
+	 * which have not patched them in yet.
+	 */
+	private void resetJournal(Properties written)
+	{
+		synchronized (journalLock)
+		{
+			Map<String, String> pending;
+			synchronized (this)
 			{
-				log.debug("config file {} does not exist", configPath);
+				pending = new HashMap<>(patchChanges);
+				journalChanges.clear();
 			}
 
-			if (tempProps.isEmpty())
+			if (pending.isEmpty() && !journalPath.exists())
 			{
-				// this probably doesn't happen outside of the very first save (when no file exists)
-				// but to be safe in the event the prop is deleted off disk, flush the entire properties
-				// from memory
-				tempProps.putAll(properties);
+				return;
 			}
-			else
+
+			try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE))
 			{
-				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
+				channel.lock();
+
+				ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+				while (data.hasRemaining())
 				{
-					if (entry.getValue() == null)
+					if (channel.read(data) < 0)
 					{
-						tempProps.remove(entry.getKey());
+						break;
 					}
-					else
+				}
+
+				Map<String, String> changes = new LinkedHashMap<>();
+				readJournal(data.array(), changes);
+				changes.entrySet().removeIf(e -> Objects.equals(e.getValue(), written.getProperty(e.getKey())));
+				changes.putAll(pending);
+
+				// truncating also moves the position back to the start
+				channel.truncate(0);
+				if (!changes.isEmpty())
+				{
+					ByteBuffer record = encodeRecord(changes);
+					while (record.hasRemaining())
 					{
-						tempProps.put(entry.getKey(), entry.getValue());
+						channel.write(record);
 					}
 				}
+				channel.force(false);
+				journalSize = channel.size();
 			}
+			catch (IOException ex)
+			{
+				log.error("unable to write configuration journal", ex);
+			}
+		}
+	}
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+	private void writeJournal(Map<String, String> changes) throws IOException
+	{
+		assert Thread.holdsLock(journalLock);
+
+		ByteBuffer record = encodeRecord(changes);
+		try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+		{
+			// the journal is shared by all clients using this config
+			channel.lock();
+			channel.position(channel.size());
+			while (record.hasRemaining())
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				channel.write(record);
 			}
+			channel.force(false);
+			journalSize = channel.size();
+		}
+	}
 
-			try
+	private static ByteBuffer encodeRecord(Map<String, String> changes) throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(changes.size());
+		for (Map.Entry<String, String> entry : changes.entrySet())
+		{
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+
+		byte[] payload = bout.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+
+		ByteBuffer record = ByteBuffer.allocate(payload.length + 8);
+		record.putInt(payload.length);
+		record.put(payload);
+		record.putInt((int) crc.getValue());
+		record.flip();
+		return record;
+	}
+
+	private void replayJournal()
+	{
+		byte[] data;
+		try
+		{
+			data = Files.readAllBytes(journalPath.toPath());
+		}
+		catch (IOException ex)
+		{
+			// most likely there is no journal
+			return;
+		}
+
+		Map<String, String> changes = new LinkedHashMap<>();
+		journalSize = readJournal(data, changes);
+		for (Map.Entry<String, String> entry : changes.entrySet())
+		{
+			if (entry.getValue() == null)
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				properties.remove(entry.getKey());
 			}
-			catch (AtomicMoveNotSupportedException ex)
+			else
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				properties.put(entry.getKey(), entry.getValue());
 			}
 		}
-		catch (IOException ex)
+		// make sure replayed changes get patched in to the config file on the next save
+		patchChanges.putAll(changes);
+
+		if (journalSize < data.length)
 		{
-			log.error("unable to save configuration file", ex);
+			// truncate it so that later appends are not hidden behind the torn record
+			log.warn("discarding {} bytes of torn configuration journal {}", data.length - journalSize, journalPath);
+			try (FileChannel channel = FileChannel.open(journalPath.toPath(), StandardOpenOption.WRITE))
+			{
+				channel.truncate(journalSize);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to truncate configuration journal", ex);
+			}
 		}
-		lckFile.delete();
+
+		log.debug("replayed {} changes from configuration journal {}", changes.size(), journalPath);
+	}
+
+	/**
+	 * Read the records of a journal into {@code changes}, keeping the last value of each key.
+	 * Reading stops at the first torn record.
+	 *
+	 * @return the length of the intact records
+	 */
+	private static int readJournal(byte[] data, Map<String, String> changes)
+	{
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		while (buf.remaining() >= 8)
+		{
+			int start = buf.position();
+			int length = buf.getInt();
+			if (length < 0 || length > buf.remaining() - 4)
+			{
+				return start;
+			}
+
+			CRC32 crc = new CRC32();
+			crc.update(data, start + 4, length);
+			if ((int) crc.getValue() != buf.getInt(start + 4 + length))
+			{
+				return start;
+			}
+
+			ByteBuffer payload = buf.slice();
+			payload.limit(length);
+			int count = payload.getInt();
+			for (int i = 0; i < count; ++i)
+			{
+				String key = readString(payload);
+				String value = readString(payload);
+				changes.put(key, value);
+			}
+
+			buf.position(buf.position() + length + 4);
+		}
+		return buf.position();
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		if (length == -1)
+		{
+			return null;
+		}
+
+		byte[] b = new byte[length];
+		buf.get(b);
+		return new String(b, StandardCharsets.UTF_8);
 	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.base.Strings;
+import java.lang.reflect.Type;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A handle to a configuration key, for use with {@link ConfigManager#getConfiguration(ConfigKey)},
+ * {@link ConfigManager#setConfiguration(ConfigKey, Object)} and {@link ConfigManager#unsetConfiguration(ConfigKey)}.
+ * The whole key is built once when the handle is created, instead of on every access, so handles
+ * should be kept in a field rather than created for each use.
+ *
+ * @param <T> the type of the value
+ */
+@Getter
+public final class ConfigKey<T>
+{
+	private final String group;
+	private final String key;
+	private final Type type;
+	@Getter(AccessLevel.NONE)
+	private final boolean rsProfile;
+
+	@Getter(AccessLevel.NONE)
+	private final String wholeKey;
+	// whole key for the last RuneScape profile this key was used with
+	@Getter(AccessLevel.NONE)
+	private volatile ProfileKey profileKey;
+
+	private ConfigKey(String group, String key, Type type, boolean rsProfile)
+	{
+		if (Strings.isNullOrEmpty(group) || Strings.isNullOrEmpty(key) || key.indexOf(':') != -1 || key.startsWith("$"))
+		{
+			throw new IllegalArgumentException("invalid config key " + group + "." + key);
+		}
+
+		this.group = group;
+		this.key = key;
+		this.type = type;
+		this.rsProfile = rsProfile;
+		this.wholeKey = ConfigManager.getWholeKey(group, null, key);
+	}
+
+	public static <T> ConfigKey<T> of(String group, String key, Class<T> type)
+	{
+		return new ConfigKey<>(group, key, type, false);
+	}
+
+	/**
+	 * Create a handle for a key with a generic type, such as a {@code List<Integer>}
+	 */
+	public static <T> ConfigKey<T> of(String group, String key, Type type)
+	{
+		return new ConfigKey<>(group, key, type, false);
+	}
+
+	public static <T> ConfigKey<T> rsProfile(String group, String key, Class<T> type)
+	{
+		return new ConfigKey<>(group, key, type, true);
+	}
+
+	public static <T> ConfigKey<T> rsProfile(String group, String key, Type type)
+	{
+		return new ConfigKey<>(group, key, type, true);
+	}
+
+	/**
+	 * @return whether the key is stored in the current RuneScape profile
+	 */
+	public boolean isRSProfile()
+	{
+		return rsProfile;
+	}
+
+	String wholeKey(@Nullable String profile)
+	{
+		if (profile == null)
+		{
+			return wholeKey;
+		}
+
+		ProfileKey pk = profileKey;
+		if (pk == null || !pk.profile.equals(profile))
+		{
+			pk = new ProfileKey(profile, ConfigManager.getWholeKey(group, profile, key));
+			profileKey = pk;
+		}
+		return pk.wholeKey;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if (this == o)
+		{
+			return true;
+		}
+		if (!(o instanceof ConfigKey))
+		{
+			return false;
+		}
+
+		final ConfigKey<?> other = (ConfigKey<?>) o;
+		return rsProfile == other.rsProfile && wholeKey.equals(other.wholeKey) && type.equals(other.type);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return wholeKey.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		return wholeKey;
+	}
+
+	private static final class ProfileKey
+	{
+		private final String profile;
+		private final String wholeKey;
+
+		private ProfileKey(String profile, String wholeKey)
+		{
+			this.profile = profile;
+			this.wholeKey = wholeKey;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
 import com.google.common.collect.ComparisonChain;
+import com.google.common.collect.ImmutableSet;
 import com.google.gson.Gson;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -54,9 +55,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -108,6 +111,15 @@ public class ConfigManager
 	private static final int KEY_SPLITTER_PROFILE = 1;
 	private static final int KEY_SPLITTER_KEY = 2;
 
+	private static final int JOURNAL_FLUSH_INTERVAL_SECONDS = 2;
+	// rewrite the config files early once a journal grows past this
+	private static final long JOURNAL_COMPACT_SIZE = 4 * 1024 * 1024;
+
+	// immutable types whose parsed values can be shared between lookups, in addition to enums
+	private static final Set<Type> CACHEABLE_TYPES = ImmutableSet.of(
+		boolean.class, Boolean.class, int.class, Integer.class, long.class, Long.class, double.class, Double.class,
+		Color.class, Instant.class, Keybind.class, ModifierlessKeybind.class, WorldPoint.class, Duration.class);
+
 	@Nullable
 	private final String configProfileName;
 	private final ScheduledExecutorService executor;
@@ -133,6 +145,12 @@ public class ConfigManager
 
 	private final Map<Type, Serializer<?>> serializers = Collections.synchronizedMap(new WeakHashMap<>());
 
+	// Values parsed by stringToObject, by whole key. An entry is only used if it was parsed from the
+	// current value of its key, so an entry which missed an invalidation is never returned.
+	private final Map<String, ParsedValue> parsedValues = new ConcurrentHashMap<>();
+	private final LongAdder parsedValueHits = new LongAdder();
+	private final LongAdder parsedValueMisses = new LongAdder();
+
 	@Inject
 	private ConfigManager(
 		@Nullable @Named("profile") String profile,
@@ -155,6 +173,7 @@ public class ConfigManager
 		this.sessionManager = sessionManager;
 
 		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
+		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::flushJournals), JOURNAL_FLUSH_INTERVAL_SECONDS, JOURNAL_FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
 	}
 
 	public void switchProfile(ConfigProfile newProfile)
@@ -204,6 +223,7 @@ public class ConfigManager
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
+			parsedValues.clear();
 		}
 
 		allKeys.addAll(oldData.keySet());
@@ -552,6 +572,7 @@ public class ConfigManager
 
 			this.rsProfile = rsProfile;
 			rsProfileConfigProfile = new ConfigData(ProfileManager.profileConfigFile(rsProfile));
+			parsedValues.clear();
 
 			final String launcherDisplayName = client.getLauncherDisplayName();
 			// --profile
@@ -630,6 +651,7 @@ public class ConfigManager
 
 			this.profile = profile;
 			configProfile = new ConfigData(ProfileManager.profileConfigFile(profile));
+			parsedValues.clear();
 		}
 
 		eventBus.post(new ProfileChanged());
@@ -734,13 +756,8 @@ public class ConfigManager
 					return;
 				}
 
-				File configFile = ProfileManager.profileConfigFile(profile);
 				// remote configuration replaces local
-				configFile.delete();
-
-				ConfigData configData = new ConfigData(configFile);
-				configData.putAll(remoteConfiguration.getConfig());
-				configData.patch(configData.swapChanges());
+				ConfigData.replace(ProfileManager.profileConfigFile(profile), remoteConfiguration.getConfig());
 
 				log.debug("synced remote profile {} rev {} to disk", profile, remoteConfiguration.getRev());
 				profile.setRev(remoteConfiguration.getRev());
@@ -770,9 +787,7 @@ public class ConfigManager
 
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return configProfile.keysWithPrefix(prefix);
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -785,8 +800,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keysWithPrefix(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -855,24 +869,64 @@ public class ConfigManager
 
 	public <T> T getConfiguration(String groupName, String profile, String key, Type type)
 	{
-		String value = getConfiguration(groupName, profile, key);
+		final String wholeKey = getWholeKey(groupName, profile, key);
+		final String value = (profile != null ? rsProfileConfigProfile : configProfile).getProperty(wholeKey);
 		if (!Strings.isNullOrEmpty(value))
 		{
 			try
 			{
-				return (T) stringToObject(value, type);
+				return (T) parseValue(wholeKey, value, type);
 			}
 			catch (Exception e)
 			{
-				log.warn("Unable to unmarshal {} ", getWholeKey(groupName, profile, key), e);
+				log.warn("Unable to unmarshal {} ", wholeKey, e);
 			}
 		}
 		return null;
 	}
+
+	/**
+	 * Convert a config value to an object of the given type, reusing the result of an earlier
+	 * conversion of the same value if the type is immutable.
+	 */
+	private Object parseValue(String wholeKey, String value, Type type)
+	{
+		if (!isCacheable(type))
+		{
+			return stringToObject(value, type);
+		}
+
+		final ParsedValue parsed = parsedValues.get(wholeKey);
+		if (parsed != null && parsed.type == type && parsed.value.equals(value))
+		{
+			parsedValueHits.increment();
+			return parsed.object;
+		}
+
+		parsedValueMisses.increment();
+		final Object object = stringToObject(value, type);
+		parsedValues.put(wholeKey, new ParsedValue(value, type, object));
+		return object;
+	}
+
+	private static boolean isCacheable(Type type)
+	{
+		return CACHEABLE_TYPES.contains(type) || (type instanceof Class && ((Class<?>) type).isEnum());
+	}
+
+	public ConfigValueCacheStats getValueCacheStats()
+	{
+		return new ConfigValueCacheStats(parsedValueHits.sum(), parsedValueMisses.sum(), parsedValues.size());
+	}
 	// endregion
 
 	// region set configuration
 	private void setConfiguration(ConfigData configData, String groupName, String profile, String key, @NonNull String value)
+	{
+		setConfiguration(configData, groupName, profile, key, getWholeKey(groupName, profile, key), value);
+	}
+
+	private void setConfiguration(ConfigData configData, String groupName, String profile, String key, String wholeKey, @NonNull String value)
 	{
 		if (Strings.isNullOrEmpty(groupName) || Strings.isNullOrEmpty(key) || key.indexOf(':') != -1 || key.startsWith("$"))
 		{
@@ -880,7 +934,6 @@ public class ConfigManager
 		}
 
 		assert !key.startsWith(RSPROFILE_GROUP + ".");
-		String wholeKey = getWholeKey(groupName, profile, key);
 		String oldValue = configData.setProperty(wholeKey, value);
 
 		if (Objects.equals(oldValue, value))
@@ -888,6 +941,8 @@ public class ConfigManager
 			return;
 		}
 
+		parsedValues.remove(wholeKey);
+
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
 		handler.invalidate();
 
@@ -970,9 +1025,13 @@ public class ConfigManager
 
 	// region unset configuration
 	private void unsetConfiguration(ConfigData configData, String groupName, String profile, String key)
+	{
+		unsetConfiguration(configData, groupName, profile, key, getWholeKey(groupName, profile, key));
+	}
+
+	private void unsetConfiguration(ConfigData configData, String groupName, String profile, String key, String wholeKey)
 	{
 		assert !key.startsWith(RSPROFILE_GROUP + ".");
-		String wholeKey = getWholeKey(groupName, profile, key);
 		String oldValue = configData.unset(wholeKey);
 
 		if (oldValue == null)
@@ -980,6 +1039,8 @@ public class ConfigManager
 			return;
 		}
 
+		parsedValues.remove(wholeKey);
+
 		log.debug("Unsetting configuration value for {}", wholeKey);
 		handler.invalidate();
 
@@ -1021,6 +1082,66 @@ public class ConfigManager
 	}
 	// endregion
 
+	// region config key handles
+	public <T> T getConfiguration(ConfigKey<T> key)
+	{
+		final String profile = key.isRSProfile() ? this.rsProfileKey : null;
+		if (key.isRSProfile() && profile == null)
+		{
+			return null;
+		}
+
+		final String wholeKey = key.wholeKey(profile);
+		final String value = (profile != null ? rsProfileConfigProfile : configProfile).getProperty(wholeKey);
+		if (!Strings.isNullOrEmpty(value))
+		{
+			try
+			{
+				return (T) parseValue(wholeKey, value, key.getType());
+			}
+			catch (Exception e)
+			{
+				log.warn("Unable to unmarshal {} ", wholeKey, e);
+			}
+		}
+		return null;
+	}
+
+	public <T> void setConfiguration(ConfigKey<T> key, T value)
+	{
+		if (!key.isRSProfile())
+		{
+			setConfiguration(configProfile, key.getGroup(), null, key.getKey(), key.wholeKey(null), objectToString(value));
+			return;
+		}
+
+		final String profile = this.rsProfileKey;
+		if (profile == null)
+		{
+			// creates the profile
+			setRSProfileConfiguration(key.getGroup(), key.getKey(), value);
+			return;
+		}
+
+		setConfiguration(rsProfileConfigProfile, key.getGroup(), profile, key.getKey(), key.wholeKey(profile), objectToString(value));
+	}
+
+	public void unsetConfiguration(ConfigKey<?> key)
+	{
+		if (!key.isRSProfile())
+		{
+			unsetConfiguration(configProfile, key.getGroup(), null, key.getKey(), key.wholeKey(null));
+			return;
+		}
+
+		final String profile = this.rsProfileKey;
+		if (profile != null)
+		{
+			unsetConfiguration(rsProfileConfigProfile, key.getGroup(), profile, key.getKey(), key.wholeKey(profile));
+		}
+	}
+	// endregion
+
 	public ConfigDescriptor getConfigDescriptor(Config configurationProxy)
 	{
 		Class<?> inter = configurationProxy.getClass().getInterfaces()[0];
@@ -1366,6 +1487,41 @@ public class ConfigManager
 		}
 	}
 
+	private void flushJournals()
+	{
+		boolean compact = false;
+		for (ConfigData data : new ConfigData[]{configProfile, rsProfileConfigProfile})
+		{
+			if (data != null)
+			{
+				data.flushJournal();
+				compact |= data.getJournalSize() >= JOURNAL_COMPACT_SIZE;
+			}
+		}
+
+		if (compact)
+		{
+			log.debug("Config journal is over {} bytes, saving config", JOURNAL_COMPACT_SIZE);
+			sendConfig();
+		}
+	}
+
+	/**
+	 * Get the persistence metrics of the active profile and the RuneScape profile config
+	 */
+	public List<ConfigPersistenceStats> getPersistenceStats()
+	{
+		List<ConfigPersistenceStats> stats = new ArrayList<>(2);
+		for (ConfigData data : new ConfigData[]{configProfile, rsProfileConfigProfile})
+		{
+			if (data != null)
+			{
+				stats.add(data.getStats());
+			}
+		}
+		return stats;
+	}
+
 	private static ConfigProfile updateProfile(ProfileManager.Lock lock, ConfigProfile profile)
 	{
 		ConfigProfile p = lock.findProfile(profile.getId());
@@ -1462,13 +1618,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keysWithPrefix(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -1646,4 +1797,18 @@ public class ConfigManager
 		}
 		return new String[]{group, profile, key};
 	}
+
+	private static final class ParsedValue
+	{
+		private final String value;
+		private final Type type;
+		private final Object object;
+
+		private ParsedValue(String value, Type type, Object object)
+		{
+			this.value = value;
+			this.type = type;
+			this.object = object;
+		}
+	}
 }
@@ -187,9 +187,26 @@ public class ProfileManager
 
 		public void removeProfile(long id)
 		{
+			ConfigProfile profile = findProfile(id);
+			if (profile == null)
+			{
+				return;
+			}
+
+			profiles.remove(profile);
+			modified = true;
+
 			// keep the properties around on disk as a backup. If this profile is active on another client
-			// the profile will be recreated there later with the same id.
-			modified |= profiles.removeIf(p -> p.getId() == id);
+			// the profile will be recreated there later with the same id. The journal is patched into the
+			// backup so that it is not left behind.
+			File configFile = profileConfigFile(profile);
+			File journal = ConfigData.journalFile(configFile);
+			if (journal.exists())
+			{
+				ConfigData configData = new ConfigData(configFile);
+				configData.patch(configData.swapChanges());
+				journal.delete();
+			}
 		}
 
 		public void renameProfile(ConfigProfile profile, String name)
@@ -214,6 +231,16 @@ public class ProfileManager
 					StandardCopyOption.REPLACE_EXISTING
 				);
 				log.info("Renamed profile file {} to {}", oldFile.getName(), newFile.getName());
+
+				File oldJournal = ConfigData.journalFile(oldFile);
+				if (oldJournal.exists())
+				{
+					Files.move(
+						oldJournal.toPath(),
+						ConfigData.journalFile(newFile).toPath(),
+						StandardCopyOption.REPLACE_EXISTING
+					);
+				}
 			}
 			catch (IOException e)
 			{
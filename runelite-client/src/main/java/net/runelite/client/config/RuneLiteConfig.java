@@ -423,6 +423,20 @@ public interface RuneLiteConfig extends Config
 		return ComponentConstants.STANDARD_BACKGROUND_COLOR;
 	}
 
+	@ConfigItem(
+		keyName = "overlayFrameBudget",
+		name = "Overlay frame budget",
+		description = "Once overlays have taken this long to render in a frame, overlays which support it show their previous<br>" +
+			"output instead of rendering again until a later frame. A value of 0 disables the budget.",
+		position = 47,
+		section = overlaySettings
+	)
+	@Units(Units.MILLISECONDS)
+	default int overlayFrameBudget()
+	{
+		return 0;
+	}
+
 	@ConfigItem(
 		keyName = "sidebarToggleKey",
 		name = "Sidebar toggle key",
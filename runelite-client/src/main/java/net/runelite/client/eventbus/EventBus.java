@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,20 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +59,9 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
 
 	@Value
 	public static class Subscriber
@@ -76,10 +85,62 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * The subscribers of a single event class. The array is replaced, never modified,
+	 * so post can iterate it without locking or copying.
+	 */
+	private static final class Slot
+	{
+		private final Class<?> eventClass;
+		private volatile Subscriber[] subscribers = NO_SUBSCRIBERS;
+		/**
+		 * profiling statistics, created on the first profiled post
+		 */
+		private volatile Map<Subscriber, SubscriberStats> stats;
+
+		private Slot(Class<?> eventClass)
+		{
+			this.eventClass = eventClass;
+		}
+	}
+
+	private static final class Slots extends ClassValue<Slot>
+	{
+		@Override
+		protected Slot computeValue(Class<?> type)
+		{
+			return new Slot(type);
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private final Slots slots = new Slots();
+
+	/**
+	 * Whether post records per subscriber statistics
+	 */
+	@Getter
+	@Setter
+	private volatile boolean profiling;
+
+	/**
+	 * Slots which have recorded statistics
+	 */
+	private final Set<Slot> profiledSlots = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Subscriptions of each registered object, so that unregistering only touches the
+	 * event classes the object subscribes to. Guarded by this.
+	 */
+	private final Map<Object, List<Subscription>> subscriptions = new IdentityHashMap<>();
+
+	@Value
+	private static class Subscription
+	{
+		Class<?> eventClass;
+		Subscriber subscriber;
+	}
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +159,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Subscription> added = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -125,7 +183,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (slots.get(psc).subscribers.length > 0)
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -159,27 +217,75 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.add(new Subscription(parameterClazz, subscriber));
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// subscribe only once every method has been validated, so a bad subscriber registers nothing
+		for (Subscription subscription : added)
+		{
+			subscribe(object, subscription);
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+		subscribe(subFn, new Subscription(clazz, sub));
+		return sub;
+	}
 
-		subscribers = builder.build();
+	private void subscribe(Object object, Subscription subscription)
+	{
+		final Slot slot = slots.get(subscription.getEventClass());
+		final Subscriber subscriber = subscription.getSubscriber();
+		final Subscriber[] current = slot.subscribers;
 
-		return sub;
+		// insert after every subscriber which sorts before or equal to it, keeping registration order for ties
+		int idx = current.length;
+		while (idx > 0 && SUBSCRIBER_ORDER.compare(current[idx - 1], subscriber) > 0)
+		{
+			--idx;
+		}
+
+		final Subscriber[] updated = new Subscriber[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, idx);
+		updated[idx] = subscriber;
+		System.arraycopy(current, idx, updated, idx + 1, current.length - idx);
+		slot.subscribers = updated;
+
+		subscriptions.computeIfAbsent(object, k -> new ArrayList<>()).add(subscription);
+	}
+
+	private void unsubscribe(Subscription subscription)
+	{
+		final Slot slot = slots.get(subscription.getEventClass());
+		final Subscriber[] current = slot.subscribers;
+
+		final Map<Subscriber, SubscriberStats> stats = slot.stats;
+		if (stats != null)
+		{
+			stats.remove(subscription.getSubscriber());
+		}
+
+		for (int i = 0; i < current.length; ++i)
+		{
+			if (current[i] == subscription.getSubscriber())
+			{
+				if (current.length == 1)
+				{
+					slot.subscribers = NO_SUBSCRIBERS;
+					return;
+				}
+
+				final Subscriber[] updated = new Subscriber[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				slot.subscribers = updated;
+				return;
+			}
+		}
 	}
 
 	/**
@@ -189,10 +295,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final List<Subscription> subs = subscriptions.remove(object);
+		if (subs == null)
+		{
+			return;
+		}
+
+		for (Subscription subscription : subs)
+		{
+			unsubscribe(subscription);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +314,27 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final List<Subscription> subs = subscriptions.get(sub.getObject());
+		if (subs == null)
+		{
+			return;
+		}
+
+		for (int i = 0; i < subs.size(); ++i)
+		{
+			final Subscription subscription = subs.get(i);
+			if (subscription.getSubscriber() == sub)
+			{
+				subs.remove(i);
+				if (subs.isEmpty())
+				{
+					subscriptions.remove(sub.getObject());
+				}
+
+				unsubscribe(subscription);
+				return;
+			}
+		}
 	}
 
 	/**
@@ -216,7 +345,16 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Slot slot = slots.get(event.getClass());
+		if (profiling)
+		{
+			postProfiled(slot, event);
+			return;
+		}
+
+		// subscribers registered or unregistered while posting take effect from the next post
+		final Subscriber[] subscribers = slot.subscribers;
+		for (final Subscriber subscriber : subscribers)
 		{
 			try
 			{
@@ -228,4 +366,90 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postProfiled(final Slot slot, final Object event)
+	{
+		Map<Subscriber, SubscriberStats> stats = slot.stats;
+		if (stats == null)
+		{
+			synchronized (slot)
+			{
+				stats = slot.stats;
+				if (stats == null)
+				{
+					slot.stats = stats = new ConcurrentHashMap<>();
+					profiledSlots.add(slot);
+				}
+			}
+		}
+
+		final Subscriber[] subscribers = slot.subscribers;
+		for (final Subscriber subscriber : subscribers)
+		{
+			final SubscriberStats subscriberStats = stats.computeIfAbsent(subscriber, s -> new SubscriberStats(slot.eventClass, s));
+			Exception failure = null;
+
+			final long allocated = SubscriberStats.allocatedBytes();
+			final long start = System.nanoTime();
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				failure = e;
+			}
+			final long elapsed = System.nanoTime() - start;
+			subscriberStats.record(elapsed, SubscriberStats.allocatedBytes() - allocated);
+
+			if (failure != null)
+			{
+				exceptionHandler.accept(failure);
+			}
+		}
+	}
+
+	/**
+	 * Gets the statistics recorded while profiling, of subscribers which are still registered.
+	 *
+	 * @return the statistics of each subscriber and event class
+	 */
+	public List<SubscriberStats> getSubscriberStats()
+	{
+		final List<SubscriberStats> result = new ArrayList<>();
+		for (Slot slot : profiledSlots)
+		{
+			final Map<Subscriber, SubscriberStats> stats = slot.stats;
+			if (stats == null)
+			{
+				// reset concurrently
+				continue;
+			}
+
+			for (Subscriber subscriber : slot.subscribers)
+			{
+				final SubscriberStats subscriberStats = stats.get(subscriber);
+				if (subscriberStats != null)
+				{
+					result.add(subscriberStats);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Discards the statistics recorded while profiling
+	 */
+	public void resetSubscriberStats()
+	{
+		for (Slot slot : profiledSlots)
+		{
+			synchronized (slot)
+			{
+				slot.stats = null;
+				profiledSlots.remove(slot);
+			}
+		}
+	}
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.management.ManagementFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invocation statistics of one subscriber for one event class, recorded while
+ * {@link EventBus#setProfiling(boolean) profiling} is enabled.
+ */
+@Slf4j
+public final class SubscriberStats
+{
+	// latencies are bucketed by their highest set bit plus the next SUB_BUCKET_BITS bits,
+	// which bounds the error of percentiles to 1 / 2^SUB_BUCKET_BITS
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+	@Getter
+	private final Class<?> eventClass;
+	@Getter
+	private final EventBus.Subscriber subscriber;
+
+	private final long[] histogram = new long[BUCKETS];
+	private long invocations;
+	private long totalNanos;
+	private long maxNanos;
+	private long allocatedBytes;
+
+	SubscriberStats(Class<?> eventClass, EventBus.Subscriber subscriber)
+	{
+		this.eventClass = eventClass;
+		this.subscriber = subscriber;
+	}
+
+	private static com.sun.management.ThreadMXBean threadMXBean()
+	{
+		try
+		{
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean)
+			{
+				com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+				if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled())
+				{
+					return sunBean;
+				}
+			}
+		}
+		catch (LinkageError e)
+		{
+			log.debug("Thread allocation accounting is not available", e);
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether allocated bytes are recorded
+	 */
+	public static boolean isAllocationSupported()
+	{
+		return THREAD_MX_BEAN != null;
+	}
+
+	/**
+	 * @return the number of bytes allocated by the current thread, or 0 if not supported
+	 */
+	static long allocatedBytes()
+	{
+		return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+	}
+
+	synchronized void record(long nanos, long allocated)
+	{
+		++invocations;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		allocatedBytes += allocated;
+		++histogram[bucket(nanos)];
+	}
+
+	private static int bucket(long nanos)
+	{
+		if (nanos < 1L << SUB_BUCKET_BITS)
+		{
+			return (int) Math.max(nanos, 0);
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((nanos >>> shift) & ((1 << SUB_BUCKET_BITS) - 1));
+	}
+
+	private static long bucketUpperBound(int bucket)
+	{
+		if (bucket < 1 << SUB_BUCKET_BITS)
+		{
+			return bucket;
+		}
+
+		int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+		long base = (1L << SUB_BUCKET_BITS) | (bucket & ((1 << SUB_BUCKET_BITS) - 1));
+		return ((base + 1) << shift) - 1;
+	}
+
+	public synchronized long getInvocations()
+	{
+		return invocations;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	public synchronized long getAverageNanos()
+	{
+		return invocations == 0 ? 0 : totalNanos / invocations;
+	}
+
+	/**
+	 * @return the bytes allocated by the subscriber, or 0 if allocations are not supported
+	 * @see #isAllocationSupported()
+	 */
+	public synchronized long getAllocatedBytes()
+	{
+		return allocatedBytes;
+	}
+
+	/**
+	 * Gets an upper bound of the latency below which the given fraction of invocations completed.
+	 *
+	 * @param percentile fraction of invocations, eg. 0.99
+	 * @return the latency in nanoseconds
+	 */
+	public synchronized long getPercentileNanos(double percentile)
+	{
+		long target = (long) Math.ceil(invocations * percentile);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += histogram[i];
+			if (seen >= target && seen > 0)
+			{
+				return Math.min(bucketUpperBound(i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	/**
+	 * @return a readable name of the subscriber, the subscribed method or the class of a subscribed lambda
+	 */
+	public String getSubscriberName()
+	{
+		if (subscriber.getMethod() != null)
+		{
+			return subscriber.getMethod().getDeclaringClass().getSimpleName() + "." + subscriber.getMethod().getName();
+		}
+		return subscriber.getObject().getClass().getName();
+	}
+}
@@ -0,0 +1,734 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.GroundObject;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.events.WorldViewUnloaded;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.util.Text;
+
+/**
+ * An index of the tile objects, NPCs and players in the scene, kept up to date from their spawn
+ * and despawn events. Plugins which only need to find objects by id, or actors by id or name,
+ * can query this instead of each tracking the spawn events themselves.
+ * <p>
+ * The index must only be used from the client thread.
+ */
+@Singleton
+public class SceneIndex
+{
+	/**
+	 * Listener for the objects with an id it is registered for
+	 */
+	public interface ObjectListener
+	{
+		void objectSpawned(TileObject object, Tile tile);
+
+		void objectDespawned(TileObject object);
+	}
+
+	@RequiredArgsConstructor
+	private static final class IndexedObject
+	{
+		private final Tile tile;
+		private final long zone;
+	}
+
+	@RequiredArgsConstructor
+	private static final class IndexedNpc
+	{
+		private final int id;
+		private final String name;
+	}
+
+	private final Client client;
+
+	private final Map<TileObject, IndexedObject> objects = new LinkedHashMap<>();
+	private final Map<Integer, Set<TileObject>> objectsById = new HashMap<>();
+	private final Map<Long, Set<TileObject>> objectsByZone = new HashMap<>();
+	private final Map<Integer, List<ObjectListener>> objectListeners = new HashMap<>();
+
+	private final Map<NPC, IndexedNpc> npcs = new LinkedHashMap<>();
+	private final Map<Integer, Set<NPC>> npcsById = new HashMap<>();
+	private final Map<String, Set<NPC>> npcsByName = new HashMap<>();
+
+	private final Map<Player, String> players = new LinkedHashMap<>();
+	private final Map<String, Player> playersByName = new HashMap<>();
+
+	// tiles which have had items spawned on them since the scene was loaded, and their worldview
+	private final Map<Tile, WorldView> itemTiles = new LinkedHashMap<>();
+
+	@Inject
+	private SceneIndex(Client client, ClientThread clientThread, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+
+		// the index is normally created before login, but if not the scene has to be read once
+		clientThread.invoke(() ->
+		{
+			if (client.getGameState() == GameState.LOGGED_IN)
+			{
+				rebuild(client.getTopLevelWorldView());
+			}
+		});
+	}
+
+	/**
+	 * Get all tile objects in the scene
+	 */
+	public Collection<TileObject> getObjects()
+	{
+		return Collections.unmodifiableSet(objects.keySet());
+	}
+
+	/**
+	 * Get the tile objects with the given id
+	 */
+	public Collection<TileObject> getObjects(int id)
+	{
+		Set<TileObject> set = objectsById.get(id);
+		return set != null ? Collections.unmodifiableSet(set) : Collections.emptySet();
+	}
+
+	/**
+	 * Get the tile objects with any of the given ids
+	 */
+	public List<TileObject> getObjects(Collection<Integer> ids)
+	{
+		List<TileObject> result = new ArrayList<>();
+		for (int id : ids)
+		{
+			Set<TileObject> set = objectsById.get(id);
+			if (set != null)
+			{
+				result.addAll(set);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the tile objects on the same plane as and within {@code distance} tiles of a point
+	 */
+	public List<TileObject> getObjectsWithin(WorldPoint point, int distance)
+	{
+		List<TileObject> result = new ArrayList<>();
+		for (int zx = (point.getX() - distance) >> 3; zx <= (point.getX() + distance) >> 3; ++zx)
+		{
+			for (int zy = (point.getY() - distance) >> 3; zy <= (point.getY() + distance) >> 3; ++zy)
+			{
+				Set<TileObject> set = objectsByZone.get(zone(point.getPlane(), zx, zy));
+				if (set == null)
+				{
+					continue;
+				}
+
+				for (TileObject object : set)
+				{
+					if (object.getWorldLocation().distanceTo(point) <= distance)
+					{
+						result.add(object);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the tile objects with any of the given ids which are drawn within the viewport
+	 */
+	public List<TileObject> getObjectsInViewport(Collection<Integer> ids)
+	{
+		final int x = client.getViewportXOffset();
+		final int y = client.getViewportYOffset();
+		final int width = client.getViewportWidth();
+		final int height = client.getViewportHeight();
+
+		List<TileObject> result = getObjects(ids);
+		result.removeIf(object ->
+		{
+			Point p = object.getCanvasLocation();
+			return p == null || p.getX() < x || p.getY() < y || p.getX() >= x + width || p.getY() >= y + height;
+		});
+		return result;
+	}
+
+	/**
+	 * Get the tile the object was spawned on
+	 */
+	@Nullable
+	public Tile getTile(TileObject object)
+	{
+		IndexedObject indexed = objects.get(object);
+		return indexed != null ? indexed.tile : null;
+	}
+
+	/**
+	 * Get the tiles which items have spawned on since the scene was loaded. The items
+	 * may have since despawned.
+	 */
+	public Collection<Tile> getItemTiles()
+	{
+		return Collections.unmodifiableSet(itemTiles.keySet());
+	}
+
+	public Collection<NPC> getNpcs()
+	{
+		return Collections.unmodifiableSet(npcs.keySet());
+	}
+
+	public Collection<NPC> getNpcs(int id)
+	{
+		Set<NPC> set = npcsById.get(id);
+		return set != null ? Collections.unmodifiableSet(set) : Collections.emptySet();
+	}
+
+	/**
+	 * Get the NPCs with the given name, ignoring case and tags
+	 */
+	public Collection<NPC> getNpcs(String name)
+	{
+		Set<NPC> set = npcsByName.get(Text.standardize(name));
+		return set != null ? Collections.unmodifiableSet(set) : Collections.emptySet();
+	}
+
+	public Collection<Player> getPlayers()
+	{
+		return Collections.unmodifiableSet(players.keySet());
+	}
+
+	/**
+	 * Get the player with the given name, ignoring case and tags
+	 */
+	@Nullable
+	public Player getPlayer(String name)
+	{
+		return playersByName.get(Text.standardize(name));
+	}
+
+	/**
+	 * Register a listener for objects with any of the given ids. The listener is
+	 * immediately called for matching objects already in the scene.
+	 */
+	public void addObjectListener(Collection<Integer> ids, ObjectListener listener)
+	{
+		for (int id : ids)
+		{
+			objectListeners.computeIfAbsent(id, k -> new ArrayList<>()).add(listener);
+			Set<TileObject> set = objectsById.get(id);
+			if (set != null)
+			{
+				for (TileObject object : set)
+				{
+					listener.objectSpawned(object, objects.get(object).tile);
+				}
+			}
+		}
+	}
+
+	public void removeObjectListener(ObjectListener listener)
+	{
+		objectListeners.values().removeIf(listeners ->
+		{
+			listeners.remove(listener);
+			return listeners.isEmpty();
+		});
+	}
+
+	@Subscribe(
+		// Run before plugins, so they may query the index for the object that spawned
+		priority = 1
+	)
+	private void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		addObject(event.getGameObject(), event.getTile());
+	}
+
+	@Subscribe(
+		// Run after plugins, so they may still query the index for the object that despawned
+		priority = -1
+	)
+	private void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		removeObject(event.getGameObject());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		addObject(event.getWallObject(), event.getTile());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		removeObject(event.getWallObject());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		addObject(event.getGroundObject(), event.getTile());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		removeObject(event.getGroundObject());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		addObject(event.getDecorativeObject(), event.getTile());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		removeObject(event.getDecorativeObject());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onItemSpawned(ItemSpawned event)
+	{
+		final Tile tile = event.getTile();
+		if (!itemTiles.containsKey(tile))
+		{
+			itemTiles.put(tile, worldViewOf(tile));
+		}
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onNpcSpawned(NpcSpawned event)
+	{
+		addNpc(event.getNpc());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onNpcDespawned(NpcDespawned event)
+	{
+		removeNpc(event.getNpc());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onNpcChanged(NpcChanged event)
+	{
+		removeNpc(event.getNpc());
+		addNpc(event.getNpc());
+	}
+
+	@Subscribe(
+		priority = 1
+	)
+	private void onPlayerSpawned(PlayerSpawned event)
+	{
+		addPlayer(event.getPlayer());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onPlayerDespawned(PlayerDespawned event)
+	{
+		removePlayer(event.getPlayer());
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onGameStateChanged(GameStateChanged event)
+	{
+		switch (event.getGameState())
+		{
+			case LOADING:
+				// the scene is rebuilt without despawning its objects
+				clearObjects(null);
+				break;
+			case LOGIN_SCREEN:
+			case HOPPING:
+				clearObjects(null);
+				npcs.clear();
+				npcsById.clear();
+				npcsByName.clear();
+				players.clear();
+				playersByName.clear();
+				break;
+		}
+	}
+
+	@Subscribe(
+		priority = -1
+	)
+	private void onWorldViewUnloaded(WorldViewUnloaded event)
+	{
+		final WorldView wv = event.getWorldView();
+		clearObjects(wv);
+
+		for (NPC npc : new ArrayList<>(npcs.keySet()))
+		{
+			if (npc.getWorldView() == wv)
+			{
+				removeNpc(npc);
+			}
+		}
+		for (Player player : new ArrayList<>(players.keySet()))
+		{
+			if (player.getWorldView() == wv)
+			{
+				removePlayer(player);
+			}
+		}
+	}
+
+	private void rebuild(WorldView wv)
+	{
+		if (wv == null)
+		{
+			return;
+		}
+
+		for (NPC npc : wv.npcs())
+		{
+			if (npc != null)
+			{
+				addNpc(npc);
+			}
+		}
+
+		for (Player player : wv.players())
+		{
+			if (player != null)
+			{
+				addPlayer(player);
+			}
+		}
+
+		final Scene scene = wv.getScene();
+		final Tile[][][] tiles = scene.getTiles();
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			for (int x = 0; x < wv.getSizeX(); ++x)
+			{
+				for (int y = 0; y < wv.getSizeY(); ++y)
+				{
+					Tile tile = tiles[z][x][y];
+					if (tile == null)
+					{
+						continue;
+					}
+
+					addTile(tile, wv);
+					if (tile.getBridge() != null)
+					{
+						addTile(tile.getBridge(), wv);
+					}
+				}
+			}
+		}
+
+		for (WorldView sub : wv.worldViews())
+		{
+			rebuild(sub);
+		}
+	}
+
+	private void addTile(Tile tile, WorldView wv)
+	{
+		WallObject wallObject = tile.getWallObject();
+		if (wallObject != null)
+		{
+			addObject(wallObject, tile);
+		}
+
+		DecorativeObject decorativeObject = tile.getDecorativeObject();
+		if (decorativeObject != null)
+		{
+			addObject(decorativeObject, tile);
+		}
+
+		GroundObject groundObject = tile.getGroundObject();
+		if (groundObject != null)
+		{
+			addObject(groundObject, tile);
+		}
+
+		for (GameObject object : tile.getGameObjects())
+		{
+			// objects larger than a tile are on each tile they cover
+			if (object != null && object.getSceneMinLocation().equals(tile.getSceneLocation()))
+			{
+				addObject(object, tile);
+			}
+		}
+
+		if (tile.getItemLayer() != null)
+		{
+			itemTiles.putIfAbsent(tile, wv);
+		}
+	}
+
+	private void addObject(TileObject object, Tile tile)
+	{
+		final WorldPoint wp = object.getWorldLocation();
+		final long zone = zone(wp.getPlane(), wp.getX() >> 3, wp.getY() >> 3);
+		if (objects.putIfAbsent(object, new IndexedObject(tile, zone)) != null)
+		{
+			return;
+		}
+
+		objectsById.computeIfAbsent(object.getId(), k -> new LinkedHashSet<>()).add(object);
+		objectsByZone.computeIfAbsent(zone, k -> new LinkedHashSet<>()).add(object);
+
+		List<ObjectListener> listeners = objectListeners.get(object.getId());
+		if (listeners != null)
+		{
+			for (ObjectListener listener : listeners)
+			{
+				listener.objectSpawned(object, tile);
+			}
+		}
+	}
+
+	private void removeObject(TileObject object)
+	{
+		IndexedObject indexed = objects.remove(object);
+		if (indexed == null)
+		{
+			return;
+		}
+
+		unindexObject(object, indexed);
+	}
+
+	private void unindexObject(TileObject object, IndexedObject indexed)
+	{
+		removeFrom(objectsById, object.getId(), object);
+		removeFrom(objectsByZone, indexed.zone, object);
+
+		List<ObjectListener> listeners = objectListeners.get(object.getId());
+		if (listeners != null)
+		{
+			for (ObjectListener listener : listeners)
+			{
+				listener.objectDespawned(object);
+			}
+		}
+	}
+
+	/**
+	 * Remove the objects and item tiles in a worldview, or in the top level worldview if null
+	 */
+	private void clearObjects(@Nullable WorldView wv)
+	{
+		for (Iterator<Map.Entry<TileObject, IndexedObject>> it = objects.entrySet().iterator(); it.hasNext(); )
+		{
+			Map.Entry<TileObject, IndexedObject> entry = it.next();
+			TileObject object = entry.getKey();
+			WorldView objectWv = object.getWorldView();
+			if (wv != null ? objectWv == wv : (objectWv == null || objectWv.isTopLevel()))
+			{
+				it.remove();
+				unindexObject(object, entry.getValue());
+			}
+		}
+
+		itemTiles.values().removeIf(tileWv -> wv != null ? tileWv == wv : (tileWv == null || tileWv.isTopLevel()));
+	}
+
+	/**
+	 * Find the worldview a tile is in, from the top level worldview and the worldviews within it
+	 */
+	@Nullable
+	private WorldView worldViewOf(Tile tile)
+	{
+		final WorldView top = client.getTopLevelWorldView();
+		if (top == null)
+		{
+			return null;
+		}
+
+		if (inScene(top, tile))
+		{
+			return top;
+		}
+
+		for (WorldView wv : top.worldViews())
+		{
+			if (inScene(wv, tile))
+			{
+				return wv;
+			}
+		}
+		return null;
+	}
+
+	private static boolean inScene(WorldView wv, Tile tile)
+	{
+		final Point p = tile.getSceneLocation();
+		if (p == null || p.getX() < 0 || p.getY() < 0 || p.getX() >= wv.getSizeX() || p.getY() >= wv.getSizeY())
+		{
+			return false;
+		}
+
+		final Tile sceneTile = wv.getScene().getTiles()[tile.getPlane()][p.getX()][p.getY()];
+		return sceneTile != null && (sceneTile == tile || sceneTile.getBridge() == tile);
+	}
+
+	private void addNpc(NPC npc)
+	{
+		final IndexedNpc indexed = new IndexedNpc(npc.getId(), npc.getName() != null ? Text.standardize(npc.getName()) : null);
+		if (npcs.putIfAbsent(npc, indexed) != null)
+		{
+			return;
+		}
+
+		npcsById.computeIfAbsent(indexed.id, k -> new LinkedHashSet<>()).add(npc);
+		if (indexed.name != null)
+		{
+			npcsByName.computeIfAbsent(indexed.name, k -> new LinkedHashSet<>()).add(npc);
+		}
+	}
+
+	private void removeNpc(NPC npc)
+	{
+		final IndexedNpc indexed = npcs.remove(npc);
+		if (indexed == null)
+		{
+			return;
+		}
+
+		removeFrom(npcsById, indexed.id, npc);
+		if (indexed.name != null)
+		{
+			removeFrom(npcsByName, indexed.name, npc);
+		}
+	}
+
+	private void addPlayer(Player player)
+	{
+		if (players.containsKey(player))
+		{
+			return;
+		}
+
+		final String name = player.getName() != null ? Text.standardize(player.getName()) : null;
+		players.put(player, name);
+		if (name != null)
+		{
+			playersByName.put(name, player);
+		}
+	}
+
+	private void removePlayer(Player player)
+	{
+		final String name = players.remove(player);
+		if (name != null)
+		{
+			playersByName.remove(name, player);
+		}
+	}
+
+	private static <K, V> void removeFrom(Map<K, Set<V>> map, K key, V value)
+	{
+		Set<V> set = map.get(key);
+		if (set != null && set.remove(value) && set.isEmpty())
+		{
+			map.remove(key);
+		}
+	}
+
+	private static long zone(int plane, int zoneX, int zoneY)
+	{
+		return ((long) plane << 48) | ((long) (zoneX & 0xffffff) << 24) | (zoneY & 0xffffff);
+	}
+}
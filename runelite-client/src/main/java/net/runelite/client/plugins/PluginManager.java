@@ -32,13 +32,17 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,17 +50,27 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -87,6 +101,11 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * Index of the core plugin classes, generated at build time by the plugin-index goal of runelite-maven-plugin
+	 */
+	static final String PLUGIN_INDEX = "/runelite/plugins";
+	private static final int LOADER_THREADS = Math.min(Runtime.getRuntime().availableProcessors(), 4);
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -226,6 +245,7 @@ public class PluginManager
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
 		int loaded = 0;
+		final long start = System.nanoTime();
 		for (Plugin plugin : scannedPlugins)
 		{
 			try
@@ -251,6 +271,8 @@ public class PluginManager
 			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
 		}
 
+		log.info("Started {} plugins in {} ms", activePlugins.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
 		for (Plugin plugin : plugins)
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
@@ -260,16 +282,58 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = developerMode ? null : readPluginIndex();
+		if (plugins == null)
+		{
+			// scanning loads every class in the plugins package, not just the plugins, which is slow
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Read the plugin classes from the plugin index. In developer mode the classpath is
+	 * always scanned instead, since the index is not rebuilt when compiling from an IDE.
+	 *
+	 * @return the plugin classes, or null if there is no usable index
+	 */
+	@Nullable
+	private List<Class<?>> readPluginIndex()
+	{
+		try (InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				log.debug("No plugin index, scanning classpath");
+				return null;
+			}
+
+			final ClassLoader classLoader = getClass().getClassLoader();
+			final List<Class<?>> plugins = new ArrayList<>();
+			final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			for (String line; (line = reader.readLine()) != null; )
+			{
+				if (!line.isEmpty())
+				{
+					plugins.add(classLoader.loadClass(line));
+				}
+			}
+			return plugins;
+		}
+		catch (IOException | ClassNotFoundException ex)
+		{
+			log.warn("Unable to read plugin index, scanning classpath", ex);
+			return null;
+		}
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -372,28 +436,62 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
-		int loaded = 0;
+		// Plugins are instantiated concurrently, each after the plugins it depends on
+		final Map<Class<?>, Plugin> availablePlugins = new ConcurrentHashMap<>();
+		for (Plugin plugin : this.plugins)
+		{
+			availablePlugins.putIfAbsent(plugin.getClass(), plugin);
+		}
+
+		final Map<Class<?>, Plugin> instantiated = new ConcurrentHashMap<>();
+		final AtomicInteger loaded = new AtomicInteger();
+		// the EDT can't wait for other threads, which may need the EDT to create a plugin
+		final ExecutorService loaderExecutor = SwingUtilities.isEventDispatchThread() || sortedPlugins.size() <= 1
+			? MoreExecutors.newDirectExecutorService()
+			: createLoaderExecutor("Plugin loader");
+		final long start = System.nanoTime();
+		try
+		{
+			runInDependencyOrder(graph, pluginClazz -> CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					Plugin plugin = instantiate(availablePlugins, (Class<Plugin>) pluginClazz);
+					availablePlugins.putIfAbsent(pluginClazz, plugin);
+					instantiated.put(pluginClazz, plugin);
+				}
+				catch (PluginInstantiationException ex)
+				{
+					log.error("Error instantiating plugin!", ex);
+				}
+
+				if (onPluginLoaded != null)
+				{
+					synchronized (onPluginLoaded)
+					{
+						onPluginLoaded.accept(loaded.incrementAndGet(), sortedPlugins.size());
+					}
+				}
+			}, loaderExecutor));
+		}
+		finally
+		{
+			loaderExecutor.shutdown();
+		}
+
+		log.debug("Loaded {} plugins in {} ms", instantiated.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+		// Keep the plugins in dependency order
 		List<Plugin> newPlugins = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 		{
-			Plugin plugin;
-			try
+			Plugin plugin = instantiated.get(pluginClazz);
+			if (plugin != null)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
 				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.error("Error instantiating plugin!", ex);
-			}
-
-			loaded++;
-			if (onPluginLoaded != null)
-			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
 			}
 		}
+		this.plugins.addAll(newPlugins);
 
 		return newPlugins;
 	}
@@ -425,9 +523,11 @@ public class PluginManager
 
 		try
 		{
+			final long start = System.nanoTime();
 			plugin.startUp();
 
-			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
+			log.debug("Plugin {} is now running, started in {} ms", plugin.getClass().getSimpleName(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 			if (sceneTileManager != null)
 			{
 				final GameEventManager gameEventManager = this.sceneTileManager.get();
@@ -532,18 +632,19 @@ public class PluginManager
 		return activePlugins.contains(plugin);
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	private Plugin instantiate(Map<Class<?>, Plugin> availablePlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
+		final long start = System.nanoTime();
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
 		for (PluginDependency pluginDependency : pluginDependencies)
 		{
-			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency.value()).findFirst();
-			if (!dependency.isPresent())
+			Plugin dependency = availablePlugins.get(pluginDependency.value());
+			if (dependency == null)
 			{
 				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.value().getSimpleName());
 			}
-			deps.add(dependency.get());
+			deps.add(dependency);
 		}
 
 		Plugin plugin;
@@ -602,7 +703,7 @@ public class PluginManager
 			throw new PluginInstantiationException(ex);
 		}
 
-		log.debug("Loaded plugin {}", clazz.getSimpleName());
+		log.debug("Loaded plugin {} in {} ms", clazz.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 		return plugin;
 	}
 
@@ -678,6 +779,65 @@ public class PluginManager
 		}
 	}
 
+	/**
+	 * Run a task for each node of an acyclic graph, once the tasks of all of the node's predecessors have
+	 * completed, and wait for all of the tasks to complete. Tasks are started in the iteration order of the
+	 * graph's nodes where their predecessors allow it. A task which fails is logged, and does not prevent the
+	 * tasks of its successors from running.
+	 *
+	 * @param graph the graph
+	 * @param task  starts the task of a node, returning a future which is completed when the task is
+	 */
+	@VisibleForTesting
+	static <T> void runInDependencyOrder(Graph<T> graph, Function<T, CompletableFuture<Void>> task)
+	{
+		final Map<T, CompletableFuture<Void>> futures = new HashMap<>();
+		for (T node : graph.nodes())
+		{
+			scheduleNode(graph, node, task, futures);
+		}
+
+		CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+	}
+
+	private static <T> CompletableFuture<Void> scheduleNode(Graph<T> graph, T node, Function<T, CompletableFuture<Void>> task,
+		Map<T, CompletableFuture<Void>> futures)
+	{
+		CompletableFuture<Void> future = futures.get(node);
+		if (future != null)
+		{
+			return future;
+		}
+
+		final Set<T> predecessors = graph.predecessors(node);
+		final CompletableFuture<?>[] dependencies = new CompletableFuture[predecessors.size()];
+		int i = 0;
+		for (T predecessor : predecessors)
+		{
+			dependencies[i++] = scheduleNode(graph, predecessor, task, futures);
+		}
+
+		future = CompletableFuture.allOf(dependencies)
+			.thenCompose(v -> task.apply(node))
+			.exceptionally(ex ->
+			{
+				log.error("Error running task for {}", node, ex);
+				return null;
+			});
+		futures.put(node, future);
+		return future;
+	}
+
+	private static ExecutorService createLoaderExecutor(String name)
+	{
+		return Executors.newFixedThreadPool(LOADER_THREADS, r ->
+		{
+			Thread thread = new Thread(r, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
 	/**
 	 * Topologically sort a graph. Uses Kahn's algorithm.
 	 *
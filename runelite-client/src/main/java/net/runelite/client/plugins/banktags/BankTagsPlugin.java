@@ -56,6 +56,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.SpriteManager;
@@ -162,6 +163,10 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 	@Getter
 	private int options;
 
+	// the bank search filter is run for every item, so reuse the tag built for the current search
+	private String searchFilter;
+	private BankTag searchFilterTag;
+
 	@Override
 	public void configure(Binder binder)
 	{
@@ -203,6 +208,7 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 	@Override
 	public void startUp()
 	{
+		tagManager.invalidateIndex();
 		cleanConfig();
 		spriteManager.addSpriteOverrides(TabSprites.values());
 		eventBus.register(tabInterface);
@@ -223,6 +229,9 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 			reinitBank();
 		});
 		spriteManager.removeSpriteOverrides(TabSprites.values());
+		tagManager.invalidateIndex();
+		searchFilter = null;
+		searchFilterTag = null;
 	}
 
 	private void reinitBank()
@@ -361,7 +370,12 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 					}
 
 					// Build a temporary BankTag using the search filter
-					tag = buildSearchFilterBankTag(searchfilter);
+					if (!searchfilter.equals(this.searchFilter))
+					{
+						searchFilterTag = buildSearchFilterBankTag(searchfilter);
+						this.searchFilter = searchfilter;
+					}
+					tag = searchFilterTag;
 				}
 
 				if (itemId == -1 && activeLayout != null)
@@ -480,10 +494,25 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 	@Subscribe
 	public void onConfigChanged(ConfigChanged configChanged)
 	{
-		if (configChanged.getGroup().equals(CONFIG_GROUP) && configChanged.getKey().equals("useTabs"))
+		if (!configChanged.getGroup().equals(CONFIG_GROUP))
+		{
+			return;
+		}
+
+		if (configChanged.getKey().equals("useTabs"))
 		{
 			clientThread.invokeLater(this::reinitBank);
 		}
+		else if (configChanged.getKey().startsWith(ITEM_KEY_PREFIX))
+		{
+			tagManager.updateIndex(configChanged.getKey(), configChanged.getNewValue());
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		tagManager.invalidateIndex();
 	}
 
 	public void openTag(String tag, Layout layout)
@@ -512,10 +541,19 @@ public class BankTagsPlugin extends Plugin implements BankTagsService
 
 	private BankTag buildSearchFilterBankTag(String tag)
 	{
-		// custom tags are combined with the tab
-		final BankTag custom = tagManager.findTag(tag);
-		return itemId -> tagManager.findTag(itemId, tag)
-			|| (custom != null && custom.contains(itemId));
+		final BankTag search = tagManager.searchTags(tag);
+		return itemId ->
+		{
+			if (search.contains(itemId))
+			{
+				return true;
+			}
+
+			// custom tags are combined with the tab. They are looked up each time, since they can be
+			// registered or removed while the search is kept.
+			final BankTag custom = tagManager.findTag(tag);
+			return custom != null && custom.contains(itemId);
+		};
 	}
 
 	public void openBankTag(String name)
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import net.runelite.client.util.Text;
+
+/**
+ * An in-memory index of item tags. Items are keyed by their tag config id, which is negative
+ * for tags applied to all variations of an item.
+ */
+class TagIndex
+{
+	static final class Items
+	{
+		final BitSet items = new BitSet();
+		final BitSet variations = new BitSet();
+
+		boolean contains(int itemId, int variationId)
+		{
+			return (itemId >= 0 && items.get(itemId)) || (variationId >= 0 && variations.get(variationId));
+		}
+
+		boolean isEmpty()
+		{
+			return items.isEmpty() && variations.isEmpty();
+		}
+
+		private void or(Items other)
+		{
+			items.or(other.items);
+			variations.or(other.variations);
+		}
+
+		private BitSet bits(int id)
+		{
+			return id < 0 ? variations : items;
+		}
+	}
+
+	private final Map<Integer, Set<String>> itemTags = new HashMap<>();
+	// sorted so that tags sharing a prefix are adjacent
+	private final NavigableMap<String, Items> tags = new TreeMap<>();
+	private int modCount;
+
+	/**
+	 * Replace the tags of an item
+	 * @param id the tag config id
+	 * @param tagString the comma separated tags, or null if the item has no tags
+	 */
+	synchronized void put(int id, String tagString)
+	{
+		Set<String> old = itemTags.remove(id);
+		if (old != null)
+		{
+			for (String tag : old)
+			{
+				Items items = tags.get(tag);
+				items.bits(id).clear(Math.abs(id));
+				if (items.isEmpty())
+				{
+					tags.remove(tag);
+				}
+			}
+		}
+
+		if (tagString != null && !tagString.isEmpty())
+		{
+			Set<String> parsed = new LinkedHashSet<>(Text.fromCSV(tagString.toLowerCase()));
+			itemTags.put(id, parsed);
+			for (String tag : parsed)
+			{
+				tags.computeIfAbsent(tag, k -> new Items()).bits(id).set(Math.abs(id));
+			}
+		}
+
+		++modCount;
+	}
+
+	synchronized int getModCount()
+	{
+		return modCount;
+	}
+
+	/**
+	 * Get the items with exactly the given tag
+	 */
+	synchronized Items getItems(String tag)
+	{
+		Items result = new Items();
+		Items items = tags.get(tag);
+		if (items != null)
+		{
+			result.or(items);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the items with any tag starting with the given prefix
+	 */
+	synchronized Items search(String prefix)
+	{
+		Items result = new Items();
+		for (Map.Entry<String, Items> entry : tags.tailMap(prefix, true).entrySet())
+		{
+			if (!entry.getKey().startsWith(prefix))
+			{
+				break;
+			}
+			result.or(entry.getValue());
+		}
+		return result;
+	}
+}
@@ -26,14 +26,15 @@
 package net.runelite.client.plugins.banktags;
 
 import com.google.common.base.Strings;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
@@ -42,12 +43,14 @@ import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFI
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.TAG_HIDDEN_PREFIX;
 import net.runelite.client.util.Text;
 
+@Slf4j
 @Singleton
 public class TagManager
 {
 	private final ConfigManager configManager;
 	private final ItemManager itemManager;
 	private final Map<String, BankTag> customTags = new HashMap<>();
+	private TagIndex index;
 
 	@Inject
 	private TagManager(
@@ -115,28 +118,52 @@ public class TagManager
 
 	boolean findTag(int itemId, String search)
 	{
-		Collection<String> tags = getTags(itemId, false);
-		tags.addAll(getTags(itemId, true));
-		return tags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search)));
+		return searchTags(search).contains(itemId);
+	}
+
+	/**
+	 * Build a {@link BankTag} matching items with any tag starting with {@code search}.
+	 * The matching items are computed once, and again only after the tags change.
+	 */
+	BankTag searchTags(String search)
+	{
+		final String prefix = Text.standardize(search);
+		return new BankTag()
+		{
+			private TagIndex searched;
+			private int modCount;
+			private TagIndex.Items items;
+
+			@Override
+			public boolean contains(int itemId)
+			{
+				TagIndex index = getIndex();
+				int mod = index.getModCount();
+				if (searched != index || modCount != mod || items == null)
+				{
+					items = index.search(prefix);
+					searched = index;
+					modCount = mod;
+				}
+
+				int canonId = itemManager.canonicalize(Math.abs(itemId));
+				return items.contains(canonId, ItemVariationMapping.map(canonId));
+			}
+		};
 	}
 
 	public List<Integer> getItemsForTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		return configManager.getConfigurationKeys(prefix).stream()
-			.map(item -> Integer.parseInt(item.replace(prefix, "")))
-			.filter(item -> getTags(item, false).contains(tag) || getTags(item, true).contains(tag))
-			.collect(Collectors.toList());
+		TagIndex.Items items = getIndex().getItems(tag);
+		List<Integer> ids = new ArrayList<>(items.items.cardinality() + items.variations.cardinality());
+		items.items.stream().forEach(ids::add);
+		items.variations.stream().forEach(id -> ids.add(-id));
+		return ids;
 	}
 
 	public void removeTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		configManager.getConfigurationKeys(prefix).forEach(item ->
-		{
-			int id = Integer.parseInt(item.replace(prefix, ""));
-			removeTag(id, tag);
-		});
+		getItemsForTag(Text.standardize(tag)).forEach(id -> removeTag(id, tag));
 
 		setHidden(tag, false);
 	}
@@ -187,6 +214,57 @@ public class TagManager
 		}
 	}
 
+	private synchronized TagIndex getIndex()
+	{
+		if (index == null)
+		{
+			final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
+			TagIndex newIndex = new TagIndex();
+			for (String wholeKey : configManager.getConfigurationKeys(prefix))
+			{
+				String key = wholeKey.substring(CONFIG_GROUP.length() + 1);
+				updateIndex(newIndex, key, configManager.getConfiguration(CONFIG_GROUP, key));
+			}
+			index = newIndex;
+		}
+		return index;
+	}
+
+	/**
+	 * Update the tag index from a change to a banktags config key
+	 */
+	synchronized void updateIndex(String key, String value)
+	{
+		if (index != null && key.startsWith(ITEM_KEY_PREFIX))
+		{
+			updateIndex(index, key, value);
+		}
+	}
+
+	/**
+	 * Discard the tag index, it is rebuilt from the config the next time it is used
+	 */
+	synchronized void invalidateIndex()
+	{
+		index = null;
+	}
+
+	private static void updateIndex(TagIndex index, String key, String value)
+	{
+		int id;
+		try
+		{
+			id = Integer.parseInt(key.substring(ITEM_KEY_PREFIX.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("Ignoring invalid bank tag key {}", key);
+			return;
+		}
+
+		index.put(id, value);
+	}
+
 	private int getItemId(int itemId, boolean variation)
 	{
 		itemId = Math.abs(itemId);
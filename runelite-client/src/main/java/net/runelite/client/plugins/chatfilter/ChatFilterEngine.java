@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the text matched by a set of chat filters. The filtered words are compiled into a
+ * single Aho-Corasick automaton so a message is scanned once regardless of how many words
+ * are filtered, and the regex filters are then run over it one by one.
+ * <p>
+ * Words are matched case insensitively for ASCII letters only, the same as a quoted
+ * {@link Pattern#CASE_INSENSITIVE} pattern.
+ */
+class ChatFilterEngine
+{
+	static final ChatFilterEngine EMPTY = new ChatFilterEngine(Collections.emptyList(), Collections.emptyList());
+
+	private final int[] wordLengths;
+	// chars used in the words, sorted, and their class in the transition table. class 0 is every other char.
+	private final char[] alphabet;
+	private final int numClasses;
+	private final int[] asciiClasses = new int[128];
+	// full DFA, with the failure transitions folded in
+	private final int[] transitions;
+	// words ending at each state, including those reached through failure links
+	private final int[][] outputs;
+
+	private final Pattern[] regexes;
+
+	ChatFilterEngine(Collection<String> words, List<Pattern> regexes)
+	{
+		List<String> wordList = new ArrayList<>(new LinkedHashSet<>(words));
+		wordList.removeIf(String::isEmpty);
+		wordLengths = new int[wordList.size()];
+
+		StringBuilder chars = new StringBuilder();
+		for (int i = 0; i < wordList.size(); ++i)
+		{
+			String word = fold(wordList.get(i));
+			wordList.set(i, word);
+			wordLengths[i] = word.length();
+			chars.append(word);
+		}
+		alphabet = chars.chars().distinct().sorted().collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+			.toString().toCharArray();
+		numClasses = alphabet.length + 1;
+		for (int i = 0; i < alphabet.length && alphabet[i] < asciiClasses.length; ++i)
+		{
+			asciiClasses[alphabet[i]] = i + 1;
+		}
+
+		// build the trie
+		List<int[]> gotos = new ArrayList<>();
+		List<List<Integer>> outs = new ArrayList<>();
+		gotos.add(newState());
+		outs.add(new ArrayList<>());
+		for (int w = 0; w < wordList.size(); ++w)
+		{
+			String word = wordList.get(w);
+			int state = 0;
+			for (int i = 0; i < word.length(); ++i)
+			{
+				int c = classOf(word.charAt(i));
+				int next = gotos.get(state)[c];
+				if (next <= 0)
+				{
+					next = gotos.size();
+					gotos.add(newState());
+					outs.add(new ArrayList<>());
+					gotos.get(state)[c] = next;
+				}
+				state = next;
+			}
+			outs.get(state).add(w);
+		}
+
+		// breadth first fill in the failure transitions
+		final int numStates = gotos.size();
+		final int[] fail = new int[numStates];
+		transitions = new int[numStates * numClasses];
+		outputs = new int[numStates][];
+
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int c = 0; c < numClasses; ++c)
+		{
+			int next = gotos.get(0)[c];
+			if (next > 0)
+			{
+				fail[next] = 0;
+				queue.add(next);
+				transitions[c] = next;
+			}
+		}
+
+		while (!queue.isEmpty())
+		{
+			int state = queue.remove();
+			outs.get(state).addAll(outs.get(fail[state]));
+
+			for (int c = 0; c < numClasses; ++c)
+			{
+				int next = gotos.get(state)[c];
+				if (next > 0)
+				{
+					fail[next] = transitions[fail[state] * numClasses + c];
+					queue.add(next);
+					transitions[state * numClasses + c] = next;
+				}
+				else
+				{
+					transitions[state * numClasses + c] = transitions[fail[state] * numClasses + c];
+				}
+			}
+		}
+
+		for (int state = 0; state < numStates; ++state)
+		{
+			List<Integer> out = outs.get(state);
+			outputs[state] = out.isEmpty() ? null : out.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		this.regexes = regexes.toArray(new Pattern[0]);
+	}
+
+	boolean isEmpty()
+	{
+		return wordLengths.length == 0 && regexes.length == 0;
+	}
+
+	/**
+	 * Test if any filter matches the text
+	 */
+	boolean matchesAny(String text)
+	{
+		int state = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			state = transitions[state * numClasses + classOf(fold(text.charAt(i)))];
+			if (outputs[state] != null)
+			{
+				return true;
+			}
+		}
+
+		for (Pattern regex : regexes)
+		{
+			if (regex.matcher(text).find())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find the spans of the text matched by the filters. Each filter matches the same
+	 * non-overlapping spans {@link Matcher#find()} would find.
+	 *
+	 * @return the sorted, disjoint spans as start, end pairs, or null if no filter matched.
+	 * The array is empty if the only matches were empty.
+	 */
+	int[] findMatches(String text)
+	{
+		boolean matched = false;
+		long[] spans = null;
+		int numSpans = 0;
+
+		int[] lastEnd = null;
+		int state = 0;
+		for (int i = 0; i < text.length(); ++i)
+		{
+			state = transitions[state * numClasses + classOf(fold(text.charAt(i)))];
+			final int[] out = outputs[state];
+			if (out == null)
+			{
+				continue;
+			}
+
+			if (lastEnd == null)
+			{
+				lastEnd = new int[wordLengths.length];
+				spans = new long[8];
+			}
+
+			for (int word : out)
+			{
+				int start = i + 1 - wordLengths[word];
+				// like Matcher.find(), the next match of a word starts after the end of the last
+				if (start >= lastEnd[word])
+				{
+					lastEnd[word] = i + 1;
+					if (numSpans == spans.length)
+					{
+						spans = Arrays.copyOf(spans, numSpans * 2);
+					}
+					spans[numSpans++] = span(start, i + 1);
+				}
+			}
+		}
+
+		for (Pattern regex : regexes)
+		{
+			Matcher m = regex.matcher(text);
+			while (m.find())
+			{
+				matched = true;
+				if (m.end() > m.start())
+				{
+					if (spans == null)
+					{
+						spans = new long[8];
+					}
+					else if (numSpans == spans.length)
+					{
+						spans = Arrays.copyOf(spans, numSpans * 2);
+					}
+					spans[numSpans++] = span(m.start(), m.end());
+				}
+			}
+		}
+
+		if (numSpans == 0)
+		{
+			return matched ? new int[0] : null;
+		}
+
+		// merge overlapping spans
+		Arrays.sort(spans, 0, numSpans);
+		int[] merged = new int[numSpans * 2];
+		int count = 0;
+		for (int i = 0; i < numSpans; ++i)
+		{
+			int start = (int) (spans[i] >>> 32);
+			int end = (int) spans[i];
+			if (count > 0 && start <= merged[count - 1])
+			{
+				merged[count - 1] = Math.max(merged[count - 1], end);
+			}
+			else
+			{
+				merged[count++] = start;
+				merged[count++] = end;
+			}
+		}
+		return Arrays.copyOf(merged, count);
+	}
+
+	/**
+	 * Replace the spans found by {@link #findMatches(String)} with asterisks
+	 */
+	static String censor(String message, int[] spans)
+	{
+		char[] chars = message.toCharArray();
+		for (int i = 0; i < spans.length; i += 2)
+		{
+			Arrays.fill(chars, spans[i], spans[i + 1], '*');
+		}
+		return new String(chars);
+	}
+
+	private int[] newState()
+	{
+		int[] state = new int[numClasses];
+		Arrays.fill(state, -1);
+		return state;
+	}
+
+	private int classOf(char c)
+	{
+		if (c < asciiClasses.length)
+		{
+			return asciiClasses[c];
+		}
+
+		int idx = Arrays.binarySearch(alphabet, c);
+		return idx < 0 ? 0 : idx + 1;
+	}
+
+	private static long span(int start, int end)
+	{
+		return (long) start << 32 | end;
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String fold(String s)
+	{
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+}
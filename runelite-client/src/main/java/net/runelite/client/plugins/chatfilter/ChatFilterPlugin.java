@@ -38,7 +38,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -98,7 +97,7 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
-	private List<Pattern> filteredPatterns = Collections.emptyList();
+	private ChatFilterEngine filterEngine = ChatFilterEngine.EMPTY;
 	private List<Pattern> filteredNamePatterns = Collections.emptyList();
 
 	private static class Duplicate
@@ -153,7 +152,7 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns = Collections.emptyList();
+		filterEngine = ChatFilterEngine.EMPTY;
 		filteredNamePatterns = Collections.emptyList();
 		duplicateChatCache.clear();
 		filterCache.clear();
@@ -362,38 +361,19 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		final ChatFilterEngine engine = filterEngine;
+		switch (config.filterType())
 		{
-			Matcher m = pattern.matcher(strippedAccents);
-
-			StringBuilder sb = new StringBuilder();
-			int idx = 0;
-
-			while (m.find())
-			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						MatchResult matchResult = m.toMatchResult();
-						sb.append(strippedMessage, idx, matchResult.start())
-							.append(StringUtils.repeat('*', matchResult.group().length()));
-						idx = m.end();
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
-			}
-			sb.append(strippedMessage.substring(idx));
-
-			strippedMessage = sb.toString();
-			assert strippedMessage.length() == strippedAccents.length();
+			case CENSOR_WORDS:
+				int[] spans = engine.findMatches(strippedAccents);
+				return spans != null ? ChatFilterEngine.censor(strippedMessage, spans) : message;
+			case CENSOR_MESSAGE:
+				return engine.matchesAny(strippedAccents) ? CENSOR_MESSAGE : message;
+			case REMOVE_MESSAGE:
+				return engine.matchesAny(strippedAccents) ? null : message;
 		}
 
-		return filtered ? strippedMessage : message;
+		return message;
 	}
 
 	private String censorMessage(MessageNode messageNode, String username, String message)
@@ -417,13 +397,13 @@ public class ChatFilterPlugin extends Plugin
 
 	void updateFilteredPatterns()
 	{
+		List<String> words = new ArrayList<>();
 		List<Pattern> patterns = new ArrayList<>();
 		List<Pattern> namePatterns = new ArrayList<>();
 
 		Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.forEach(words::add);
 
 		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(this::stripAccents)
@@ -437,7 +417,7 @@ public class ChatFilterPlugin extends Plugin
 			.filter(Objects::nonNull)
 			.forEach(namePatterns::add);
 
-		filteredPatterns = patterns;
+		filterEngine = new ChatFilterEngine(words, patterns);
 		filteredNamePatterns = namePatterns;
 
 		filterCache.clear();
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JLabel;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.TaskPriority;
+import net.runelite.client.callback.TaskStats;
+
+class ClientThreadProfiler extends ProfilerFrame<TaskStats>
+{
+	private static final int COL_TOTAL = 4;
+
+	private static final List<Column<TaskStats>> COLUMNS = List.of(
+		new Column<>("Submitter", String.class, TaskStats::getSubmitter),
+		new Column<>("Tasks", Long.class, TaskStats::getTasks),
+		new Column<>("Runs", Long.class, TaskStats::getRuns),
+		new Column<>("Deferrals", Long.class, TaskStats::getDeferrals),
+		new Column<>("Total ms", Double.class, s -> s.getTotalNanos() / 1_000_000.0),
+		new Column<>("Max us", Double.class, s -> s.getMaxNanos() / 1_000.0),
+		new Column<>("Mean latency ms", Double.class, s -> s.getAverageLatencyNanos() / 1_000_000.0),
+		new Column<>("Max latency ms", Double.class, s -> s.getMaxLatencyNanos() / 1_000_000.0)
+	);
+
+	private final ClientThread clientThread;
+	private final JLabel queueDepth = new JLabel();
+
+	@Inject
+	ClientThreadProfiler(ClientThread clientThread)
+	{
+		super("RuneLite Client Thread Profiler", clientThread::getTaskStats, clientThread::resetTaskStats, COLUMNS, COL_TOTAL);
+		this.clientThread = clientThread;
+		addOption(queueDepth);
+	}
+
+	@Override
+	void refresh()
+	{
+		super.refresh();
+		queueDepth.setText(String.format("Queued: %d high, %d normal, %d low, %d tick end",
+			clientThread.getQueueDepth(TaskPriority.HIGH),
+			clientThread.getQueueDepth(TaskPriority.NORMAL),
+			clientThread.getQueueDepth(TaskPriority.LOW),
+			clientThread.getTickEndQueueDepth()));
+	}
+}
@@ -60,6 +60,9 @@ class DevToolsPanel extends PluginPanel
 	private final VarInspector varInspector;
 	private final ScriptInspector scriptInspector;
 	private final InventoryInspector inventoryInspector;
+	private final EventProfiler eventProfiler;
+	private final OverlayProfiler overlayProfiler;
+	private final ClientThreadProfiler clientThreadProfiler;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
 
@@ -73,6 +76,9 @@ class DevToolsPanel extends PluginPanel
 		VarInspector varInspector,
 		ScriptInspector scriptInspector,
 		InventoryInspector inventoryInspector,
+		EventProfiler eventProfiler,
+		OverlayProfiler overlayProfiler,
+		ClientThreadProfiler clientThreadProfiler,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
 		ScheduledExecutorService scheduledExecutorService)
@@ -85,6 +91,9 @@ class DevToolsPanel extends PluginPanel
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
 		this.inventoryInspector = inventoryInspector;
+		this.eventProfiler = eventProfiler;
+		this.overlayProfiler = overlayProfiler;
+		this.clientThreadProfiler = clientThreadProfiler;
 		this.scriptInspector = scriptInspector;
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
@@ -200,6 +209,15 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getMenus());
 
+		container.add(plugin.getEventProfiler());
+		plugin.getEventProfiler().addFrame(eventProfiler);
+
+		container.add(plugin.getOverlayProfiler());
+		plugin.getOverlayProfiler().addFrame(overlayProfiler);
+
+		container.add(plugin.getClientThreadProfiler());
+		plugin.getClientThreadProfiler().addFrame(clientThreadProfiler);
+
 		try
 		{
 			FlatUIDefaultsInspector.class.getName();
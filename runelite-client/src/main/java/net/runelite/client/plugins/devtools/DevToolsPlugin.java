@@ -171,6 +171,9 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton tileFlags;
 	private DevToolsButton shell;
 	private DevToolsButton menus;
+	private DevToolsButton eventProfiler;
+	private DevToolsButton overlayProfiler;
+	private DevToolsButton clientThreadProfiler;
 	private DevToolsButton uiDefaultsInspector;
 	private NavigationButton navButton;
 
@@ -272,6 +275,9 @@ public class DevToolsPlugin extends Plugin
 		tileFlags = new DevToolsButton("Tile flags");
 		shell = new DevToolsButton("Shell");
 		menus = new DevToolsButton("Menus");
+		eventProfiler = new DevToolsButton("Event Profiler");
+		overlayProfiler = new DevToolsButton("Overlay Profiler");
+		clientThreadProfiler = new DevToolsButton("Client Thread Profiler");
 
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberStats;
+
+class EventProfiler extends ProfilerFrame<SubscriberStats>
+{
+	private static final int COL_TOTAL = 3;
+
+	private final EventBus eventBus;
+
+	@Inject
+	EventProfiler(EventBus eventBus)
+	{
+		super("RuneLite Event Profiler", eventBus::getSubscriberStats, eventBus::resetSubscriberStats, columns(), COL_TOTAL);
+		this.eventBus = eventBus;
+	}
+
+	private static List<Column<SubscriberStats>> columns()
+	{
+		final List<Column<SubscriberStats>> columns = new ArrayList<>(List.of(
+			new Column<>("Event", String.class, s -> s.getEventClass().getSimpleName()),
+			new Column<>("Subscriber", String.class, SubscriberStats::getSubscriberName),
+			new Column<>("Calls", Long.class, SubscriberStats::getInvocations),
+			new Column<>("Total ms", Double.class, s -> s.getTotalNanos() / 1_000_000.0),
+			new Column<>("Avg us", Double.class, s -> s.getAverageNanos() / 1_000.0),
+			new Column<>("p99 us", Double.class, s -> s.getPercentileNanos(0.99) / 1_000.0),
+			new Column<>("Max us", Double.class, s -> s.getMaxNanos() / 1_000.0)
+		));
+		// allocations can only be shown if the jvm can count them
+		if (SubscriberStats.isAllocationSupported())
+		{
+			columns.add(new Column<>("Alloc KB", Double.class, s -> s.getAllocatedBytes() / 1024.0));
+		}
+		return columns;
+	}
+
+	@Override
+	public void open()
+	{
+		eventBus.setProfiling(true);
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		eventBus.setProfiling(false);
+		eventBus.resetSubscriberStats();
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.plugins.Plugin;
+import net.runelite.client.ui.overlay.OverlayRenderer;
+import net.runelite.client.ui.overlay.OverlayStats;
+
+class OverlayProfiler extends ProfilerFrame<OverlayStats>
+{
+	private static final int COL_MEAN = 3;
+
+	private static final List<Column<OverlayStats>> COLUMNS = List.of(
+		new Column<>("Overlay", String.class, s -> s.getOverlay().getName()),
+		new Column<>("Plugin", String.class, s ->
+		{
+			final Plugin plugin = s.getOverlay().getPlugin();
+			return plugin != null ? plugin.getName() : "";
+		}),
+		new Column<>("Renders", Long.class, OverlayStats::getRenders),
+		new Column<>("Mean us", Double.class, s -> s.getMeanNanos() / 1_000.0),
+		new Column<>("p99 us", Double.class, s -> s.getPercentileNanos(0.99) / 1_000.0),
+		new Column<>("Cached", Long.class, OverlayStats::getCachedDraws),
+		new Column<>("Deferred", Long.class, OverlayStats::getDeferred)
+	);
+
+	@Inject
+	OverlayProfiler(OverlayRenderer overlayRenderer)
+	{
+		super("RuneLite Overlay Profiler", overlayRenderer::getOverlayStats, overlayRenderer::resetOverlayStats, COLUMNS, COL_MEAN);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.Value;
+
+/**
+ * A frame with a table of profiling stats, which is refreshed while the frame is open.
+ *
+ * @param <T> the type of the rows of the table
+ */
+abstract class ProfilerFrame<T> extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+
+	@Value
+	static class Column<T>
+	{
+		String name;
+		Class<?> type;
+		Function<T, Object> value;
+	}
+
+	private final Supplier<List<T>> rows;
+	private final StatsTableModel<T> model;
+	private final JPanel options = new JPanel(new FlowLayout());
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	/**
+	 * @param rows supplies the current stats
+	 * @param reset resets the stats
+	 * @param columns the columns of the table
+	 * @param sortColumn the column to sort the table by, in descending order
+	 */
+	ProfilerFrame(String title, Supplier<List<T>> rows, Runnable reset, List<Column<T>> columns, int sortColumn)
+	{
+		this.rows = rows;
+		this.model = new StatsTableModel<>(columns);
+
+		setTitle(title);
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getRowSorter().setSortKeys(Collections.singletonList(new RowSorter.SortKey(sortColumn, SortOrder.DESCENDING)));
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			reset.run();
+			refresh();
+		});
+		options.add(resetBtn);
+		add(options, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	/**
+	 * Adds a component to the left of the reset button
+	 */
+	void addOption(Component component)
+	{
+		options.add(component, options.getComponentCount() - 1);
+		pack();
+	}
+
+	void refresh()
+	{
+		model.setStats(rows.get());
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+		model.setStats(Collections.emptyList());
+	}
+
+	private static class StatsTableModel<T> extends AbstractTableModel
+	{
+		private final List<Column<T>> columns;
+		private List<T> stats = Collections.emptyList();
+
+		StatsTableModel(List<Column<T>> columns)
+		{
+			this.columns = columns;
+		}
+
+		void setStats(List<T> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return columns.size();
+		}
+
+		@Override
+		public String getColumnName(int column)
+		{
+			return columns.get(column).getName();
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column)
+		{
+			return columns.get(column).getType();
+		}
+
+		@Override
+		public Object getValueAt(int row, int column)
+		{
+			return columns.get(column).getValue().apply(stats.get(row));
+		}
+	}
+}
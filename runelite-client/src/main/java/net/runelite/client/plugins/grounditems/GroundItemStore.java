@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Ground items keyed by tile and item id. Tiles of the top level world view
+ * are additionally indexed by 8x8 zone so that the overlay only needs to visit
+ * the items near the player, instead of every item in the scene.
+ */
+class GroundItemStore
+{
+	private static final int ZONE_SHIFT = 3;
+
+	private final LongMap<ItemTile> tiles = new LongMap<>();
+	private final LongMap<Zone> zones = new LongMap<>();
+	// tiles of other world views, which are always visited
+	private final List<ItemTile> detached = new ArrayList<>();
+	private int size;
+
+	GroundItem get(WorldPoint point, int itemId)
+	{
+		ItemTile tile = tiles.get(pack(point.getPlane(), point.getX(), point.getY()));
+		return tile != null ? tile.get(itemId) : null;
+	}
+
+	/**
+	 * Add an item to the tile at {@code point}, replacing any item with the same id
+	 *
+	 * @param worldView the id of the world view the tile is in
+	 */
+	void put(WorldPoint point, int worldView, GroundItem item)
+	{
+		long key = pack(point.getPlane(), point.getX(), point.getY());
+		ItemTile tile = tiles.get(key);
+		if (tile == null)
+		{
+			tile = new ItemTile(point, worldView);
+			tiles.put(key, tile);
+			if (worldView == WorldView.TOPLEVEL)
+			{
+				long zoneKey = zoneKey(point);
+				Zone zone = zones.get(zoneKey);
+				if (zone == null)
+				{
+					zone = new Zone();
+					zones.put(zoneKey, zone);
+				}
+				zone.add(tile);
+			}
+			else
+			{
+				detached.add(tile);
+			}
+		}
+
+		if (tile.put(item))
+		{
+			++size;
+		}
+	}
+
+	GroundItem remove(WorldPoint point, int itemId)
+	{
+		long key = pack(point.getPlane(), point.getX(), point.getY());
+		ItemTile tile = tiles.get(key);
+		if (tile == null)
+		{
+			return null;
+		}
+
+		GroundItem item = tile.remove(itemId);
+		if (item != null)
+		{
+			--size;
+			if (tile.count == 0)
+			{
+				removeTile(key, tile);
+			}
+		}
+		return item;
+	}
+
+	/**
+	 * Remove all items matching {@code filter}
+	 *
+	 * @return the number of items removed
+	 */
+	int removeIf(Predicate<GroundItem> filter)
+	{
+		List<ItemTile> emptied = new ArrayList<>();
+		int removed = 0;
+		for (int i = 0; i < tiles.capacity(); ++i)
+		{
+			ItemTile tile = tiles.valueAt(i);
+			if (tile == null)
+			{
+				continue;
+			}
+
+			int before = tile.count;
+			tile.removeIf(filter);
+			removed += before - tile.count;
+			if (tile.count == 0)
+			{
+				emptied.add(tile);
+			}
+		}
+
+		for (ItemTile tile : emptied)
+		{
+			WorldPoint point = tile.point;
+			removeTile(pack(point.getPlane(), point.getX(), point.getY()), tile);
+		}
+
+		size -= removed;
+		return removed;
+	}
+
+	void clear()
+	{
+		tiles.clear();
+		zones.clear();
+		detached.clear();
+		size = 0;
+	}
+
+	/**
+	 * @return the number of tracked items
+	 */
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return the items on the tile at {@code point}
+	 */
+	Collection<GroundItem> getItems(WorldPoint point)
+	{
+		ItemTile tile = tiles.get(pack(point.getPlane(), point.getX(), point.getY()));
+		if (tile == null)
+		{
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(tile.items).subList(0, tile.count));
+	}
+
+	/**
+	 * @return a copy of the locations of all tiles with items on them
+	 */
+	List<WorldPoint> getLocations()
+	{
+		List<WorldPoint> points = new ArrayList<>(tiles.size());
+		for (int i = 0; i < tiles.capacity(); ++i)
+		{
+			ItemTile tile = tiles.valueAt(i);
+			if (tile != null)
+			{
+				points.add(tile.point);
+			}
+		}
+		return points;
+	}
+
+	/**
+	 * @return a copy of all items
+	 */
+	List<GroundItem> values()
+	{
+		List<GroundItem> items = new ArrayList<>(size);
+		forEach(items::add);
+		return items;
+	}
+
+	void forEach(Consumer<GroundItem> consumer)
+	{
+		for (int i = 0; i < tiles.capacity(); ++i)
+		{
+			ItemTile tile = tiles.valueAt(i);
+			if (tile != null)
+			{
+				tile.forEach(consumer);
+			}
+		}
+	}
+
+	/**
+	 * Visit the items of the top level world view on {@code plane} within
+	 * the given bounds, inclusive.
+	 */
+	void query(int plane, int minX, int minY, int maxX, int maxY, Consumer<GroundItem> consumer)
+	{
+		int minZoneX = minX >> ZONE_SHIFT;
+		int minZoneY = minY >> ZONE_SHIFT;
+		int maxZoneX = maxX >> ZONE_SHIFT;
+		int maxZoneY = maxY >> ZONE_SHIFT;
+
+		if ((long) (maxZoneX - minZoneX + 1) * (maxZoneY - minZoneY + 1) > zones.size())
+		{
+			// the bounds cover more zones than there are populated zones
+			for (int i = 0; i < zones.capacity(); ++i)
+			{
+				Zone zone = zones.valueAt(i);
+				if (zone != null)
+				{
+					zone.query(plane, minX, minY, maxX, maxY, consumer);
+				}
+			}
+			return;
+		}
+
+		for (int zx = minZoneX; zx <= maxZoneX; ++zx)
+		{
+			for (int zy = minZoneY; zy <= maxZoneY; ++zy)
+			{
+				Zone zone = zones.get(pack(plane, zx, zy));
+				if (zone != null)
+				{
+					zone.query(plane, minX, minY, maxX, maxY, consumer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Visit the items which are not in the top level world view
+	 */
+	void forEachDetached(Consumer<GroundItem> consumer)
+	{
+		for (ItemTile tile : detached)
+		{
+			tile.forEach(consumer);
+		}
+	}
+
+	private void removeTile(long key, ItemTile tile)
+	{
+		tiles.remove(key);
+		if (tile.worldView == WorldView.TOPLEVEL)
+		{
+			long zoneKey = zoneKey(tile.point);
+			Zone zone = zones.get(zoneKey);
+			if (zone.remove(tile))
+			{
+				zones.remove(zoneKey);
+			}
+		}
+		else
+		{
+			detached.remove(tile);
+		}
+	}
+
+	private static long zoneKey(WorldPoint point)
+	{
+		return pack(point.getPlane(), point.getX() >> ZONE_SHIFT, point.getY() >> ZONE_SHIFT);
+	}
+
+	private static long pack(int plane, int x, int y)
+	{
+		return (long) plane << 48 | (x & 0xFFFFFFL) << 24 | (y & 0xFFFFFFL);
+	}
+
+	private static final class ItemTile
+	{
+		private final WorldPoint point;
+		private final int worldView;
+		private GroundItem[] items = new GroundItem[2];
+		private int count;
+
+		private ItemTile(WorldPoint point, int worldView)
+		{
+			this.point = point;
+			this.worldView = worldView;
+		}
+
+		private GroundItem get(int itemId)
+		{
+			for (int i = 0; i < count; ++i)
+			{
+				if (items[i].getItemId() == itemId)
+				{
+					return items[i];
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * @return true if the item was added, false if it replaced an existing item
+		 */
+		private boolean put(GroundItem item)
+		{
+			for (int i = 0; i < count; ++i)
+			{
+				if (items[i].getItemId() == item.getItemId())
+				{
+					items[i] = item;
+					return false;
+				}
+			}
+
+			if (count == items.length)
+			{
+				items = Arrays.copyOf(items, count * 2);
+			}
+			items[count++] = item;
+			return true;
+		}
+
+		private GroundItem remove(int itemId)
+		{
+			for (int i = 0; i < count; ++i)
+			{
+				GroundItem item = items[i];
+				if (item.getItemId() == itemId)
+				{
+					// keep the spawn order, which the overlay stacks the item names by
+					System.arraycopy(items, i + 1, items, i, count - i - 1);
+					items[--count] = null;
+					return item;
+				}
+			}
+			return null;
+		}
+
+		private void removeIf(Predicate<GroundItem> filter)
+		{
+			int j = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				if (!filter.test(items[i]))
+				{
+					items[j++] = items[i];
+				}
+			}
+			Arrays.fill(items, j, count, null);
+			count = j;
+		}
+
+		private void forEach(Consumer<GroundItem> consumer)
+		{
+			for (int i = 0; i < count; ++i)
+			{
+				consumer.accept(items[i]);
+			}
+		}
+	}
+
+	private static final class Zone
+	{
+		private final List<ItemTile> tiles = new ArrayList<>(4);
+
+		private void add(ItemTile tile)
+		{
+			tiles.add(tile);
+		}
+
+		/**
+		 * @return true if the zone is now empty
+		 */
+		private boolean remove(ItemTile tile)
+		{
+			tiles.remove(tile);
+			return tiles.isEmpty();
+		}
+
+		private void query(int plane, int minX, int minY, int maxX, int maxY, Consumer<GroundItem> consumer)
+		{
+			for (ItemTile tile : tiles)
+			{
+				WorldPoint point = tile.point;
+				if (point.getPlane() == plane
+					&& point.getX() >= minX && point.getX() <= maxX
+					&& point.getY() >= minY && point.getY() <= maxY)
+				{
+					tile.forEach(consumer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Open addressed map of long keys, with backward shift deletion
+	 */
+	private static final class LongMap<V>
+	{
+		private static final long EMPTY = Long.MIN_VALUE;
+
+		private long[] keys;
+		private Object[] values;
+		private int size;
+
+		private LongMap()
+		{
+			allocate(16);
+		}
+
+		private int size()
+		{
+			return size;
+		}
+
+		@SuppressWarnings("unchecked")
+		private V get(long key)
+		{
+			int mask = keys.length - 1;
+			for (int i = hash(key) & mask; keys[i] != EMPTY; i = (i + 1) & mask)
+			{
+				if (keys[i] == key)
+				{
+					return (V) values[i];
+				}
+			}
+			return null;
+		}
+
+		private void put(long key, V value)
+		{
+			if ((size + 1) * 2 > keys.length)
+			{
+				rehash(keys.length * 2);
+			}
+
+			int mask = keys.length - 1;
+			int i = hash(key) & mask;
+			for (; keys[i] != EMPTY; i = (i + 1) & mask)
+			{
+				if (keys[i] == key)
+				{
+					values[i] = value;
+					return;
+				}
+			}
+
+			keys[i] = key;
+			values[i] = value;
+			++size;
+		}
+
+		private void remove(long key)
+		{
+			int mask = keys.length - 1;
+			int i = hash(key) & mask;
+			for (; keys[i] != key; i = (i + 1) & mask)
+			{
+				if (keys[i] == EMPTY)
+				{
+					return;
+				}
+			}
+
+			// shift back the following entries of the probe sequence into the hole
+			for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask)
+			{
+				int home = hash(keys[j]) & mask;
+				if (((j - home) & mask) >= ((j - i) & mask))
+				{
+					keys[i] = keys[j];
+					values[i] = values[j];
+					i = j;
+				}
+			}
+
+			keys[i] = EMPTY;
+			values[i] = null;
+			--size;
+		}
+
+		private void clear()
+		{
+			allocate(16);
+		}
+
+		private int capacity()
+		{
+			return keys.length;
+		}
+
+		/**
+		 * @return the value in {@code slot}, or null if the slot is empty
+		 */
+		@SuppressWarnings("unchecked")
+		private V valueAt(int slot)
+		{
+			return (V) values[slot];
+		}
+
+		private void allocate(int capacity)
+		{
+			keys = new long[capacity];
+			Arrays.fill(keys, EMPTY);
+			values = new Object[capacity];
+			size = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void rehash(int capacity)
+		{
+			long[] oldKeys = keys;
+			Object[] oldValues = values;
+			allocate(capacity);
+			for (int i = 0; i < oldKeys.length; ++i)
+			{
+				if (oldKeys[i] != EMPTY)
+				{
+					put(oldKeys[i], (V) oldValues[i]);
+				}
+			}
+		}
+
+		private static int hash(long key)
+		{
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+}
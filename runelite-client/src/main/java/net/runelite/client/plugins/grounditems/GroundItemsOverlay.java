@@ -34,8 +34,8 @@ import java.awt.Rectangle;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -64,6 +64,7 @@ import net.runelite.client.util.QuantityFormatter;
 public class GroundItemsOverlay extends Overlay
 {
 	private static final int MAX_DISTANCE = 2500;
+	private static final int MAX_TILE_DISTANCE = MAX_DISTANCE / Perspective.LOCAL_TILE_SIZE + 1;
 	// We must offset the text on the z-axis such that
 	// it doesn't obscure the ground items below it.
 	private static final int OFFSET_Z = 20;
@@ -83,6 +84,7 @@ public class GroundItemsOverlay extends Overlay
 	private final TextComponent textComponent = new TextComponent();
 	private final ProgressPieComponent progressPieComponent = new ProgressPieComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+	private final List<GroundItem> nearbyItems = new ArrayList<>();
 
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
@@ -115,14 +117,12 @@ public class GroundItemsOverlay extends Overlay
 
 		offsetMap.clear();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
+		final LocalPoint localLocation = player.getLocalLocation();
+		final List<GroundItem> groundItemList = collectNearbyItems(localLocation);
 		GroundItem topGroundItem = null;
 
 		if (plugin.isHotKeyPressed())
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
 			GroundItem groundItem = null;
 
@@ -171,7 +171,6 @@ public class GroundItemsOverlay extends Overlay
 		plugin.setHiddenBoxBounds(null);
 		plugin.setHighlightBoxBounds(null);
 
-		final LocalPoint localLocation = player.getLocalLocation();
 		final DespawnTimerMode groundItemTimers = config.groundItemTimers();
 		final boolean outline = config.textOutline();
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
@@ -388,6 +387,31 @@ public class GroundItemsOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Collect the items which may be close enough to the player to draw. Items of the top level
+	 * world view are looked up by zone around the player, instead of testing every tracked item.
+	 */
+	private List<GroundItem> collectNearbyItems(LocalPoint localLocation)
+	{
+		final GroundItemStore store = plugin.getCollectedGroundItems();
+		nearbyItems.clear();
+
+		if (localLocation.getWorldView() == WorldView.TOPLEVEL)
+		{
+			final WorldView wv = client.getTopLevelWorldView();
+			final WorldPoint playerPoint = WorldPoint.fromLocal(wv, localLocation.getX(), localLocation.getY(), wv.getPlane());
+			store.query(playerPoint.getPlane(),
+				playerPoint.getX() - MAX_TILE_DISTANCE, playerPoint.getY() - MAX_TILE_DISTANCE,
+				playerPoint.getX() + MAX_TILE_DISTANCE, playerPoint.getY() + MAX_TILE_DISTANCE,
+				nearbyItems::add);
+		}
+
+		// items of other world views are not limited by distance
+		store.forEachDetached(nearbyItems::add);
+
+		return nearbyItems;
+	}
+
 	private Instant calculateDespawnTime(GroundItem groundItem)
 	{
 		Instant spawnTime = groundItem.getSpawnTime();
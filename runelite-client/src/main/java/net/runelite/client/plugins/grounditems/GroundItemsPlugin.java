@@ -28,9 +28,7 @@ package net.runelite.client.plugins.grounditems;
 import com.google.common.base.MoreObjects;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Table;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.Rectangle;
@@ -190,7 +188,7 @@ public class GroundItemsPlugin extends Plugin
 	private ColorPickerManager colorPickerManager;
 
 	@Getter
-	private final Table<WorldPoint, Integer, GroundItem> collectedGroundItems = HashBasedTable.create();
+	private final GroundItemStore collectedGroundItems = new GroundItemStore();
 	private List<PriceHighlight> priceChecks = ImmutableList.of();
 	private LoadingCache<NamedQuantity, Boolean> highlightedItems;
 	private LoadingCache<NamedQuantity, Boolean> hiddenItems;
@@ -262,7 +260,7 @@ public class GroundItemsPlugin extends Plugin
 	public void onWorldViewUnloaded(WorldViewUnloaded event)
 	{
 		var wv = event.getWorldView();
-		collectedGroundItems.values().removeIf(g -> g.getItemLayer().getWorldView() == wv);
+		collectedGroundItems.removeIf(g -> g.getItemLayer().getWorldView() == wv);
 		lootbeams.values().removeIf(l -> l.getWorldView() == wv.getId());
 	}
 
@@ -283,7 +281,7 @@ public class GroundItemsPlugin extends Plugin
 		}
 		else
 		{
-			collectedGroundItems.put(tile.getWorldLocation(), item.getId(), groundItem);
+			collectedGroundItems.put(tile.getWorldLocation(), layer.getWorldView().getId(), groundItem);
 		}
 
 		if (shouldDisplayItem(config.ownershipFilterMode(), groundItem.getOwnership(), client.getVarbitValue(VarbitID.IRONMAN)))
@@ -489,7 +487,7 @@ public class GroundItemsPlugin extends Plugin
 
 		priceChecks = priceCheckBuilder.build();
 
-		clientThread.invokeLater(() -> collectedGroundItems.values().forEach(GroundItem::reset));
+		clientThread.invokeLater(() -> collectedGroundItems.forEach(GroundItem::reset));
 		clientThread.invokeLater(this::handleLootbeams);
 	}
 
@@ -761,7 +759,7 @@ public class GroundItemsPlugin extends Plugin
 
 		int highestPrice = -1;
 		GroundItem highestItem = null;
-		Collection<GroundItem> groundItems = collectedGroundItems.row(worldPoint).values();
+		Collection<GroundItem> groundItems = collectedGroundItems.getItems(worldPoint);
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(VarbitID.IRONMAN);
 		for (GroundItem groundItem : groundItems)
@@ -817,7 +815,7 @@ public class GroundItemsPlugin extends Plugin
 
 	private void handleLootbeams()
 	{
-		for (WorldPoint worldPoint : collectedGroundItems.rowKeySet())
+		for (WorldPoint worldPoint : collectedGroundItems.getLocations())
 		{
 			handleLootbeam(worldPoint);
 		}
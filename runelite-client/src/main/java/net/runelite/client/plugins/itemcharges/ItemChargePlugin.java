@@ -33,6 +33,7 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -56,6 +57,7 @@ import net.runelite.api.gameval.VarbitID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigKey;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -183,6 +185,8 @@ public class ItemChargePlugin extends Plugin
 	// Limits destroy callback to once per tick
 	private int lastCheckTick;
 	private final Map<EquipmentInventorySlot, ItemChargeInfobox> infoboxes = new EnumMap<>(EquipmentInventorySlot.class);
+	// charges are read for every item overlay drawn, so the config keys are only built once
+	private final Map<String, ChargeKeys> chargeKeys = new ConcurrentHashMap<>();
 	private boolean loginFlag;
 
 	@Provides
@@ -669,8 +673,10 @@ public class ItemChargePlugin extends Plugin
 
 	int getItemCharges(String key)
 	{
+		final ChargeKeys keys = chargeKeys.computeIfAbsent(key, ChargeKeys::new);
+
 		// Migrate old non-profile configurations
-		Integer i = configManager.getConfiguration(ItemChargeConfig.GROUP, key, Integer.class);
+		Integer i = configManager.getConfiguration(keys.legacy);
 		if (i != null)
 		{
 			configManager.unsetConfiguration(ItemChargeConfig.GROUP, key);
@@ -678,7 +684,7 @@ public class ItemChargePlugin extends Plugin
 			return i;
 		}
 
-		i = configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, key, Integer.class);
+		i = configManager.getConfiguration(keys.profile);
 		return i == null ? -1 : i;
 	}
 
@@ -700,4 +706,16 @@ public class ItemChargePlugin extends Plugin
 		}
 		return color;
 	}
+
+	private static final class ChargeKeys
+	{
+		private final ConfigKey<Integer> profile;
+		private final ConfigKey<Integer> legacy;
+
+		private ChargeKeys(String key)
+		{
+			profile = ConfigKey.rsProfile(ItemChargeConfig.GROUP, key, Integer.class);
+			legacy = ConfigKey.of(ItemChargeConfig.GROUP, key, Integer.class);
+		}
+	}
 }
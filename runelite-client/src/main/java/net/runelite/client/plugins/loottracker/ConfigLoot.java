@@ -25,15 +25,14 @@
 package net.runelite.client.plugins.loottracker;
 
 import java.time.Instant;
-import java.util.Arrays;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
 import net.runelite.http.api.loottracker.LootRecordType;
 
+/**
+ * Loot as it was stored, as json, in the profile config before the
+ * {@link LootStore}. Only used to migrate the old config.
+ */
 @Data
-@NoArgsConstructor
-@EqualsAndHashCode(of = {"type", "name"})
 class ConfigLoot
 {
 	LootRecordType type;
@@ -42,36 +41,4 @@ class ConfigLoot
 	Instant first = Instant.now();
 	Instant last;
 	int[] drops;
-
-	ConfigLoot(LootRecordType type, String name)
-	{
-		this.type = type;
-		this.name = name;
-		this.drops = new int[0];
-	}
-
-	void add(int id, int qty)
-	{
-		for (int i = 0; i < drops.length; i += 2)
-		{
-			if (drops[i] == id)
-			{
-				drops[i + 1] += qty;
-				if (drops[i + 1] < 0)
-				{
-					drops[i + 1] = Integer.MAX_VALUE;
-				}
-				return;
-			}
-		}
-
-		drops = Arrays.copyOf(drops, drops.length + 2);
-		drops[drops.length - 2] = id;
-		drops[drops.length - 1] = qty;
-	}
-
-	int numDrops()
-	{
-		return drops.length / 2;
-	}
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.time.Instant;
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * The running totals of all loot received from a single source, with the
+ * item quantities kept in an open addressed id to index table.
+ */
+class LootAggregate
+{
+	private static final int INITIAL_CAPACITY = 8;
+
+	@Getter
+	private final LootRecordType type;
+	@Getter
+	private final String name;
+	@Getter
+	int kills;
+	@Getter
+	Instant first;
+	@Getter
+	Instant last;
+
+	private int[] ids = new int[INITIAL_CAPACITY];
+	private int[] quantities = new int[INITIAL_CAPACITY];
+	private int size;
+	// slot -> index into ids + 1, 0 if empty. Always at least twice the capacity of ids.
+	private int[] table = new int[INITIAL_CAPACITY * 2];
+
+	LootAggregate(LootRecordType type, String name, Instant first)
+	{
+		this.type = type;
+		this.name = name;
+		this.first = first;
+		this.last = first;
+	}
+
+	void add(int id, int qty)
+	{
+		final int mask = table.length - 1;
+		int slot = hash(id) & mask;
+		for (int idx; (idx = table[slot]) != 0; slot = (slot + 1) & mask)
+		{
+			if (ids[idx - 1] == id)
+			{
+				int q = quantities[idx - 1] + qty;
+				quantities[idx - 1] = q < 0 ? Integer.MAX_VALUE : q;
+				return;
+			}
+		}
+
+		if (size == ids.length)
+		{
+			grow();
+			add(id, qty);
+			return;
+		}
+
+		ids[size] = id;
+		quantities[size] = qty;
+		table[slot] = ++size;
+	}
+
+	void addAll(LootAggregate other)
+	{
+		kills += other.kills;
+		for (int i = 0; i < other.size; ++i)
+		{
+			add(other.ids[i], other.quantities[i]);
+		}
+	}
+
+	LootAggregate copy()
+	{
+		LootAggregate copy = new LootAggregate(type, name, first);
+		copy.last = last;
+		copy.kills = kills;
+		copy.ids = ids.clone();
+		copy.quantities = quantities.clone();
+		copy.size = size;
+		copy.table = table.clone();
+		return copy;
+	}
+
+	int numDrops()
+	{
+		return size;
+	}
+
+	int getId(int index)
+	{
+		return ids[index];
+	}
+
+	int getQuantity(int index)
+	{
+		return quantities[index];
+	}
+
+	private void grow()
+	{
+		final int capacity = ids.length * 2;
+		ids = Arrays.copyOf(ids, capacity);
+		quantities = Arrays.copyOf(quantities, capacity);
+		table = new int[capacity * 2];
+
+		final int mask = table.length - 1;
+		for (int i = 0; i < size; ++i)
+		{
+			int slot = hash(ids[i]) & mask;
+			while (table[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i + 1;
+		}
+	}
+
+	private static int hash(int id)
+	{
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Persists the loot of a single RuneScape profile as an append-only log of
+ * kill records, which is periodically compacted into a snapshot of the
+ * per-source totals. Log records are length prefixed and checksummed, so a
+ * record torn by a crash is discarded on the next load. The snapshot and the
+ * log both carry a generation, which compaction increments, so a log which is
+ * already included in the snapshot is not replayed again. The store is local
+ * to this machine; the plugin also keeps each source's totals in the profile
+ * config, in the {@link #encode(LootAggregate) encoded} form, to sync them.
+ */
+@Slf4j
+class LootStore implements Closeable
+{
+	static final String SNAPSHOT_FILE = "loot.dat";
+	static final String LOG_FILE = "loot.log";
+
+	private static final int SNAPSHOT_MAGIC = 0x4c4f4f54; // LOOT
+	private static final int SNAPSHOT_VERSION = 1;
+
+	private static final int LOG_MAGIC = 0x4c4f4f4c; // LOOL
+	static final int LOG_HEADER_SIZE = 12;
+
+	private static final byte OP_ADD = 1;
+	private static final byte OP_REMOVE = 2;
+
+	private static final long COMPACT_THRESHOLD = 256 * 1024;
+
+	private final File snapshotFile;
+	private final File logFile;
+	private final Map<String, LootAggregate> loots = new LinkedHashMap<>();
+	private FileOutputStream logOut;
+	// size of the log records, excluding the header
+	private long logSize;
+	private long generation;
+
+	private LootStore(File directory)
+	{
+		snapshotFile = new File(directory, SNAPSHOT_FILE);
+		logFile = new File(directory, LOG_FILE);
+	}
+
+	static LootStore open(File directory) throws IOException
+	{
+		if (!directory.exists() && !directory.mkdirs())
+		{
+			throw new IOException("unable to create directory " + directory);
+		}
+
+		LootStore store = new LootStore(directory);
+		store.loadSnapshot();
+		store.logOut = new FileOutputStream(store.logFile, true);
+		store.replayLog();
+		return store;
+	}
+
+	synchronized LootAggregate get(LootRecordType type, String name)
+	{
+		LootAggregate loot = loots.get(key(type, name));
+		return loot != null ? loot.copy() : null;
+	}
+
+	synchronized List<LootAggregate> getAll()
+	{
+		List<LootAggregate> all = new ArrayList<>(loots.size());
+		for (LootAggregate loot : loots.values())
+		{
+			all.add(loot.copy());
+		}
+		return all;
+	}
+
+	synchronized int size()
+	{
+		return loots.size();
+	}
+
+	/**
+	 * Add the kills and drops of {@code loot} to the totals of its source
+	 */
+	synchronized void add(LootAggregate loot, Instant when) throws IOException
+	{
+		apply(loot, when);
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(OP_ADD);
+		writeHeader(out, loot.getType(), loot.getName(), when);
+		writeDrops(out, loot);
+		append(bout.toByteArray());
+	}
+
+	/**
+	 * Replace the totals of every source, and compact them into a new snapshot
+	 */
+	synchronized void replaceAll(Collection<LootAggregate> all) throws IOException
+	{
+		loots.clear();
+		for (LootAggregate loot : all)
+		{
+			loots.put(key(loot.getType(), loot.getName()), loot.copy());
+		}
+		compact();
+	}
+
+	synchronized void remove(LootRecordType type, String name) throws IOException
+	{
+		if (loots.remove(key(type, name)) == null)
+		{
+			return;
+		}
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeByte(OP_REMOVE);
+		writeHeader(out, type, name, Instant.now());
+		append(bout.toByteArray());
+	}
+
+	synchronized void clear() throws IOException
+	{
+		loots.clear();
+		Files.deleteIfExists(snapshotFile.toPath());
+		resetLog();
+	}
+
+	/**
+	 * Write the current totals to a new snapshot and truncate the log
+	 */
+	synchronized void compact() throws IOException
+	{
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+		out.writeInt(SNAPSHOT_MAGIC);
+		out.writeInt(SNAPSHOT_VERSION);
+		out.writeLong(generation + 1);
+		out.writeInt(loots.size());
+		for (LootAggregate loot : loots.values())
+		{
+			writeHeader(out, loot.getType(), loot.getName(), loot.getLast());
+			out.writeLong(loot.getFirst().toEpochMilli());
+			writeDrops(out, loot);
+		}
+
+		byte[] data = bout.toByteArray();
+		File tmp = new File(snapshotFile.getParentFile(), SNAPSHOT_FILE + ".tmp");
+		try (FileOutputStream fout = new FileOutputStream(tmp))
+		{
+			DataOutputStream fileOut = new DataOutputStream(new BufferedOutputStream(fout));
+			fileOut.write(data);
+			fileOut.writeInt(crc(data, 0, data.length));
+			fileOut.flush();
+			fout.getFD().sync();
+		}
+
+		Files.move(tmp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		// if this is interrupted the log keeps the old generation, and is skipped on load
+		++generation;
+		resetLog();
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		try
+		{
+			if (logSize > 0)
+			{
+				compact();
+			}
+		}
+		finally
+		{
+			logOut.close();
+		}
+	}
+
+	private void resetLog() throws IOException
+	{
+		ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+		header.putInt(LOG_MAGIC);
+		header.putLong(generation);
+
+		logOut.getChannel().truncate(0);
+		logOut.write(header.array());
+		logOut.getFD().sync();
+		logSize = 0;
+	}
+
+	private void apply(LootAggregate loot, Instant when)
+	{
+		LootAggregate total = loots.computeIfAbsent(key(loot.getType(), loot.getName()),
+			k -> new LootAggregate(loot.getType(), loot.getName(), when));
+		total.addAll(loot);
+		total.last = when;
+	}
+
+	private void append(byte[] record) throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.allocate(record.length + 8);
+		buf.putInt(record.length);
+		buf.put(record);
+		buf.putInt(crc(record, 0, record.length));
+		logOut.write(buf.array());
+		logSize += buf.capacity();
+
+		if (logSize >= COMPACT_THRESHOLD)
+		{
+			compact();
+		}
+	}
+
+	private void loadSnapshot() throws IOException
+	{
+		if (!snapshotFile.exists())
+		{
+			return;
+		}
+
+		byte[] data = Files.readAllBytes(snapshotFile.toPath());
+		if (data.length < 4 || crc(data, 0, data.length - 4) != ByteBuffer.wrap(data).getInt(data.length - 4))
+		{
+			log.warn("Loot snapshot {} is corrupt, ignoring it", snapshotFile);
+			return;
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+		if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION)
+		{
+			log.warn("Loot snapshot {} has an unknown format, ignoring it", snapshotFile);
+			return;
+		}
+
+		generation = in.readLong();
+
+		int count = in.readInt();
+		for (int i = 0; i < count; ++i)
+		{
+			LootAggregate loot = readHeader(in);
+			loot.first = Instant.ofEpochMilli(in.readLong());
+			readDrops(in, loot);
+			if (loot.getType() != null)
+			{
+				loots.put(key(loot.getType(), loot.getName()), loot);
+			}
+		}
+	}
+
+	private void replayLog() throws IOException
+	{
+		byte[] data = Files.readAllBytes(logFile.toPath());
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		if (data.length < LOG_HEADER_SIZE || buf.getInt() != LOG_MAGIC)
+		{
+			// new log, or a crash before its header was written
+			resetLog();
+			return;
+		}
+
+		long logGeneration = buf.getLong();
+		if (logGeneration < generation)
+		{
+			log.debug("Loot log {} is already in the snapshot, discarding it", logFile);
+			resetLog();
+			return;
+		}
+
+		generation = logGeneration;
+		int records = 0;
+		while (buf.remaining() >= 8)
+		{
+			int start = buf.position();
+			int length = buf.getInt();
+			if (length < 0 || length > buf.remaining() - 4
+				|| crc(data, start + 4, length) != buf.getInt(start + 4 + length))
+			{
+				buf.position(start);
+				break;
+			}
+
+			replay(new DataInputStream(new ByteArrayInputStream(data, start + 4, length)));
+			buf.position(start + 8 + length);
+			++records;
+		}
+
+		logSize = buf.position() - LOG_HEADER_SIZE;
+		if (buf.position() < data.length)
+		{
+			log.warn("Discarding {} bytes of torn loot log {}", data.length - buf.position(), logFile);
+			logOut.getChannel().truncate(buf.position());
+		}
+
+		log.debug("Replayed {} loot records from {}", records, logFile);
+	}
+
+	private void replay(DataInputStream in) throws IOException
+	{
+		byte op = in.readByte();
+		LootAggregate loot = readHeader(in);
+		switch (op)
+		{
+			case OP_ADD:
+				readDrops(in, loot);
+				if (loot.getType() != null)
+				{
+					apply(loot, loot.getLast());
+				}
+				break;
+			case OP_REMOVE:
+				if (loot.getType() != null)
+				{
+					loots.remove(key(loot.getType(), loot.getName()));
+				}
+				break;
+			default:
+				throw new IOException("unknown loot log op " + op);
+		}
+	}
+
+	private static void writeHeader(DataOutputStream out, LootRecordType type, String name, Instant when) throws IOException
+	{
+		out.writeUTF(type.name());
+		out.writeUTF(name);
+		out.writeLong(when.toEpochMilli());
+	}
+
+	private static void writeDrops(DataOutputStream out, LootAggregate loot) throws IOException
+	{
+		out.writeInt(loot.getKills());
+		out.writeInt(loot.numDrops());
+		for (int i = 0; i < loot.numDrops(); ++i)
+		{
+			out.writeInt(loot.getId(i));
+			out.writeInt(loot.getQuantity(i));
+		}
+	}
+
+	/**
+	 * Read a record header. The type of the returned loot is null if
+	 * the record is for a type this version does not know about.
+	 */
+	private static LootAggregate readHeader(DataInputStream in) throws IOException
+	{
+		String typeName = in.readUTF();
+		String name = in.readUTF();
+		Instant when = Instant.ofEpochMilli(in.readLong());
+
+		LootRecordType type;
+		try
+		{
+			type = LootRecordType.valueOf(typeName);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			log.debug("Skipping loot for unknown type {}", typeName);
+			type = null;
+		}
+		return new LootAggregate(type, name, when);
+	}
+
+	private static void readDrops(DataInputStream in, LootAggregate loot) throws IOException
+	{
+		loot.kills = in.readInt();
+		int count = in.readInt();
+		if (count < 0)
+		{
+			throw new EOFException();
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			int id = in.readInt();
+			int qty = in.readInt();
+			loot.add(id, qty);
+		}
+	}
+
+	/**
+	 * Encode the totals of a source in the form they are synced in through the profile config:
+	 * the kills, the times of the first and last kill, then pairs of item id and quantity.
+	 */
+	static String encode(LootAggregate loot)
+	{
+		StringBuilder sb = new StringBuilder(32 + loot.numDrops() * 12);
+		sb.append(loot.getKills())
+			.append(',').append(loot.getFirst().toEpochMilli())
+			.append(',').append(loot.getLast().toEpochMilli());
+		for (int i = 0; i < loot.numDrops(); ++i)
+		{
+			sb.append(',').append(loot.getId(i))
+				.append(',').append(loot.getQuantity(i));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Decode totals encoded by {@link #encode(LootAggregate)}
+	 *
+	 * @throws IllegalArgumentException if the value is malformed
+	 */
+	static LootAggregate decode(LootRecordType type, String name, String value)
+	{
+		String[] parts = value.split(",");
+		if (parts.length < 3 || parts.length % 2 == 0)
+		{
+			throw new IllegalArgumentException("malformed loot " + value);
+		}
+
+		LootAggregate loot = new LootAggregate(type, name, Instant.ofEpochMilli(Long.parseLong(parts[1])));
+		loot.kills = Integer.parseInt(parts[0]);
+		loot.last = Instant.ofEpochMilli(Long.parseLong(parts[2]));
+		for (int i = 3; i < parts.length; i += 2)
+		{
+			loot.add(Integer.parseInt(parts[i]), Integer.parseInt(parts[i + 1]));
+		}
+		return loot;
+	}
+
+	private static int crc(byte[] data, int off, int len)
+	{
+		CRC32 crc = new CRC32();
+		crc.update(data, off, len);
+		return (int) crc.getValue();
+	}
+
+	private static String key(LootRecordType type, String name)
+	{
+		return type + "_" + name;
+	}
+}
@@ -26,7 +26,6 @@
 package net.runelite.client.plugins.loottracker;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Strings;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -38,6 +37,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -90,6 +91,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -134,6 +136,11 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	// a local copy of the loot in the profile config, which is what is synced between machines
+	private static final File LOOT_DIR = new File(RuneLite.RUNELITE_DIR, "loots");
+	private static final String LOOT_PREFIX = "loot_";
+	// loot used to be stored as json under these keys
+	private static final String LEGACY_LOOT_PREFIX = "drops_";
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -381,6 +388,7 @@ public class LootTrackerPlugin extends Plugin
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
 	private String profileKey;
+	private volatile LootStore lootStore;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
@@ -470,57 +478,44 @@ public class LootTrackerPlugin extends Plugin
 			// Current queued loot is for the previous profile, so save it first with the current profile key
 			submitLoot();
 
+			closeLootStore();
 			this.profileKey = profileKey;
+			final LootStore store = openLootStore(profileKey);
+			lootStore = store;
 
 			log.debug("Switched to profile {}", profileKey);
 
-			if (!config.rememberLoot())
+			if (!config.rememberLoot() || store == null)
 			{
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
+			List<LootAggregate> all = new ArrayList<>();
 			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			for (LootAggregate loot : store.getAll())
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-				ConfigLoot configLoot;
-
-				try
-				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
-				}
-				catch (JsonSyntaxException ex)
-				{
-					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
-				if (configLoot.last.isBefore(old))
+				if (loot.getLast().isBefore(old))
 				{
-					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+					log.debug("Removing old loot for {} {}", loot.getType(), loot.getName());
+					removeLoot(store, profileKey, loot.getType(), loot.getName());
 					continue;
 				}
 
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
-				{
-					// fast drop
-					continue;
-				}
-
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
+				all.add(loot);
+			}
 
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+			// load the most recent loot, up to MAX_DROPS drops
+			all.sort(Comparator.comparing(LootAggregate::getLast).reversed());
+			int drops = 0;
+			int count = 0;
+			while (count < all.size() && drops + all.get(count).numDrops() < MAX_DROPS)
+			{
+				drops += all.get(count++).numDrops();
 			}
 
+			List<LootAggregate> loots = new ArrayList<>(all.subList(0, count));
+			Collections.reverse(loots);
+
 			log.debug("Loaded {} records", loots.size());
 
 			clientThread.invokeLater(() ->
@@ -547,10 +542,156 @@ public class LootTrackerPlugin extends Plugin
 		});
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	@Nullable
+	private LootStore openLootStore(String profileKey)
+	{
+		final File dir = new File(LOOT_DIR, profileKey);
+		final LootStore store;
+		try
+		{
+			store = LootStore.open(dir);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to open loot store {}", dir, ex);
+			return null;
+		}
+
+		migrateConfigLoot(profileKey);
+		syncConfigLoot(store, profileKey);
+		return store;
+	}
+
+	private void closeLootStore()
+	{
+		final LootStore store = lootStore;
+		if (store == null)
+		{
+			return;
+		}
+
+		lootStore = null;
+		try
+		{
+			store.close();
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to close loot store", ex);
+		}
+	}
+
+	// loot used to be stored as json in the profile config, convert it to the current keys. The json
+	// keys are removed once converted, which syncs the conversion to the user's other machines.
+	private void migrateConfigLoot(String profileKey)
+	{
+		final List<String> keys = configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, LEGACY_LOOT_PREFIX);
+
+		int migrated = 0;
+		for (String key : keys)
+		{
+			String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			ConfigLoot configLoot;
+
+			try
+			{
+				configLoot = gson.fromJson(json, ConfigLoot.class);
+			}
+			catch (JsonSyntaxException ex)
+			{
+				log.warn("Removing loot with malformed json: {}", json, ex);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				continue;
+			}
+
+			if (configLoot == null || configLoot.type == null || configLoot.name == null || configLoot.first == null)
+			{
+				log.warn("Removing incomplete loot: {}", json);
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				continue;
+			}
+
+			LootAggregate loot = new LootAggregate(configLoot.type, configLoot.name, configLoot.first);
+			loot.last = configLoot.last != null ? configLoot.last : configLoot.first;
+			loot.kills = configLoot.kills;
+			for (int i = 0; configLoot.drops != null && i < configLoot.drops.length; i += 2)
+			{
+				loot.add(configLoot.drops[i], configLoot.drops[i + 1]);
+			}
+
+			// the converted loot wins if a previous migration was interrupted before removing the json
+			final String lootKey = lootKey(configLoot.type, configLoot.name);
+			if (configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, lootKey) == null)
+			{
+				configManager.setConfiguration(LootTrackerConfig.GROUP, profileKey, lootKey, LootStore.encode(loot));
+				++migrated;
+			}
+			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+		}
+
+		if (!keys.isEmpty())
+		{
+			log.info("Migrated {} loot records", migrated);
+		}
+	}
+
+	// bring the loot store up to date with the profile config, which may have been changed by
+	// another machine. Only the loot of sources which differ from the store is decoded.
+	private void syncConfigLoot(LootStore store, String profileKey)
+	{
+		final Map<String, LootAggregate> stored = new HashMap<>();
+		for (LootAggregate loot : store.getAll())
+		{
+			stored.put(lootKey(loot.getType(), loot.getName()), loot);
+		}
+
+		final List<LootAggregate> synced = new ArrayList<>();
+		int changed = 0;
+		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, LOOT_PREFIX))
+		{
+			final String value = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+			final LootAggregate loot = stored.remove(key);
+			if (loot != null && LootStore.encode(loot).equals(value))
+			{
+				synced.add(loot);
+				continue;
+			}
+
+			// keys are loot_<type>_<name>, and types do not contain a _
+			final int split = key.indexOf('_', LOOT_PREFIX.length());
+			try
+			{
+				final LootRecordType type = LootRecordType.valueOf(key.substring(LOOT_PREFIX.length(), split));
+				synced.add(LootStore.decode(type, key.substring(split + 1), value));
+				++changed;
+			}
+			catch (IllegalArgumentException | IndexOutOfBoundsException ex)
+			{
+				log.warn("Skipping malformed loot {}: {}", key, value, ex);
+			}
+		}
+
+		// sources left over were removed on another machine
+		changed += stored.size();
+		if (changed == 0)
+		{
+			return;
+		}
+
+		try
+		{
+			store.replaceAll(synced);
+			log.debug("Synced {} loot records from the profile", changed);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to sync loot from the profile", ex);
+		}
+	}
+
+	private static String lootKey(LootRecordType type, String name)
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		return LOOT_PREFIX + type + "_" + name;
 	}
 
 	@Subscribe
@@ -608,6 +749,7 @@ public class LootTrackerPlugin extends Plugin
 	protected void shutDown()
 	{
 		submitLoot();
+		executor.execute(this::closeLootStore);
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
@@ -642,7 +784,7 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
-		ConfigLoot loot = getLootConfig(type, name);
+		LootAggregate loot = getLoot(type, name);
 		if (loot == null)
 		{
 			return;
@@ -1363,13 +1505,13 @@ public class LootTrackerPlugin extends Plugin
 		return lootTrackerClient.submit(copy);
 	}
 
-	private Collection<ConfigLoot> combine(List<LootRecord> records)
+	private static Collection<LootAggregate> combine(List<LootRecord> records, Instant now)
 	{
-		Map<ConfigLoot, ConfigLoot> map = new HashMap<>();
+		Map<String, LootAggregate> map = new HashMap<>();
 		for (LootRecord record : records)
 		{
-			ConfigLoot key = new ConfigLoot(record.getType(), record.getEventId());
-			ConfigLoot loot = map.computeIfAbsent(key, k -> key);
+			LootAggregate loot = map.computeIfAbsent(record.getType() + "_" + record.getEventId(),
+				k -> new LootAggregate(record.getType(), record.getEventId(), now));
 			loot.kills += record.getAmount();
 			for (GameItem item : record.getDrops())
 			{
@@ -1381,25 +1523,27 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
+		final LootStore store = lootStore;
+		if (store == null)
+		{
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
+		final String profile = profileKey;
 		Instant now = Instant.now();
-		Collection<ConfigLoot> combinedRecords = combine(records);
-		for (ConfigLoot record : combinedRecords)
+		try
 		{
-			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
-			if (lootConfig == null)
+			for (LootAggregate loot : combine(records, now))
 			{
-				lootConfig = record;
+				store.add(loot, now);
+				final LootAggregate total = store.get(loot.getType(), loot.getName());
+				configManager.setConfiguration(LootTrackerConfig.GROUP, profile, lootKey(loot.getType(), loot.getName()), LootStore.encode(total));
 			}
-			else
-			{
-				lootConfig.kills += record.kills;
-				for (int i = 0; i < record.drops.length; i += 2)
-				{
-					lootConfig.add(record.drops[i], record.drops[i + 1]);
-				}
-			}
-			lootConfig.last = now;
-			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to save loot", ex);
 		}
 	}
 
@@ -1587,16 +1731,14 @@ public class LootTrackerPlugin extends Plugin
 			.collect(Collectors.toList());
 	}
 
-	private LootTrackerRecord convertToLootTrackerRecord(final ConfigLoot configLoot)
+	private LootTrackerRecord convertToLootTrackerRecord(final LootAggregate loot)
 	{
-		LootTrackerItem[] items = new LootTrackerItem[configLoot.drops.length / 2];
-		for (int i = 0; i < configLoot.drops.length; i += 2)
+		LootTrackerItem[] items = new LootTrackerItem[loot.numDrops()];
+		for (int i = 0; i < items.length; ++i)
 		{
-			int id = configLoot.drops[i];
-			int qty = configLoot.drops[i + 1];
-			items[i >> 1] = buildLootTrackerItem(id, qty);
+			items[i] = buildLootTrackerItem(loot.getId(i), loot.getQuantity(i));
 		}
-		return new LootTrackerRecord(configLoot.name, "", configLoot.type, items, configLoot.kills);
+		return new LootTrackerRecord(loot.getName(), "", loot.getType(), items, loot.getKills());
 	}
 
 	/**
@@ -1641,61 +1783,69 @@ public class LootTrackerPlugin extends Plugin
 				.build());
 	}
 
-	ConfigLoot getLootConfig(LootRecordType type, String name)
+	LootAggregate getLoot(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		final LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to get loot with no profile!");
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
-		if (json == null)
-		{
-			return null;
-		}
-
-		return gson.fromJson(json, ConfigLoot.class);
-	}
-
-	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
-	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
-		{
-			log.debug("Trying to set loot with no profile!");
-			return;
-		}
-
-		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		return store.get(type, name);
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		final LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to remove loot with no profile!");
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		final String profile = profileKey;
+		executor.execute(() -> removeLoot(store, profile, type, name));
 	}
 
 	void removeAllLoot()
 	{
-		String profile = profileKey;
-		if (Strings.isNullOrEmpty(profile))
+		final LootStore store = lootStore;
+		if (store == null)
 		{
 			log.debug("Trying to clear loot with no profile!");
 			return;
 		}
 
-		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+		executor.execute(() ->
+		{
+			try
+			{
+				store.clear();
+			}
+			catch (IOException ex)
+			{
+				log.warn("Unable to clear loot", ex);
+			}
+		});
+
+		final String profile = profileKey;
+		for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, LOOT_PREFIX))
 		{
 			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
 		}
 	}
+
+	private void removeLoot(LootStore store, String profile, LootRecordType type, String name)
+	{
+		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, lootKey(type, name));
+		try
+		{
+			store.remove(type, name);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to remove loot for {} {}", type, name, ex);
+		}
+	}
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * The custom left and shift click swaps, indexed by id. This is kept up to date from config
+ * changes so that looking up a swap while building the menu does not touch the config.
+ */
+@Slf4j
+class CustomSwaps
+{
+	@RequiredArgsConstructor
+	enum Type
+	{
+		ITEM(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.ITEM_KEY_PREFIX),
+		ITEM_SHIFT(MenuEntrySwapperPlugin.SHIFTCLICK_CONFIG_GROUP, MenuEntrySwapperPlugin.ITEM_KEY_PREFIX),
+		WORN_ITEM(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.WORN_ITEM_KEY_PREFIX),
+		WORN_ITEM_SHIFT(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.WORN_ITEM_SHIFT_KEY_PREFIX),
+		OBJECT(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.OBJECT_KEY_PREFIX),
+		OBJECT_SHIFT(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.OBJECT_SHIFT_KEY_PREFIX),
+		NPC(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.NPC_KEY_PREFIX),
+		NPC_SHIFT(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.NPC_SHIFT_KEY_PREFIX),
+		UI(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.UI_KEY_PREFIX),
+		UI_SHIFT(MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.UI_SHIFT_KEY_PREFIX);
+
+		private final String group;
+		private final String prefix;
+	}
+
+	/**
+	 * Sorted keys and their swap, replaced as a whole when a swap changes
+	 */
+	private static final class Table
+	{
+		private static final Table EMPTY = new Table(new long[0], new int[0]);
+
+		private final long[] keys;
+		private final int[] values;
+
+		private Table(long[] keys, int[] values)
+		{
+			this.keys = keys;
+			this.values = values;
+		}
+
+		private Table put(long key, int value)
+		{
+			int idx = Arrays.binarySearch(keys, key);
+			if (idx >= 0)
+			{
+				int[] newValues = values.clone();
+				newValues[idx] = value;
+				return new Table(keys, newValues);
+			}
+
+			idx = -idx - 1;
+			long[] newKeys = new long[keys.length + 1];
+			int[] newValues = new int[values.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, idx);
+			System.arraycopy(values, 0, newValues, 0, idx);
+			newKeys[idx] = key;
+			newValues[idx] = value;
+			System.arraycopy(keys, idx, newKeys, idx + 1, keys.length - idx);
+			System.arraycopy(values, idx, newValues, idx + 1, values.length - idx);
+			return new Table(newKeys, newValues);
+		}
+
+		private Table remove(long key)
+		{
+			int idx = Arrays.binarySearch(keys, key);
+			if (idx < 0)
+			{
+				return this;
+			}
+
+			long[] newKeys = new long[keys.length - 1];
+			int[] newValues = new int[values.length - 1];
+			System.arraycopy(keys, 0, newKeys, 0, idx);
+			System.arraycopy(values, 0, newValues, 0, idx);
+			System.arraycopy(keys, idx + 1, newKeys, idx, keys.length - idx - 1);
+			System.arraycopy(values, idx + 1, newValues, idx, values.length - idx - 1);
+			return new Table(newKeys, newValues);
+		}
+	}
+
+	private final Map<Type, Table> tables = new EnumMap<>(Type.class);
+
+	CustomSwaps()
+	{
+		clear();
+	}
+
+	synchronized void clear()
+	{
+		for (Type type : Type.values())
+		{
+			tables.put(type, Table.EMPTY);
+		}
+	}
+
+	/**
+	 * Reload all swaps from the config
+	 */
+	synchronized void load(ConfigManager configManager)
+	{
+		clear();
+		for (String group : new String[]{MenuEntrySwapperConfig.GROUP, MenuEntrySwapperPlugin.SHIFTCLICK_CONFIG_GROUP})
+		{
+			for (String wholeKey : configManager.getConfigurationKeys(group + "."))
+			{
+				String key = wholeKey.substring(group.length() + 1);
+				update(group, key, configManager.getConfiguration(group, key));
+			}
+		}
+	}
+
+	/**
+	 * Update a swap from a config change. Keys which are not swaps are ignored.
+	 */
+	synchronized void update(String group, String key, String value)
+	{
+		Type type = null;
+		for (Type t : Type.values())
+		{
+			// prefer the longest prefix, shift prefixes start with the non-shift prefix
+			if (t.group.equals(group) && key.startsWith(t.prefix) && (type == null || t.prefix.length() > type.prefix.length()))
+			{
+				type = t;
+			}
+		}
+
+		if (type == null)
+		{
+			return;
+		}
+
+		long id;
+		try
+		{
+			id = parseId(type, key.substring(type.prefix.length()));
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("Ignoring invalid swap key {}.{}", group, key);
+			return;
+		}
+
+		Table table = tables.get(type);
+		if (value == null || value.isEmpty())
+		{
+			tables.put(type, table.remove(id));
+			return;
+		}
+
+		try
+		{
+			tables.put(type, table.put(id, Integer.parseInt(value)));
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("Ignoring invalid swap {}.{}: {}", group, key, value);
+		}
+	}
+
+	synchronized Integer get(Type type, int id)
+	{
+		return get(type, (long) id);
+	}
+
+	synchronized Integer getUi(boolean shift, int componentId, int itemId)
+	{
+		return get(shift ? Type.UI_SHIFT : Type.UI, uiKey(componentId, itemId));
+	}
+
+	private Integer get(Type type, long key)
+	{
+		Table table = tables.get(type);
+		int idx = Arrays.binarySearch(table.keys, key);
+		return idx >= 0 ? table.values[idx] : null;
+	}
+
+	private static long parseId(Type type, String id)
+	{
+		if (type == Type.UI || type == Type.UI_SHIFT)
+		{
+			// ui keys are the component id, optionally followed by the item id
+			int sep = id.indexOf('_');
+			if (sep != -1)
+			{
+				return uiKey(Integer.parseInt(id.substring(0, sep)), Integer.parseInt(id.substring(sep + 1)));
+			}
+			return uiKey(Integer.parseInt(id), -1);
+		}
+		return Integer.parseInt(id);
+	}
+
+	private static long uiKey(int componentId, int itemId)
+	{
+		return ((long) componentId << 32) | (itemId & 0xffffffffL);
+	}
+}
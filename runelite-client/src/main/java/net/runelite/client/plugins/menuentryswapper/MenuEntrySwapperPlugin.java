@@ -39,7 +39,9 @@ import com.google.inject.Provides;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -71,6 +73,8 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.NpcUtil;
@@ -92,16 +96,18 @@ import net.runelite.client.util.Text;
 @Slf4j
 public class MenuEntrySwapperPlugin extends Plugin
 {
-	private static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
-	private static final String ITEM_KEY_PREFIX = "item_";
-	private static final String OBJECT_KEY_PREFIX = "object_";
-	private static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
-	private static final String NPC_KEY_PREFIX = "npc_";
-	private static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
-	private static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
-	private static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
-	private static final String UI_KEY_PREFIX = "ui_";
-	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
+	static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
+	static final String ITEM_KEY_PREFIX = "item_";
+	static final String OBJECT_KEY_PREFIX = "object_";
+	static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
+	static final String NPC_KEY_PREFIX = "npc_";
+	static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
+	static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
+	static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
+	static final String UI_KEY_PREFIX = "ui_";
+	static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
+
+	private static final int NORMALIZED_CACHE_SIZE = 1024;
 
 	private static final List<MenuAction> NPC_MENU_TYPES = ImmutableList.of(
 		MenuAction.NPC_FIRST_OPTION,
@@ -207,6 +213,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private NpcUtil npcUtil;
 
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
+	// swaps by option, compiled from the swaps multimap on startup
+	private Map<String, Swap[]> swapTable = Collections.emptyMap();
+	private final CustomSwaps customSwaps = new CustomSwaps();
+	// menu options and targets repeat every client tick, so keep their normalized form
+	private final Map<String, String> normalized = new HashMap<>();
 	private final ArrayListMultimap<String, Integer> cacheOptionIndexes = ArrayListMultimap.create();
 	private Menu cacheOptionMenu;
 	private boolean lastShift, curShift;
@@ -221,6 +232,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 	public void startUp()
 	{
 		setupSwaps();
+		compileSwaps();
+		customSwaps.load(configManager);
 		removeOldSwaps();
 	}
 
@@ -228,6 +241,25 @@ public class MenuEntrySwapperPlugin extends Plugin
 	public void shutDown()
 	{
 		swaps.clear();
+		swapTable = Collections.emptyMap();
+		customSwaps.clear();
+		normalized.clear();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (configChanged.getProfile() == null
+			&& (configChanged.getGroup().equals(MenuEntrySwapperConfig.GROUP) || configChanged.getGroup().equals(SHIFTCLICK_CONFIG_GROUP)))
+		{
+			customSwaps.update(configChanged.getGroup(), configChanged.getKey(), configChanged.getNewValue());
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		customSwaps.load(configManager);
 	}
 
 	@VisibleForTesting
@@ -414,6 +446,16 @@ public class MenuEntrySwapperPlugin extends Plugin
 		swap("climb", "climb-down", () -> (shiftModifier() ? config.swapStairsShiftClick() : config.swapStairsLeftClick()) == MenuEntrySwapperConfig.StairsMode.CLIMB_DOWN);
 	}
 
+	private void compileSwaps()
+	{
+		Map<String, Swap[]> table = new HashMap<>();
+		for (Map.Entry<String, Collection<Swap>> entry : swaps.asMap().entrySet())
+		{
+			table.put(entry.getKey(), entry.getValue().toArray(new Swap[0]));
+		}
+		swapTable = table;
+	}
+
 	private void removeOldSwaps()
 	{
 		String[] keys = {
@@ -468,13 +510,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(shift ? CustomSwaps.Type.ITEM_SHIFT : CustomSwaps.Type.ITEM, itemId);
 	}
 
 	private void setItemSwapConfig(boolean shift, int itemId, int index)
@@ -492,14 +528,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(shift ? CustomSwaps.Type.WORN_ITEM_SHIFT : CustomSwaps.Type.WORN_ITEM, itemId);
 	}
 
 	private void setWornItemSwapConfig(boolean shift, int itemId, int index)
@@ -1471,9 +1500,6 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
-
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
 		if (w != null && WidgetUtil.componentToInterface(w.getId()) == InterfaceID.INVENTORY
@@ -1484,7 +1510,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				if (swapIndex == -1)
 				{
-					swap(menu, menuEntries, "use", target, index, true);
+					swap(menu, menuEntries, "use", normalize(menuEntry.getTarget()), index, true);
 				}
 				else if (swapIndex + 1 == menuEntry.getItemOp())
 				{
@@ -1627,7 +1653,13 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 
 		// Built-in swaps
-		Collection<Swap> swaps = this.swaps.get(option);
+		final Swap[] swaps = swapTable.get(normalize(menuEntry.getOption()));
+		if (swaps == null)
+		{
+			return;
+		}
+
+		final String target = normalize(menuEntry.getTarget());
 		for (Swap swap : swaps)
 		{
 			if (swap.getTargetPredicate().test(target) && swap.getEnabled().get())
@@ -1783,7 +1815,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				int idx = indexes.get(i);
 				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = normalize(entry.getTarget());
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1798,8 +1830,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = normalize(entry.getOption());
+				String entryTarget = normalize(entry.getTarget());
 
 				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
 				{
@@ -1821,7 +1853,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			cacheOptionIndexes.clear();
 			for (MenuEntry entry : menu.getMenuEntries())
 			{
-				String opt = Text.removeTags(entry.getOption()).toLowerCase();
+				String opt = normalize(entry.getOption());
 				cacheOptionIndexes.put(opt, idx++);
 			}
 			log.trace("[{}] Rebuilt option index cache with {} entries", client.getGameCycle(), idx);
@@ -1858,8 +1890,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Update optionIndexes
 		if (cacheOptionMenu == menu)
 		{
-			String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-				option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+			String option1 = normalize(entry1.getOption()),
+				option2 = normalize(entry2.getOption());
 
 			List<Integer> list1 = cacheOptionIndexes.get(option1),
 				list2 = cacheOptionIndexes.get(option2);
@@ -1881,6 +1913,22 @@ public class MenuEntrySwapperPlugin extends Plugin
 		list.add(idx < 0 ? -idx - 1 : idx, value);
 	}
 
+	private String normalize(String str)
+	{
+		String n = normalized.get(str);
+		if (n == null)
+		{
+			if (normalized.size() >= NORMALIZED_CACHE_SIZE)
+			{
+				normalized.clear();
+			}
+
+			n = Text.removeTags(str).toLowerCase();
+			normalized.put(str, n);
+		}
+		return n;
+	}
+
 	private boolean shiftModifier()
 	{
 		return client.isKeyPressed(KeyCode.KC_SHIFT);
@@ -1888,13 +1936,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getObjectSwapConfig(boolean shift, int objectId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(shift ? CustomSwaps.Type.OBJECT_SHIFT : CustomSwaps.Type.OBJECT, objectId);
 	}
 
 	private void setObjectSwapConfig(boolean shift, int objectId, int index)
@@ -1924,14 +1966,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getNpcSwapConfig(boolean shift, int npcId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(shift ? CustomSwaps.Type.NPC_SHIFT : CustomSwaps.Type.NPC, npcId);
 	}
 
 	private void setNpcSwapConfig(boolean shift, int npcId, int index)
@@ -1984,14 +2019,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.getUi(shift, componentId, itemId);
 	}
 
 	private void setUiSwapConfig(boolean shift, int componentId, int itemId, int op)
@@ -31,6 +31,7 @@ import com.google.inject.Provides;
 import java.awt.Color;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -77,7 +78,7 @@ import net.runelite.client.ui.components.colorpicker.RuneliteColorPicker;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -160,6 +161,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	 * Highlight strings from the configuration
 	 */
 	private List<String> highlights = new ArrayList<>();
+	private WildcardMatcherSet highlightMatcher = WildcardMatcherSet.compile(highlights);
 
 	/**
 	 * NPC ids marked with the Tag option
@@ -300,9 +302,8 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = Arrays.stream(highlightMatcher.matchAll(npcName))
+				.anyMatch(idx -> !highlights.get(idx).equalsIgnoreCase(npcName));
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -717,6 +718,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightMatcher = WildcardMatcherSet.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -771,15 +773,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matchesAny(npcName);
 	}
 
 	private void validateSpawnedNpcs()
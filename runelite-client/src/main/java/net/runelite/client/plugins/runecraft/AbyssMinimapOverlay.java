@@ -26,10 +26,10 @@ package net.runelite.client.plugins.runecraft;
 
 import com.google.inject.Inject;
 import net.runelite.api.Client;
-import net.runelite.api.DecorativeObject;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
+import net.runelite.api.TileObject;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -76,7 +76,7 @@ class AbyssMinimapOverlay extends Overlay
 			return null;
 		}
 
-		for (DecorativeObject object : plugin.getAbyssObjects())
+		for (TileObject object : plugin.getAbyssObjects())
 		{
 			AbyssRifts rift = AbyssRifts.getRift(object.getId());
 			if (rift == null || !rift.getConfigEnabled().test(config))
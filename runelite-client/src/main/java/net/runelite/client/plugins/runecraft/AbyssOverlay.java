@@ -29,11 +29,11 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.util.Set;
+import java.util.Collection;
 import net.runelite.api.Client;
-import net.runelite.api.DecorativeObject;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
+import net.runelite.api.TileObject;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -64,13 +64,13 @@ class AbyssOverlay extends Overlay
 		}
 
 		final int region = player.getWorldLocation().getRegionID();
-		Set<DecorativeObject> abyssObjects = plugin.getAbyssObjects();
+		Collection<TileObject> abyssObjects = plugin.getAbyssObjects();
 		if (region != RunecraftPlugin.ABYSS_REGION || abyssObjects.isEmpty() || !config.showRifts() || !config.showClickBox())
 		{
 			return null;
 		}
 
-		for (DecorativeObject object : abyssObjects)
+		for (TileObject object : abyssObjects)
 		{
 			renderRift(graphics, object);
 		}
@@ -78,7 +78,7 @@ class AbyssOverlay extends Overlay
 		return null;
 	}
 
-	private void renderRift(Graphics2D graphics, DecorativeObject object)
+	private void renderRift(Graphics2D graphics, TileObject object)
 	{
 		AbyssRifts rift = AbyssRifts.getRift(object.getId());
 		if (rift == null || !rift.getConfigEnabled().test(config))
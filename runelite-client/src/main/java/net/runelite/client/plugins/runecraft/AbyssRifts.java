@@ -26,6 +26,7 @@ package net.runelite.client.plugins.runecraft;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -76,4 +77,9 @@ enum AbyssRifts
 	{
 		return rifts.get(id);
 	}
+
+	static Set<Integer> getObjectIds()
+	{
+		return rifts.keySet();
+	}
 }
@@ -27,23 +27,16 @@ package net.runelite.client.plugins.runecraft;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Provides;
 import java.awt.Color;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.inject.Inject;
-import lombok.AccessLevel;
-import lombok.Getter;
 import net.runelite.api.ChatMessageType;
-import net.runelite.api.DecorativeObject;
-import net.runelite.api.GameState;
 import net.runelite.api.Item;
 import net.runelite.api.NPC;
+import net.runelite.api.TileObject;
 import net.runelite.api.events.ChatMessage;
-import net.runelite.api.events.DecorativeObjectDespawned;
-import net.runelite.api.events.DecorativeObjectSpawned;
-import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.ItemID;
@@ -51,6 +44,7 @@ import net.runelite.api.gameval.NpcID;
 import net.runelite.client.Notifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.SceneIndex;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
@@ -74,9 +68,6 @@ public class RunecraftPlugin extends Plugin
 	);
 	static final int ABYSS_REGION = 12107;
 
-	@Getter(AccessLevel.PACKAGE)
-	private final Set<DecorativeObject> abyssObjects = new HashSet<>();
-
 	private boolean degradedPouchInInventory;
 
 	@Inject
@@ -100,6 +91,9 @@ public class RunecraftPlugin extends Plugin
 	@Inject
 	private NpcOverlayService npcOverlayService;
 
+	@Inject
+	private SceneIndex sceneIndex;
+
 	private final Function<NPC, HighlightedNpc> highlightDarkMage = this::highlightDarkMage;
 
 	@Provides
@@ -124,10 +118,14 @@ public class RunecraftPlugin extends Plugin
 		overlayManager.remove(abyssOverlay);
 		overlayManager.remove(abyssMinimapOverlay);
 		overlayManager.remove(essencePouchOverlay);
-		abyssObjects.clear();
 		degradedPouchInInventory = false;
 	}
 
+	Collection<TileObject> getAbyssObjects()
+	{
+		return sceneIndex.getObjects(AbyssRifts.getObjectIds());
+	}
+
 	@Subscribe
 	public void onChatMessage(ChatMessage event)
 	{
@@ -142,33 +140,6 @@ public class RunecraftPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
-	{
-		DecorativeObject decorativeObject = event.getDecorativeObject();
-		if (AbyssRifts.getRift(decorativeObject.getId()) != null)
-		{
-			abyssObjects.add(decorativeObject);
-		}
-	}
-
-	@Subscribe
-	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
-	{
-		DecorativeObject decorativeObject = event.getDecorativeObject();
-		abyssObjects.remove(decorativeObject);
-	}
-
-	@Subscribe
-	public void onGameStateChanged(GameStateChanged event)
-	{
-		GameState gameState = event.getGameState();
-		if (gameState == GameState.LOADING)
-		{
-			abyssObjects.clear();
-		}
-	}
-
 	@Subscribe
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
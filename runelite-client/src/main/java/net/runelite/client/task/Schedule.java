@@ -39,4 +39,12 @@ public @interface Schedule
 	ChronoUnit unit();
 
 	boolean asynchronous() default false;
+
+	/**
+	 * The maximum random delay, in {@link #unit()}, added to each run. This spreads out methods
+	 * which share a period, so they do not all run on the same tick.
+	 */
+	long jitter() default 0;
+
+	MissedRunPolicy missedRuns() default MissedRunPolicy.DELAY;
 }
@@ -44,4 +44,63 @@ public class ScheduledMethod
 	private final Runnable lambda;
 	@Setter
 	private Instant last = Instant.now();
+
+	@ToString.Exclude
+	private long runs;
+	@ToString.Exclude
+	private long missedRuns;
+	@ToString.Exclude
+	private long overruns;
+	@ToString.Exclude
+	private long totalNanos;
+	@ToString.Exclude
+	private long maxNanos;
+
+	synchronized void recordRun(long nanos, long periodNanos)
+	{
+		++runs;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		if (nanos > periodNanos)
+		{
+			++overruns;
+		}
+	}
+
+	synchronized void recordMissedRuns(long missed)
+	{
+		missedRuns += missed;
+	}
+
+	public synchronized long getRuns()
+	{
+		return runs;
+	}
+
+	/**
+	 * @return the number of runs which were dropped or coalesced into a later run
+	 * @see MissedRunPolicy
+	 */
+	public synchronized long getMissedRuns()
+	{
+		return missedRuns;
+	}
+
+	/**
+	 * @return the number of runs which took longer than the schedule's period
+	 */
+	public synchronized long getOverruns()
+	{
+		return overruns;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return maxNanos;
+	}
 }
@@ -24,34 +24,63 @@
  */
 package net.runelite.client.task;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Runs {@link Schedule} methods. Methods are kept in a heap ordered by their next run, so a tick
+ * only looks at the methods which are due.
+ */
 @Singleton
 @Slf4j
 public class Scheduler
 {
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
+	// guarded by queue
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> Long.compare(a.nextRun, b.nextRun));
+	private final Map<ScheduledMethod, Entry> entries = new IdentityHashMap<>();
 
 	@Inject
 	ScheduledExecutorService executor;
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		final Entry entry = new Entry(method, System.nanoTime());
+		synchronized (queue)
+		{
+			if (entries.putIfAbsent(method, entry) != null)
+			{
+				return;
+			}
+			queue.add(entry);
+		}
 		scheduledMethods.add(method);
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
+		synchronized (queue)
+		{
+			final Entry entry = entries.remove(method);
+			if (entry != null)
+			{
+				queue.remove(entry);
+			}
+		}
 		scheduledMethods.remove(method);
 	}
 
@@ -62,37 +91,49 @@ public class Scheduler
 
 	public void tick()
 	{
-		Instant now = Instant.now();
+		tick(System.nanoTime());
+	}
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+	@VisibleForTesting
+	void tick(long now)
+	{
+		for (;;)
 		{
-			Instant last = scheduledMethod.getLast();
-
-			Duration difference = Duration.between(last, now);
+			final Entry entry;
+			synchronized (queue)
+			{
+				entry = queue.peek();
+				if (entry == null || entry.nextRun > now)
+				{
+					return;
+				}
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+				// rescheduled before it runs, so it may be removed while running
+				queue.poll();
+				entry.reschedule(now);
+				queue.add(entry);
+			}
 
-			if (difference.compareTo(timeSinceRun) > 0)
-			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
+			final ScheduledMethod scheduledMethod = entry.method;
+			log.trace("Scheduled task triggered: {}", scheduledMethod);
 
-				scheduledMethod.setLast(now);
+			scheduledMethod.setLast(Instant.now());
 
-				if (schedule.asynchronous())
-				{
-					executor.submit(() -> run(scheduledMethod));
-				}
-				else
-				{
-					run(scheduledMethod);
-				}
+			if (scheduledMethod.getSchedule().asynchronous())
+			{
+				executor.execute(entry.asyncRun);
+			}
+			else
+			{
+				run(entry);
 			}
 		}
 	}
 
-	private void run(ScheduledMethod scheduledMethod)
+	private static void run(Entry entry)
 	{
+		final ScheduledMethod scheduledMethod = entry.method;
+		final long start = System.nanoTime();
 		try
 		{
 			Runnable lambda = scheduledMethod.getLambda();
@@ -114,5 +155,65 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+		scheduledMethod.recordRun(System.nanoTime() - start, entry.periodNanos);
+	}
+
+	private static final class Entry
+	{
+		private final ScheduledMethod method;
+		private final MissedRunPolicy missedRunPolicy;
+		private final long periodNanos;
+		private final long jitterNanos;
+		private final Runnable asyncRun;
+		// time the next run is scheduled for, excluding jitter
+		private long deadline;
+		// time the next run is due, the heap key
+		private long nextRun;
+
+		private Entry(ScheduledMethod method, long now)
+		{
+			final Schedule schedule = method.getSchedule();
+			this.method = method;
+			this.missedRunPolicy = schedule.missedRuns();
+			this.periodNanos = Math.max(Duration.of(schedule.period(), schedule.unit()).toNanos(), 1L);
+			this.jitterNanos = Duration.of(schedule.jitter(), schedule.unit()).toNanos();
+			this.asyncRun = () -> run(this);
+			this.deadline = now + periodNanos;
+			this.nextRun = deadline + jitter();
+		}
+
+		private void reschedule(long now)
+		{
+			long missed;
+			switch (missedRunPolicy)
+			{
+				case COALESCE:
+					missed = (now - deadline) / periodNanos;
+					deadline += (missed + 1) * periodNanos;
+					break;
+				case CATCH_UP:
+					missed = 0;
+					deadline += periodNanos;
+					break;
+				case DELAY:
+				default:
+					missed = (now - deadline) / periodNanos;
+					deadline = now + periodNanos;
+					break;
+			}
+
+			if (missed > 0)
+			{
+				method.recordMissedRuns(missed);
+			}
+
+			// runs at most once per tick, even when catching up
+			nextRun = Math.max(deadline + jitter(), now + 1);
+		}
+
+		private long jitter()
+		{
+			return jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0L;
+		}
 	}
 }
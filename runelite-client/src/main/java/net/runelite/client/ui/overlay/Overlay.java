@@ -92,6 +92,27 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether the output of this overlay only changes when it is {@link #invalidate() invalidated}.
+	 * The output of such overlays is kept in an image, which is drawn instead of rendering the
+	 * overlay until it is invalidated again. {@link OverlayPosition#DYNAMIC} and
+	 * {@link OverlayPosition#TOOLTIP} overlays are always rendered.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean renderCached;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.PACKAGE)
+	private volatile boolean invalidated = true;
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayRenderCache renderCache = new OverlayRenderCache();
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.NONE)
+	private final OverlayStats stats = new OverlayStats(this);
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -233,6 +254,15 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	{
 	}
 
+	/**
+	 * Mark the output of a {@link #isRenderCached() render cached} overlay as out of date,
+	 * so that it is rendered again on the next frame. This may be called from any thread.
+	 */
+	public void invalidate()
+	{
+		invalidated = true;
+	}
+
 	public void setPosition(OverlayPosition position)
 	{
 		this.position = position;
@@ -36,7 +36,6 @@ import java.util.List;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -89,7 +88,6 @@ public class OverlayManager
 	 * Insertion-order sorted set of overlays
 	 * All access to this must be guarded by a lock on this OverlayManager
 	 */
-	@Getter(AccessLevel.PACKAGE)
 	private final List<Overlay> overlays = new ArrayList<>();
 	@Getter
 	@Setter
@@ -235,6 +233,16 @@ public class OverlayManager
 		return overlays.stream().anyMatch(filter);
 	}
 
+	/**
+	 * Gets a copy of all of the overlays
+	 *
+	 * @return a list of all overlays
+	 */
+	public synchronized List<Overlay> getOverlays()
+	{
+		return new ArrayList<>(overlays);
+	}
+
 	/**
 	 * Clear all overlays
 	 */
@@ -354,6 +362,7 @@ public class OverlayManager
 		{
 			// Update preferred color for overlay panels based on configuration
 			((OverlayPanel) overlay).setPreferredColor(runeLiteConfig.overlayBackgroundColor());
+			overlay.invalidate();
 		}
 	}
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * The last output of an overlay which is {@link Overlay#isRenderCached() render cached}
+ */
+final class OverlayRenderCache
+{
+	// images are over allocated so overlays can grow slightly without reallocating
+	private static final int GRANULARITY = 32;
+
+	private BufferedImage image;
+	private int width;
+	private int height;
+	private Font font;
+	private Dimension preferredSize;
+	private boolean valid;
+
+	/**
+	 * @return whether the cached output can be drawn in place of rendering an overlay with the given properties
+	 */
+	boolean isValid(Font font, Dimension preferredSize)
+	{
+		return valid && font == this.font && preferredSize == this.preferredSize;
+	}
+
+	/**
+	 * @return whether the cache has output which can be drawn, even if it is out of date
+	 */
+	boolean hasOutput()
+	{
+		return valid;
+	}
+
+	boolean hasCapacity(Dimension dimension)
+	{
+		return image != null && dimension.width <= image.getWidth() && dimension.height <= image.getHeight();
+	}
+
+	/**
+	 * Allocate an image large enough to hold the given output size
+	 */
+	void allocate(Graphics2D screen, Dimension dimension)
+	{
+		valid = false;
+		if (dimension.width <= 0 || dimension.height <= 0)
+		{
+			image = null;
+			return;
+		}
+
+		final int w = (dimension.width + GRANULARITY - 1) / GRANULARITY * GRANULARITY;
+		final int h = (dimension.height + GRANULARITY - 1) / GRANULARITY * GRANULARITY;
+		image = screen.getDeviceConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+	}
+
+	/**
+	 * Clear the image and create a graphics to render into it, with the properties of the screen graphics
+	 */
+	Graphics2D begin(Graphics2D screen, Dimension preferredSize)
+	{
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setComposite(AlphaComposite.Clear);
+		graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+		graphics.setComposite(screen.getComposite());
+		graphics.setRenderingHints(screen.getRenderingHints());
+		graphics.setFont(screen.getFont());
+		graphics.setColor(screen.getColor());
+		graphics.setStroke(screen.getStroke());
+		graphics.setBackground(screen.getBackground());
+		graphics.setClip(0, 0, image.getWidth(), image.getHeight());
+
+		font = screen.getFont();
+		this.preferredSize = preferredSize;
+		return graphics;
+	}
+
+	/**
+	 * Mark the output rendered by the graphics from {@link #begin(Graphics2D, Dimension)} as valid
+	 */
+	void commit(Dimension dimension)
+	{
+		width = dimension.width;
+		height = dimension.height;
+		valid = true;
+	}
+
+	/**
+	 * Mark empty output as valid, for overlays which rendered nothing and so have no image
+	 */
+	void commitEmpty(Font font, Dimension preferredSize)
+	{
+		this.font = font;
+		this.preferredSize = preferredSize;
+		width = 0;
+		height = 0;
+		valid = true;
+	}
+
+	void invalidate()
+	{
+		valid = false;
+	}
+
+	/**
+	 * Draw the cached output at the origin of the graphics
+	 */
+	void draw(Graphics2D graphics)
+	{
+		if (width > 0 && height > 0)
+		{
+			graphics.drawImage(image, 0, 0, width, height, 0, 0, width, height, null);
+		}
+	}
+
+	int getWidth()
+	{
+		return width;
+	}
+
+	int getHeight()
+	{
+		return height;
+	}
+}
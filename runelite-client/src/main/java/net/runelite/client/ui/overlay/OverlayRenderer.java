@@ -30,6 +30,7 @@ import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -38,9 +39,11 @@ import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -82,6 +85,7 @@ public class OverlayRenderer extends MouseAdapter
 	private static final int PADDING = 2;
 	private static final int OVERLAY_RESIZE_TOLERANCE = 5;
 	private static final Dimension SNAP_CORNER_SIZE = new Dimension(80, 80);
+	private static final Dimension EMPTY_DIMENSION = new Dimension();
 	private static final Color SNAP_CORNER_COLOR = new Color(0, 255, 255, 50);
 	private static final Color SNAP_CORNER_ACTIVE_COLOR = new Color(0, 255, 0, 100);
 	private static final Color MOVING_OVERLAY_COLOR = new Color(255, 255, 0, 100);
@@ -117,6 +121,11 @@ public class OverlayRenderer extends MouseAdapter
 	private OverlayBounds emptySnapCorners, snapCorners;
 	private boolean dragWarn;
 
+	// Per frame render state
+	private Font dynamicFont, tooltipFont, interfaceFont;
+	private long frameBudgetNanos = Long.MAX_VALUE;
+	private long frameNanos;
+
 	@Inject
 	private OverlayRenderer(
 		final Client client,
@@ -215,6 +224,7 @@ public class OverlayRenderer extends MouseAdapter
 	public void onBeforeRender(BeforeRender event)
 	{
 		curHoveredOverlay = null;
+		frameNanos = 0;
 
 		if (client.getGameState() == GameState.LOGGED_IN)
 		{
@@ -262,6 +272,12 @@ public class OverlayRenderer extends MouseAdapter
 
 		OverlayUtil.setGraphicProperties(graphics);
 
+		dynamicFont = runeLiteConfig.fontType().getFont();
+		tooltipFont = runeLiteConfig.tooltipFontType().getFont();
+		interfaceFont = runeLiteConfig.interfaceFontType().getFont();
+		final int frameBudget = runeLiteConfig.overlayFrameBudget();
+		frameBudgetNanos = frameBudget > 0 ? TimeUnit.MILLISECONDS.toNanos(frameBudget) : Long.MAX_VALUE;
+
 		// Draw snap corners
 		if (inOverlayDraggingMode && layer == OverlayLayer.UNDER_WIDGETS && currentManagedOverlay != null && currentManagedOverlay.isSnappable())
 		{
@@ -714,33 +730,149 @@ public class OverlayRenderer extends MouseAdapter
 		// Set font based on configuration
 		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
 		{
-			graphics.setFont(runeLiteConfig.fontType().getFont());
+			graphics.setFont(dynamicFont);
 		}
 		else if (position == OverlayPosition.TOOLTIP)
 		{
-			graphics.setFont(runeLiteConfig.tooltipFontType().getFont());
+			graphics.setFont(tooltipFont);
 		}
 		else
 		{
-			graphics.setFont(runeLiteConfig.interfaceFontType().getFont());
+			graphics.setFont(interfaceFont);
 		}
 
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
-		final Dimension overlayDimension;
+		if (overlay.isRenderCached() && position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP)
+		{
+			renderCached(overlay, graphics);
+			return;
+		}
+
+		final Dimension dimension = timedRender(overlay, graphics);
+		if (dimension != null)
+		{
+			overlay.getBounds().setSize(dimension);
+		}
+	}
+
+	private void renderCached(Overlay overlay, Graphics2D graphics)
+	{
+		final OverlayRenderCache cache = overlay.getRenderCache();
+		final boolean invalidated = overlay.isInvalidated() || !cache.isValid(graphics.getFont(), overlay.getPreferredSize());
+
+		// Once the frame budget is used up, out of date output is drawn and the overlay is rendered on a later frame
+		if (cache.hasOutput() && (!invalidated || frameNanos >= frameBudgetNanos))
+		{
+			cache.draw(graphics);
+			overlay.getBounds().setSize(cache.getWidth(), cache.getHeight());
+			overlay.getStats().recordCachedDraw(invalidated);
+			return;
+		}
+
+		// Cleared before rendering so invalidations during the render are kept
+		overlay.setInvalidated(false);
+		cache.invalidate();
+
+		if (cache.hasCapacity(overlay.getBounds().getSize()))
+		{
+			final Graphics2D cacheGraphics = cache.begin(graphics, overlay.getPreferredSize());
+			final Dimension dimension;
+			try
+			{
+				dimension = timedRender(overlay, cacheGraphics);
+			}
+			finally
+			{
+				cacheGraphics.dispose();
+			}
+
+			if (dimension == null)
+			{
+				return;
+			}
+
+			if (cache.hasCapacity(dimension))
+			{
+				cache.commit(dimension);
+				cache.draw(graphics);
+				overlay.getBounds().setSize(dimension);
+				return;
+			}
+		}
+
+		// The output does not fit the image, so render to the screen this frame and size the image for the next
+		final Dimension dimension = timedRender(overlay, graphics);
+		if (dimension != null)
+		{
+			overlay.getBounds().setSize(dimension);
+			cache.allocate(graphics, dimension);
+			if (dimension.width <= 0 || dimension.height <= 0)
+			{
+				cache.commitEmpty(graphics.getFont(), overlay.getPreferredSize());
+			}
+			else
+			{
+				overlay.invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Render an overlay, recording the time taken
+	 *
+	 * @return the dimension of the overlay, or null if it failed to render
+	 */
+	private Dimension timedRender(Overlay overlay, Graphics2D graphics)
+	{
+		final long start = System.nanoTime();
+		Dimension dimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			dimension = overlay.render(graphics);
+			if (dimension == null)
+			{
+				dimension = EMPTY_DIMENSION;
+			}
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			dimension = null;
 		}
 
-		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
-		overlay.getBounds().setSize(dimension);
+		final long elapsed = System.nanoTime() - start;
+		frameNanos += elapsed;
+		overlay.getStats().recordRender(elapsed);
+		return dimension;
+	}
+
+	/**
+	 * Gets the render statistics of all overlays
+	 *
+	 * @return a list of overlay statistics
+	 */
+	public List<OverlayStats> getOverlayStats()
+	{
+		final List<Overlay> overlays = overlayManager.getOverlays();
+		final List<OverlayStats> stats = new ArrayList<>(overlays.size());
+		for (Overlay overlay : overlays)
+		{
+			stats.add(overlay.getStats());
+		}
+		return stats;
+	}
+
+	/**
+	 * Discards the render statistics of all overlays
+	 */
+	public void resetOverlayStats()
+	{
+		for (Overlay overlay : overlayManager.getOverlays())
+		{
+			overlay.getStats().reset();
+		}
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
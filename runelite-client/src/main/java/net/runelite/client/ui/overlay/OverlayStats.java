@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Render statistics of an overlay over its most recent renders
+ */
+public final class OverlayStats
+{
+	private static final int WINDOW = 128;
+
+	@Getter
+	private final Overlay overlay;
+
+	private final long[] samples = new long[WINDOW];
+	private int sampleCount;
+	private int next;
+	private long renders;
+	private long cachedDraws;
+	private long deferred;
+
+	OverlayStats(Overlay overlay)
+	{
+		this.overlay = overlay;
+	}
+
+	synchronized void recordRender(long nanos)
+	{
+		samples[next] = nanos;
+		next = (next + 1) % WINDOW;
+		sampleCount = Math.min(sampleCount + 1, WINDOW);
+		++renders;
+	}
+
+	/**
+	 * Record a draw of the cached output of the overlay instead of a render
+	 *
+	 * @param stale whether the overlay was invalidated, but not rendered due to the frame budget
+	 */
+	synchronized void recordCachedDraw(boolean stale)
+	{
+		++cachedDraws;
+		if (stale)
+		{
+			++deferred;
+		}
+	}
+
+	synchronized void reset()
+	{
+		sampleCount = next = 0;
+		renders = cachedDraws = deferred = 0;
+	}
+
+	/**
+	 * @return the number of times the overlay was rendered
+	 */
+	public synchronized long getRenders()
+	{
+		return renders;
+	}
+
+	/**
+	 * @return the number of times the cached output of the overlay was drawn instead of rendering it
+	 */
+	public synchronized long getCachedDraws()
+	{
+		return cachedDraws;
+	}
+
+	/**
+	 * @return the number of times the overlay was not rendered after being invalidated because
+	 * the frame budget was exhausted
+	 */
+	public synchronized long getDeferred()
+	{
+		return deferred;
+	}
+
+	/**
+	 * @return the mean render time of the recent renders, in nanoseconds
+	 */
+	public synchronized long getMeanNanos()
+	{
+		if (sampleCount == 0)
+		{
+			return 0;
+		}
+
+		long total = 0;
+		for (int i = 0; i < sampleCount; ++i)
+		{
+			total += samples[i];
+		}
+		return total / sampleCount;
+	}
+
+	/**
+	 * Gets the render time below which the given fraction of the recent renders completed.
+	 *
+	 * @param percentile fraction of renders, eg. 0.99
+	 * @return the render time in nanoseconds
+	 */
+	public synchronized long getPercentileNanos(double percentile)
+	{
+		if (sampleCount == 0)
+		{
+			return 0;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, sampleCount);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(sampleCount * percentile) - 1;
+		return sorted[Math.max(0, Math.min(index, sampleCount - 1))];
+	}
+}
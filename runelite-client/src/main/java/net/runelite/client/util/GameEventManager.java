@@ -24,11 +24,9 @@
  */
 package net.runelite.client.util;
 
-import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
-import net.runelite.api.Constants;
 import net.runelite.api.DecorativeObject;
 import net.runelite.api.GameObject;
 import net.runelite.api.GameState;
@@ -38,11 +36,10 @@ import net.runelite.api.ItemLayer;
 import net.runelite.api.NPC;
 import net.runelite.api.Node;
 import net.runelite.api.Player;
-import net.runelite.api.Scene;
 import net.runelite.api.Tile;
 import net.runelite.api.TileItem;
+import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
-import net.runelite.api.WorldView;
 import net.runelite.api.events.DecorativeObjectSpawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GroundObjectSpawned;
@@ -53,6 +50,7 @@ import net.runelite.api.events.PlayerSpawned;
 import net.runelite.api.events.WallObjectSpawned;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.game.SceneIndex;
 
 @Singleton
 public class GameEventManager
@@ -60,45 +58,14 @@ public class GameEventManager
 	private final EventBus eventBus = new EventBus();
 	private final Client client;
 	private final ClientThread clientThread;
+	private final SceneIndex sceneIndex;
 
 	@Inject
-	private GameEventManager(Client client, ClientThread clientThread)
+	private GameEventManager(Client client, ClientThread clientThread, SceneIndex sceneIndex)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
-	}
-
-	/**
-	 * Iterates over each tile in the scene if player is logged in
-	 *
-	 * @param consumer consumer accepting tile as parameter
-	 */
-	private void forEachTile(WorldView wv, Consumer<Tile> consumer)
-	{
-		final Scene scene = wv.getScene();
-		final Tile[][][] tiles = scene.getTiles();
-
-		for (int z = 0; z < Constants.MAX_Z; ++z)
-		{
-			for (int x = 0; x < wv.getSizeX(); ++x)
-			{
-				for (int y = 0; y < wv.getSizeY(); ++y)
-				{
-					Tile tile = tiles[z][x][y];
-					if (tile == null)
-					{
-						continue;
-					}
-
-					consumer.accept(tile);
-
-					if (tile.getBridge() != null)
-					{
-						consumer.accept(tile.getBridge());
-					}
-				}
-			}
-		}
+		this.sceneIndex = sceneIndex;
 	}
 
 	/**
@@ -122,75 +89,59 @@ public class GameEventManager
 				eventBus.post(new ItemContainerChanged(itemContainer.getId(), itemContainer));
 			}
 
-			simulateGameEvents(client.getTopLevelWorldView());
+			simulateSceneEvents();
 
 			eventBus.unregister(subscriber);
 		});
 	}
 
-	private void simulateGameEvents(WorldView wv)
+	private void simulateSceneEvents()
 	{
-		for (NPC npc : wv.npcs())
+		for (NPC npc : sceneIndex.getNpcs())
 		{
-			if (npc != null)
-			{
-				final NpcSpawned npcSpawned = new NpcSpawned(npc);
-				eventBus.post(npcSpawned);
-			}
+			eventBus.post(new NpcSpawned(npc));
 		}
 
-		for (Player player : wv.players())
+		for (Player player : sceneIndex.getPlayers())
 		{
-			if (player != null)
-			{
-				final PlayerSpawned playerSpawned = new PlayerSpawned(player);
-				eventBus.post(playerSpawned);
-			}
+			eventBus.post(new PlayerSpawned(player));
 		}
 
-		forEachTile(wv, (tile) ->
+		for (TileObject object : sceneIndex.getObjects())
 		{
-			WallObject wallObject = tile.getWallObject();
-			if (wallObject != null)
+			final Tile tile = sceneIndex.getTile(object);
+			if (object instanceof WallObject)
 			{
 				final WallObjectSpawned objectSpawned = new WallObjectSpawned();
 				objectSpawned.setTile(tile);
-				objectSpawned.setWallObject(wallObject);
+				objectSpawned.setWallObject((WallObject) object);
 				eventBus.post(objectSpawned);
 			}
-
-			DecorativeObject decorativeObject = tile.getDecorativeObject();
-			if (decorativeObject != null)
+			else if (object instanceof DecorativeObject)
 			{
 				final DecorativeObjectSpawned objectSpawned = new DecorativeObjectSpawned();
 				objectSpawned.setTile(tile);
-				objectSpawned.setDecorativeObject(decorativeObject);
+				objectSpawned.setDecorativeObject((DecorativeObject) object);
 				eventBus.post(objectSpawned);
 			}
-
-			GroundObject groundObject = tile.getGroundObject();
-			if (groundObject != null)
+			else if (object instanceof GroundObject)
 			{
 				final GroundObjectSpawned objectSpawned = new GroundObjectSpawned();
 				objectSpawned.setTile(tile);
-				objectSpawned.setGroundObject(groundObject);
+				objectSpawned.setGroundObject((GroundObject) object);
 				eventBus.post(objectSpawned);
 			}
-
-			for (GameObject object : tile.getGameObjects())
+			else if (object instanceof GameObject)
 			{
-				if (object != null)
-				{
-					if (object.getSceneMinLocation().equals(tile.getSceneLocation()))
-					{
-						final GameObjectSpawned objectSpawned = new GameObjectSpawned();
-						objectSpawned.setTile(tile);
-						objectSpawned.setGameObject(object);
-						eventBus.post(objectSpawned);
-					}
-				}
+				final GameObjectSpawned objectSpawned = new GameObjectSpawned();
+				objectSpawned.setTile(tile);
+				objectSpawned.setGameObject((GameObject) object);
+				eventBus.post(objectSpawned);
 			}
+		}
 
+		for (Tile tile : sceneIndex.getItemTiles())
+		{
 			ItemLayer itemLayer = tile.getItemLayer();
 			if (itemLayer != null)
 			{
@@ -205,11 +156,6 @@ public class GameEventManager
 					eventBus.post(itemSpawned);
 				}
 			}
-		});
-
-		for (WorldView sub : wv.worldViews())
-		{
-			simulateGameEvents(sub);
 		}
 	}
 }
\ No newline at end of file
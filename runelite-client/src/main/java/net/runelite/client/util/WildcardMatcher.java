@@ -24,34 +24,109 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*+)");
-
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		return new Glob(pattern).matches(fold(text));
+	}
+
+	/**
+	 * Lower case the ASCII letters of a string, which is the case insensitivity
+	 * wildcard patterns are matched with.
+	 */
+	static String fold(String s)
+	{
+		int i = 0;
+		while (i < s.length() && (s.charAt(i) < 'A' || s.charAt(i) > 'Z'))
+		{
+			++i;
+		}
+
+		if (i == s.length())
+		{
+			return s;
+		}
+
+		char[] chars = s.toCharArray();
+		for (; i < chars.length; ++i)
+		{
+			char c = chars[i];
+			if (c >= 'A' && c <= 'Z')
+			{
+				chars[i] = (char) (c + ('a' - 'A'));
+			}
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * A wildcard pattern split into the literal segments between its wildcards
+	 */
+	static final class Glob
+	{
+		final String prefix;
+		final String suffix;
+		final String[] middle;
+		final boolean wildcard;
+		private final int minLength;
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		Glob(String pattern)
 		{
-			if (matcher.group(1) != null)
+			List<String> segments = new ArrayList<>();
+			int start = 0;
+			for (int i; (i = pattern.indexOf('*', start)) != -1; start = i + 1)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				segments.add(fold(pattern.substring(start, i)));
 			}
-			else
+			segments.add(fold(pattern.substring(start)));
+
+			wildcard = segments.size() > 1;
+			prefix = segments.get(0);
+			suffix = wildcard ? segments.get(segments.size() - 1) : "";
+			middle = wildcard
+				? segments.subList(1, segments.size() - 1).stream().filter(m -> !m.isEmpty()).toArray(String[]::new)
+				: new String[0];
+
+			int length = prefix.length() + suffix.length();
+			for (String m : middle)
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				length += m.length();
 			}
+			minLength = length;
 		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+		/**
+		 * Match the pattern against a {@link #fold(String) folded} string
+		 */
+		boolean matches(String text)
+		{
+			if (!wildcard)
+			{
+				return text.equals(prefix);
+			}
+
+			if (text.length() < minLength || !text.startsWith(prefix) || !text.endsWith(suffix))
+			{
+				return false;
+			}
 
-		return text.matches(replaced);
+			// the leftmost match of each segment leaves the most room for the ones after it
+			int pos = prefix.length();
+			final int end = text.length() - suffix.length();
+			for (String m : middle)
+			{
+				int idx = text.indexOf(m, pos);
+				if (idx == -1 || idx + m.length() > end)
+				{
+					return false;
+				}
+				pos = idx + m.length();
+			}
+			return true;
+		}
 	}
 }
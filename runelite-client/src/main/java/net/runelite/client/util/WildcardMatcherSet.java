@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.client.util.WildcardMatcher.Glob;
+
+/**
+ * A set of wildcard patterns compiled for matching many names against.
+ * <p>
+ * Patterns without a wildcard are looked up in a hash table. The others are indexed
+ * in a trie by the literal before their first wildcard, or if that is empty in a trie
+ * of reversed suffixes by the literal after their last one, so that matching a name
+ * is a walk over its characters which only verifies the patterns it reaches.
+ * Patterns are matched case insensitively, the same as {@link WildcardMatcher#matches(String, String)}.
+ */
+public final class WildcardMatcherSet
+{
+	private static final int[] NO_MATCHES = new int[0];
+
+	private final Glob[] globs;
+	private final Map<String, int[]> exact = new HashMap<>();
+	private final Node prefixes = new Node();
+	private final Node suffixes = new Node();
+	// patterns which both start and end with a wildcard
+	private final int[] unanchored;
+
+	private WildcardMatcherSet(List<String> patterns)
+	{
+		globs = new Glob[patterns.size()];
+		int[] anywhere = new int[patterns.size()];
+		int numAnywhere = 0;
+		for (int i = 0; i < globs.length; ++i)
+		{
+			final Glob glob = globs[i] = new Glob(patterns.get(i));
+			if (!glob.wildcard)
+			{
+				exact.merge(glob.prefix, new int[]{i}, WildcardMatcherSet::concat);
+			}
+			else if (!glob.prefix.isEmpty())
+			{
+				prefixes.insert(glob.prefix, false, i);
+			}
+			else if (!glob.suffix.isEmpty())
+			{
+				suffixes.insert(glob.suffix, true, i);
+			}
+			else
+			{
+				anywhere[numAnywhere++] = i;
+			}
+		}
+		unanchored = Arrays.copyOf(anywhere, numAnywhere);
+	}
+
+	public static WildcardMatcherSet compile(List<String> patterns)
+	{
+		return new WildcardMatcherSet(patterns);
+	}
+
+	/**
+	 * Get the number of patterns in the set
+	 */
+	public int size()
+	{
+		return globs.length;
+	}
+
+	/**
+	 * Test if any of the patterns match the text
+	 */
+	public boolean matchesAny(String text)
+	{
+		return match(WildcardMatcher.fold(text), null) > 0;
+	}
+
+	/**
+	 * Get the indexes of the patterns which match the text, in ascending order
+	 */
+	public int[] matchAll(String text)
+	{
+		int[] matches = new int[globs.length];
+		int count = match(WildcardMatcher.fold(text), matches);
+		if (count == 0)
+		{
+			return NO_MATCHES;
+		}
+
+		matches = Arrays.copyOf(matches, count);
+		Arrays.sort(matches);
+		return matches;
+	}
+
+	/**
+	 * Match the folded text, stopping at the first match if {@code matches} is null
+	 *
+	 * @return the number of matches
+	 */
+	private int match(String text, int[] matches)
+	{
+		int count = 0;
+
+		int[] exactMatches = exact.get(text);
+		if (exactMatches != null)
+		{
+			if (matches == null)
+			{
+				return 1;
+			}
+
+			for (int idx : exactMatches)
+			{
+				matches[count++] = idx;
+			}
+		}
+
+		final int length = text.length();
+		Node node = prefixes;
+		for (int i = 0; i < length && (node = node.child(text.charAt(i))) != null; ++i)
+		{
+			for (int idx : node.patterns)
+			{
+				if (globs[idx].matches(text))
+				{
+					if (matches == null)
+					{
+						return 1;
+					}
+					matches[count++] = idx;
+				}
+			}
+		}
+
+		node = suffixes;
+		for (int i = length - 1; i >= 0 && (node = node.child(text.charAt(i))) != null; --i)
+		{
+			for (int idx : node.patterns)
+			{
+				if (globs[idx].matches(text))
+				{
+					if (matches == null)
+					{
+						return 1;
+					}
+					matches[count++] = idx;
+				}
+			}
+		}
+
+		for (int idx : unanchored)
+		{
+			if (globs[idx].matches(text))
+			{
+				if (matches == null)
+				{
+					return 1;
+				}
+				matches[count++] = idx;
+			}
+		}
+
+		return count;
+	}
+
+	private static int[] concat(int[] a, int[] b)
+	{
+		int[] r = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, r, a.length, b.length);
+		return r;
+	}
+
+	private static final class Node
+	{
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		// patterns whose literal ends at this node
+		private int[] patterns = NO_MATCHES;
+
+		Node child(char c)
+		{
+			for (int i = 0; i < keys.length; ++i)
+			{
+				if (keys[i] == c)
+				{
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		void insert(String literal, boolean reverse, int pattern)
+		{
+			Node node = this;
+			final int length = literal.length();
+			for (int i = 0; i < length; ++i)
+			{
+				char c = literal.charAt(reverse ? length - 1 - i : i);
+				Node next = node.child(c);
+				if (next == null)
+				{
+					next = new Node();
+					node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+					node.keys[node.keys.length - 1] = c;
+					node.children = Arrays.copyOf(node.children, node.children.length + 1);
+					node.children[node.children.length - 1] = next;
+				}
+				node = next;
+			}
+			node.patterns = concat(node.patterns, new int[]{pattern});
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Inject
+	private ClientThread clientThread;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		lenient().when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testBudget()
+	{
+		// with no budget, each frame runs the high priority tasks, one normal task and one low priority task
+		clientThread.setBudgetNanos(0);
+
+		List<String> ran = new ArrayList<>();
+		clientThread.invokeLater(() -> ran.add("low1"), TaskPriority.LOW);
+		clientThread.invokeLater(() -> ran.add("low2"), TaskPriority.LOW);
+		clientThread.invokeLater(() -> ran.add("normal1"));
+		clientThread.invokeLater(() -> ran.add("normal2"));
+		clientThread.invokeLater(() -> ran.add("normal3"));
+		clientThread.invokeLater(() -> ran.add("high1"), TaskPriority.HIGH);
+		clientThread.invokeLater(() -> ran.add("high2"), TaskPriority.HIGH);
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high1", "high2", "normal1", "low1"), ran);
+		assertEquals(2, clientThread.getQueueDepth(TaskPriority.NORMAL));
+
+		// low priority tasks make progress while normal tasks are still queued
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high1", "high2", "normal1", "low1", "normal2", "low2"), ran);
+		assertEquals(0, clientThread.getQueueDepth(TaskPriority.LOW));
+
+		clientThread.invoke();
+		assertEquals(0, clientThread.getQueueDepth(TaskPriority.NORMAL));
+	}
+
+	@Test
+	public void testBackoff()
+	{
+		AtomicInteger runs = new AtomicInteger();
+		clientThread.invokeLater(() ->
+		{
+			runs.incrementAndGet();
+			return false;
+		});
+
+		for (int i = 0; i < 64; ++i)
+		{
+			clientThread.invoke();
+		}
+		assertEquals(64, runs.get());
+
+		for (int i = 0; i < 1000; ++i)
+		{
+			clientThread.invoke();
+		}
+		assertTrue(runs.get() < 64 + 1000 / 4);
+		assertEquals(1, clientThread.getQueueDepth(TaskPriority.NORMAL));
+	}
+
+	@Test
+	public void testTaskStats()
+	{
+		clientThread.invokeLater(() ->
+		{
+		});
+		clientThread.invokeAtTickEnd(() ->
+		{
+		});
+		clientThread.invoke();
+		clientThread.invokeTickEnd();
+
+		List<TaskStats> stats = clientThread.getTaskStats();
+		assertEquals(1, stats.size());
+		assertEquals(ClientThreadTest.class.getName(), stats.get(0).getSubmitter());
+		assertEquals(2, stats.get(0).getTasks());
+		assertEquals(0, stats.get(0).getDeferrals());
+	}
+
+	@Test
+	public void testResetTaskStats()
+	{
+		AtomicInteger runs = new AtomicInteger();
+		clientThread.invokeLater(() -> runs.incrementAndGet() > 1);
+		clientThread.invoke();
+		assertEquals(1, clientThread.getTaskStats().get(0).getDeferrals());
+
+		clientThread.resetTaskStats();
+		assertTrue(clientThread.getTaskStats().isEmpty());
+
+		// the queued task still records to the statistics of its submitter
+		clientThread.invoke();
+		List<TaskStats> stats = clientThread.getTaskStats();
+		assertEquals(1, stats.size());
+		assertEquals(1, stats.get(0).getTasks());
+		assertEquals(1, stats.get(0).getRuns());
+		assertEquals(0, stats.get(0).getDeferrals());
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testJournalReplay() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.setProperty("b", "1");
+		data.patch(data.swapChanges());
+
+		data.setProperty("a", "2");
+		data.setProperty("a", "3");
+		data.unset("b");
+		data.setProperty("c", "1");
+		assertEquals(3, data.getPendingWrites());
+		data.flushJournal();
+		assertEquals(0, data.getPendingWrites());
+
+		// simulate a crash before the next save
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals("3", reloaded.getProperty("a"));
+		assertNull(reloaded.getProperty("b"));
+		assertEquals("1", reloaded.getProperty("c"));
+
+		// the replayed changes are saved with the next patch, which empties the journal
+		assertEquals(3, reloaded.swapChanges().size());
+	}
+
+	@Test
+	public void testPatchResetsJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.flushJournal();
+
+		data.patch(data.swapChanges());
+		assertEquals(0, ConfigData.journalFile(file).length());
+
+		// changes made while a patch is in progress are kept in the journal
+		data.setProperty("b", "1");
+		data.patch(Collections.singletonMap("a", "1"));
+		assertTrue(ConfigData.journalFile(file).length() > 0);
+
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertEquals("1", reloaded.getProperty("b"));
+	}
+
+	@Test
+	public void testSharedJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData a = new ConfigData(file);
+		ConfigData b = new ConfigData(file);
+
+		a.setProperty("a", "1");
+		a.flushJournal();
+		b.setProperty("b", "1");
+		b.patch(b.swapChanges());
+
+		// a crashes before patching, its journaled change must still be replayed
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertEquals("1", reloaded.getProperty("b"));
+
+		// a later change by another client is newer than the patched value
+		a.setProperty("b", "2");
+		a.flushJournal();
+		b.setProperty("c", "1");
+		b.patch(b.swapChanges());
+		reloaded = new ConfigData(file);
+		assertEquals("2", reloaded.getProperty("b"));
+		assertEquals("1", reloaded.getProperty("c"));
+
+		// once a patches its changes the journal is empty
+		a.patch(a.swapChanges());
+		assertEquals(0, ConfigData.journalFile(file).length());
+		reloaded = new ConfigData(file);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertEquals("2", reloaded.getProperty("b"));
+		assertEquals("1", reloaded.getProperty("c"));
+	}
+
+	@Test
+	public void testKeysWithPrefix() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("banktags.tag_b", "1");
+		data.setProperty("banktags.tag_a", "1");
+		data.setProperty("banktags.tagtabs", "1");
+		data.setProperty("banktagsx.tag_c", "1");
+		data.setProperty("bank.tag_d", "1");
+		data.putAll(Collections.singletonMap("banktags.tag_c", "1"));
+		data.unset("banktags.tag_b");
+
+		assertEquals(Arrays.asList("banktags.tag_a", "banktags.tag_c"), data.keysWithPrefix("banktags.tag_"));
+		assertEquals(Collections.emptyList(), data.keysWithPrefix("banktags.z"));
+
+		// keys loaded from the file and journal are indexed
+		data.flushJournal();
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals(Arrays.asList("banktags.tag_a", "banktags.tag_c", "banktags.tagtabs"), reloaded.keysWithPrefix("banktags.tag"));
+	}
+
+	@Test
+	public void testReplaceDiscardsJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+
+		// local changes which were journaled but not patched yet
+		data.setProperty("a", "2");
+		data.setProperty("b", "1");
+		data.flushJournal();
+
+		ConfigData.replace(file, Collections.singletonMap("c", "1"));
+
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals(Collections.singletonMap("c", "1"), reloaded.get());
+		assertEquals(0, reloaded.swapChanges().size());
+	}
+
+	@Test
+	public void testTornJournal() throws IOException
+	{
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData data = new ConfigData(file);
+		data.setProperty("a", "1");
+		data.flushJournal();
+		data.setProperty("b", "1");
+		data.flushJournal();
+
+		File journal = ConfigData.journalFile(file);
+		try (RandomAccessFile raf = new RandomAccessFile(journal, "rw"))
+		{
+			raf.setLength(raf.length() - 2);
+		}
+
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals("1", reloaded.getProperty("a"));
+		assertNull(reloaded.getProperty("b"));
+
+		// appends after the torn record are not lost
+		reloaded.setProperty("c", "1");
+		reloaded.flushJournal();
+		reloaded = new ConfigData(file);
+		assertEquals("1", reloaded.getProperty("c"));
+		assertFalse(reloaded.keySet().contains("b"));
+	}
+
+	@Test
+	public void testConcurrentInstances() throws Exception
+	{
+		// eg. a profile being removed while the config manager flushes its journal
+		File file = new File(folder.getRoot(), "test.properties");
+		ConfigData a = new ConfigData(file);
+		ConfigData b = new ConfigData(file);
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread thread = new Thread(() ->
+		{
+			try
+			{
+				for (int i = 0; i < 200; ++i)
+				{
+					b.setProperty("b", Integer.toString(i));
+					b.flushJournal();
+					b.patch(b.swapChanges());
+				}
+			}
+			catch (Throwable ex)
+			{
+				failure.set(ex);
+			}
+		});
+		thread.start();
+
+		for (int i = 0; i < 200; ++i)
+		{
+			a.setProperty("a", Integer.toString(i));
+			a.flushJournal();
+			a.patch(a.swapChanges());
+		}
+		thread.join();
+
+		assertNull(failure.get());
+		ConfigData reloaded = new ConfigData(file);
+		assertEquals("199", reloaded.getProperty("a"));
+		assertEquals("199", reloaded.getProperty("b"));
+	}
+}
@@ -27,8 +27,11 @@ package net.runelite.client.config;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.Dimension;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -39,6 +42,8 @@ import net.runelite.client.account.SessionManager;
 import net.runelite.client.eventbus.EventBus;
 import org.junit.Assert;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -165,6 +170,47 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testConfigKey()
+	{
+		ConfigKey<Integer> key = ConfigKey.of("test", "number", Integer.class);
+		Assert.assertNull(manager.getConfiguration(key));
+
+		manager.setConfiguration(key, 42);
+		Assert.assertEquals(Integer.valueOf(42), manager.getConfiguration(key));
+		Assert.assertEquals("42", manager.getConfiguration("test", "number"));
+		Assert.assertEquals(Collections.singletonList("test.number"), manager.getConfigurationKeys("test.num"));
+
+		manager.unsetConfiguration(key);
+		Assert.assertNull(manager.getConfiguration(key));
+
+		// there is no rs profile to read from
+		Assert.assertNull(manager.getConfiguration(ConfigKey.rsProfile("test", "number", Integer.class)));
+
+		Assert.assertEquals(key, ConfigKey.of("test", "number", Integer.class));
+		Assert.assertNotEquals(key, ConfigKey.of("test", "number", String.class));
+		Assert.assertNotEquals(key, ConfigKey.rsProfile("test", "number", Integer.class));
+	}
+
+	@Test
+	public void testParsedValueCache()
+	{
+		manager.setConfiguration("test", "color", Color.RED);
+		Color color = manager.getConfiguration("test", "color", Color.class);
+		assertSame(color, manager.getConfiguration("test", "color", Color.class));
+		Assert.assertEquals(1, manager.getValueCacheStats().getHits());
+		Assert.assertEquals(1, manager.getValueCacheStats().getMisses());
+
+		manager.setConfiguration("test", "color", Color.BLUE);
+		Assert.assertEquals(Color.BLUE, manager.getConfiguration("test", "color", Color.class));
+		manager.unsetConfiguration("test", "color");
+		Assert.assertNull(manager.getConfiguration("test", "color", Color.class));
+
+		// mutable values are parsed for each lookup
+		manager.setConfiguration("test", "size", new Dimension(1, 2));
+		assertNotSame(manager.getConfiguration("test", "size", Dimension.class), manager.getConfiguration("test", "size", Dimension.class));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class EventBusTest
+{
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	private final List<String> calls = new ArrayList<>();
+
+	public class Low
+	{
+		@Subscribe(priority = -1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+	}
+
+	public class High
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("high other");
+		}
+	}
+
+	public class Default
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("default");
+		}
+	}
+
+	@Test
+	public void testPriority()
+	{
+		EventBus eventBus = new EventBus();
+		eventBus.register(new Low());
+		eventBus.register(new Default());
+		eventBus.register(new High());
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("high", "default", "low"), calls);
+
+		calls.clear();
+		eventBus.post(new OtherEvent());
+		assertEquals(Collections.singletonList("high other"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		EventBus eventBus = new EventBus();
+		High high = new High();
+		eventBus.register(new Low());
+		eventBus.register(high);
+		eventBus.register(new Default());
+
+		eventBus.unregister(high);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("default", "low"), calls);
+
+		// unregistering twice is a no-op
+		eventBus.unregister(high);
+		calls.clear();
+		eventBus.register(high);
+		eventBus.post(new OtherEvent());
+		assertEquals(Collections.singletonList("high other"), calls);
+	}
+
+	@Test
+	public void testUnregisterSubscriber()
+	{
+		EventBus eventBus = new EventBus();
+		EventBus.Subscriber first = eventBus.register(TestEvent.class, e -> calls.add("first"), 0);
+		eventBus.register(TestEvent.class, e -> calls.add("second"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("first", "second"), calls);
+
+		eventBus.unregister(first);
+		calls.clear();
+		eventBus.post(new TestEvent());
+		assertEquals(Collections.singletonList("second"), calls);
+	}
+
+	@Test
+	public void testRegisterWhilePosting()
+	{
+		EventBus eventBus = new EventBus();
+		Low low = new Low();
+		eventBus.register(TestEvent.class, e ->
+		{
+			calls.add("registering");
+			eventBus.register(low);
+		}, 2);
+
+		eventBus.post(new TestEvent());
+		assertEquals(Collections.singletonList("registering"), calls);
+
+		calls.clear();
+		eventBus.unregister(low);
+		eventBus.post(new TestEvent());
+		assertEquals(Collections.singletonList("registering"), calls);
+	}
+
+	@Test
+	public void testExceptionHandler()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		RuntimeException exception = new RuntimeException();
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw exception;
+		}, 1);
+		eventBus.register(new Default());
+
+		eventBus.post(new TestEvent());
+		assertEquals(Collections.singletonList("default"), calls);
+		assertEquals(1, exceptions.size());
+		assertSame(exception, exceptions.get(0));
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		EventBus eventBus = new EventBus();
+		High high = new High();
+		eventBus.register(high);
+		eventBus.register(new Low());
+
+		// nothing is recorded until profiling is enabled
+		eventBus.post(new TestEvent());
+		assertTrue(eventBus.getSubscriberStats().isEmpty());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+
+		List<SubscriberStats> stats = eventBus.getSubscriberStats();
+		assertEquals(3, stats.size());
+		for (SubscriberStats s : stats)
+		{
+			long expected = s.getEventClass() == TestEvent.class ? 2 : 1;
+			assertEquals(expected, s.getInvocations());
+			assertTrue(s.getMaxNanos() >= s.getAverageNanos());
+			assertTrue(s.getPercentileNanos(0.99) >= s.getPercentileNanos(0.5));
+		}
+
+		// stats of unregistered subscribers are dropped
+		eventBus.unregister(high);
+		assertEquals(1, eventBus.getSubscriberStats().size());
+
+		eventBus.resetSubscriberStats();
+		assertTrue(eventBus.getSubscriberStats().isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadName()
+	{
+		new EventBus().register(new Object()
+		{
+			@Subscribe
+			public void onEvent(TestEvent event)
+			{
+			}
+		});
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkPost()
+	{
+		// roughly the number of subscribers of the busiest events with many plugins enabled
+		final int subscribers = 150;
+		final int posts = 1_000_000;
+
+		EventBus eventBus = new EventBus();
+		long[] count = new long[1];
+		for (int i = 0; i < subscribers; ++i)
+		{
+			eventBus.register(TestEvent.class, e -> ++count[0], i % 5);
+		}
+		for (int i = 0; i < 50; ++i)
+		{
+			eventBus.register(OtherEvent.class, e -> ++count[0], 0);
+		}
+
+		TestEvent event = new TestEvent();
+		for (int round = 0; round < 5; ++round)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < posts; ++i)
+			{
+				eventBus.post(event);
+			}
+			long elapsed = System.nanoTime() - start;
+			log.info("{} subscribers: {} ns per post", subscribers, (double) elapsed / posts);
+		}
+
+		assertEquals(5L * posts * subscribers, count[0]);
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerDespawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.WorldViewUnloaded;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SceneIndexTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Bind
+	private EventBus eventBus = new EventBus();
+
+	@Inject
+	private SceneIndex sceneIndex;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	private static GameObject gameObject(int id, WorldPoint location)
+	{
+		GameObject object = mock(GameObject.class);
+		when(object.getId()).thenReturn(id);
+		when(object.getWorldLocation()).thenReturn(location);
+		return object;
+	}
+
+	private static WorldView worldView(boolean topLevel)
+	{
+		WorldView wv = mock(WorldView.class);
+		Scene scene = mock(Scene.class);
+		when(scene.getTiles()).thenReturn(new Tile[4][4][4]);
+		when(wv.getScene()).thenReturn(scene);
+		when(wv.getSizeX()).thenReturn(4);
+		when(wv.getSizeY()).thenReturn(4);
+		if (topLevel)
+		{
+			when(wv.isTopLevel()).thenReturn(true);
+		}
+		return wv;
+	}
+
+	private static Tile tile(WorldView wv, int x, int y)
+	{
+		Tile tile = mock(Tile.class);
+		when(tile.getSceneLocation()).thenReturn(new Point(x, y));
+		wv.getScene().getTiles()[0][x][y] = tile;
+		return tile;
+	}
+
+	private void spawn(GameObject object)
+	{
+		spawn(object, null);
+	}
+
+	private void spawn(GameObject object, Tile tile)
+	{
+		GameObjectSpawned event = new GameObjectSpawned();
+		event.setGameObject(object);
+		event.setTile(tile);
+		eventBus.post(event);
+	}
+
+	private void postGameState(GameState gameState)
+	{
+		GameStateChanged event = new GameStateChanged();
+		event.setGameState(gameState);
+		eventBus.post(event);
+	}
+
+	private void despawn(GameObject object)
+	{
+		GameObjectDespawned event = new GameObjectDespawned();
+		event.setGameObject(object);
+		eventBus.post(event);
+	}
+
+	@Test
+	public void testObjects()
+	{
+		GameObject a = gameObject(1, new WorldPoint(3200, 3200, 0));
+		GameObject b = gameObject(1, new WorldPoint(3230, 3200, 0));
+		GameObject c = gameObject(2, new WorldPoint(3201, 3201, 0));
+		spawn(a);
+		spawn(b);
+		spawn(c);
+
+		assertEquals(Arrays.asList(a, b), Arrays.asList(sceneIndex.getObjects(1).toArray()));
+		assertEquals(Arrays.asList(a, b, c), sceneIndex.getObjects(Arrays.asList(1, 2)));
+		assertEquals(Arrays.asList(a, c), sceneIndex.getObjectsWithin(new WorldPoint(3200, 3200, 0), 5));
+		assertTrue(sceneIndex.getObjectsWithin(new WorldPoint(3200, 3200, 1), 5).isEmpty());
+
+		despawn(a);
+		assertEquals(Collections.singletonList(b), Arrays.asList(sceneIndex.getObjects(1).toArray()));
+		assertEquals(Collections.singletonList(c), sceneIndex.getObjectsWithin(new WorldPoint(3200, 3200, 0), 5));
+
+		// scene loads rebuild the scene without despawning its objects
+		postGameState(GameState.LOADING);
+		assertTrue(sceneIndex.getObjects().isEmpty());
+		assertTrue(sceneIndex.getObjects(1).isEmpty());
+	}
+
+	@Test
+	public void testObjectListener()
+	{
+		GameObject a = gameObject(1, new WorldPoint(3200, 3200, 0));
+		GameObject c = gameObject(2, new WorldPoint(3201, 3201, 0));
+		spawn(a);
+
+		SceneIndex.ObjectListener listener = mock(SceneIndex.ObjectListener.class);
+		sceneIndex.addObjectListener(Collections.singleton(1), listener);
+		verify(listener).objectSpawned(a, null);
+
+		spawn(c);
+		verify(listener, never()).objectSpawned(c, null);
+
+		despawn(a);
+		verify(listener).objectDespawned(a);
+
+		sceneIndex.removeObjectListener(listener);
+		spawn(a);
+		verify(listener).objectSpawned(a, null);
+	}
+
+	@Test
+	public void testDuplicateSpawn()
+	{
+		GameObject a = gameObject(1, new WorldPoint(3200, 3200, 0));
+		Tile first = mock(Tile.class);
+		Tile second = mock(Tile.class);
+
+		SceneIndex.ObjectListener listener = mock(SceneIndex.ObjectListener.class);
+		sceneIndex.addObjectListener(Collections.singleton(1), listener);
+
+		spawn(a, first);
+		spawn(a, second);
+		assertSame(first, sceneIndex.getTile(a));
+		assertEquals(1, sceneIndex.getObjects(1).size());
+		verify(listener).objectSpawned(a, first);
+		verify(listener, never()).objectSpawned(a, second);
+	}
+
+	@Test
+	public void testNpcs()
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(1);
+		when(npc.getName()).thenReturn("<col=ffff00>Guard</col>");
+		eventBus.post(new NpcSpawned(npc));
+
+		assertEquals(Collections.singletonList(npc), Arrays.asList(sceneIndex.getNpcs(1).toArray()));
+		assertEquals(Collections.singletonList(npc), Arrays.asList(sceneIndex.getNpcs("GUARD").toArray()));
+
+		// a changed composition reindexes the npc by its new id and name
+		when(npc.getId()).thenReturn(2);
+		when(npc.getName()).thenReturn("Knight");
+		eventBus.post(new NpcChanged(npc, null));
+
+		assertTrue(sceneIndex.getNpcs(1).isEmpty());
+		assertTrue(sceneIndex.getNpcs("guard").isEmpty());
+		assertEquals(Collections.singletonList(npc), Arrays.asList(sceneIndex.getNpcs(2).toArray()));
+		assertEquals(Collections.singletonList(npc), Arrays.asList(sceneIndex.getNpcs("knight").toArray()));
+
+		eventBus.post(new NpcDespawned(npc));
+		assertTrue(sceneIndex.getNpcs().isEmpty());
+		assertTrue(sceneIndex.getNpcs(2).isEmpty());
+		assertTrue(sceneIndex.getNpcs("knight").isEmpty());
+	}
+
+	@Test
+	public void testPlayers()
+	{
+		Player zezima = mock(Player.class);
+		when(zezima.getName()).thenReturn("Zezima");
+		Player lynx = mock(Player.class);
+		when(lynx.getName()).thenReturn("<img=2>Lynx\u00A0Titan");
+		eventBus.post(new PlayerSpawned(zezima));
+		eventBus.post(new PlayerSpawned(lynx));
+
+		assertSame(zezima, sceneIndex.getPlayer("zezima"));
+		assertSame(lynx, sceneIndex.getPlayer("Lynx Titan"));
+
+		eventBus.post(new PlayerDespawned(zezima));
+		assertNull(sceneIndex.getPlayer("zezima"));
+		assertEquals(Collections.singletonList(lynx), Arrays.asList(sceneIndex.getPlayers().toArray()));
+
+		postGameState(GameState.HOPPING);
+		assertTrue(sceneIndex.getPlayers().isEmpty());
+		assertNull(sceneIndex.getPlayer("lynx titan"));
+	}
+
+	@Test
+	public void testWorldViewUnloaded()
+	{
+		WorldView top = worldView(true);
+		WorldView boat = worldView(false);
+		when(client.getTopLevelWorldView()).thenReturn(top);
+		IndexedObjectSet<WorldView> worldViews = mock(IndexedObjectSet.class);
+		when(worldViews.iterator()).thenAnswer(invocation -> Collections.singletonList(boat).iterator());
+		doReturn(worldViews).when(top).worldViews();
+
+		GameObject topObject = gameObject(1, new WorldPoint(3200, 3200, 0));
+		when(topObject.getWorldView()).thenReturn(top);
+		GameObject boatObject = gameObject(1, new WorldPoint(3201, 3201, 0));
+		when(boatObject.getWorldView()).thenReturn(boat);
+		spawn(topObject);
+		spawn(boatObject);
+
+		NPC topNpc = mock(NPC.class);
+		when(topNpc.getWorldView()).thenReturn(top);
+		NPC boatNpc = mock(NPC.class);
+		when(boatNpc.getWorldView()).thenReturn(boat);
+		eventBus.post(new NpcSpawned(topNpc));
+		eventBus.post(new NpcSpawned(boatNpc));
+
+		Tile topTile = tile(top, 0, 0);
+		Tile boatTile = tile(boat, 1, 1);
+		eventBus.post(new ItemSpawned(topTile, null));
+		eventBus.post(new ItemSpawned(boatTile, null));
+		assertEquals(Arrays.asList(topTile, boatTile), Arrays.asList(sceneIndex.getItemTiles().toArray()));
+
+		// loading the top level scene leaves the boat alone
+		postGameState(GameState.LOADING);
+		assertEquals(Collections.singletonList(boatObject), Arrays.asList(sceneIndex.getObjects().toArray()));
+		assertEquals(Collections.singletonList(boatTile), Arrays.asList(sceneIndex.getItemTiles().toArray()));
+		assertEquals(2, sceneIndex.getNpcs().size());
+
+		eventBus.post(new WorldViewUnloaded(boat));
+		assertTrue(sceneIndex.getObjects().isEmpty());
+		assertTrue(sceneIndex.getItemTiles().isEmpty());
+		assertEquals(Collections.singletonList(topNpc), Arrays.asList(sceneIndex.getNpcs().toArray()));
+	}
+}
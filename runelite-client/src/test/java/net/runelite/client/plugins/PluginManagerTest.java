@@ -36,14 +36,27 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import com.google.inject.util.Modules;
 import java.awt.Component;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
@@ -56,7 +69,9 @@ import net.runelite.client.eventbus.EventBus;
 import okhttp3.OkHttpClient;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import org.junit.Assume;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -68,6 +83,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
+@Slf4j
 @RunWith(MockitoJUnitRunner.class)
 public class PluginManagerTest
 {
@@ -183,6 +199,24 @@ public class PluginManagerTest
 		}
 	}
 
+	@Test
+	public void testPluginIndex() throws Exception
+	{
+		// the index is generated in the process-classes phase, so it is only present in maven builds
+		try (InputStream in = PluginManager.class.getResourceAsStream(PluginManager.PLUGIN_INDEX))
+		{
+			Assume.assumeNotNull(in);
+
+			Set<Class<?>> indexed = new HashSet<>();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			for (String line; (line = reader.readLine()) != null; )
+			{
+				indexed.add(Class.forName(line));
+			}
+			assertEquals(pluginClasses, indexed);
+		}
+	}
+
 	@Test
 	public void ensureNoDuplicateConfigKeyNames()
 	{
@@ -235,4 +269,101 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testRunInDependencyOrder()
+	{
+		MutableGraph<Integer> graph = randomGraph(new Random(42), 300, 3);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		Set<Integer> completed = ConcurrentHashMap.newKeySet();
+		AtomicInteger violations = new AtomicInteger();
+		try
+		{
+			PluginManager.runInDependencyOrder(graph, node -> CompletableFuture.runAsync(() ->
+			{
+				if (!completed.containsAll(graph.predecessors(node)))
+				{
+					violations.incrementAndGet();
+				}
+
+				// a failed task must not prevent its successors from running
+				if (node % 50 == 0)
+				{
+					completed.add(node);
+					throw new RuntimeException("failure of " + node);
+				}
+				completed.add(node);
+			}, executor));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertEquals(0, violations.get());
+		assertEquals(graph.nodes(), completed);
+	}
+
+	/**
+	 * Compares starting a synthetic plugin graph one plugin at a time against starting it
+	 * in dependency order on several threads, with each plugin sleeping to simulate its startUp.
+	 */
+	@Test
+	@Ignore
+	public void benchmarkStartup() throws InterruptedException
+	{
+		Random random = new Random(42);
+		for (int maxDependencies : new int[]{0, 1, 3})
+		{
+			MutableGraph<Integer> graph = randomGraph(random, 150, maxDependencies);
+			Map<Integer, Integer> startupMillis = new ConcurrentHashMap<>();
+			for (Integer node : graph.nodes())
+			{
+				startupMillis.put(node, 1 + random.nextInt(5));
+			}
+
+			long start = System.nanoTime();
+			for (Integer node : PluginManager.topologicalSort(graph))
+			{
+				Thread.sleep(startupMillis.get(node));
+			}
+			long serialMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			start = System.nanoTime();
+			PluginManager.runInDependencyOrder(graph, node -> CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					Thread.sleep(startupMillis.get(node));
+				}
+				catch (InterruptedException e)
+				{
+					throw new RuntimeException(e);
+				}
+			}, executor));
+			long parallelMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			executor.shutdown();
+
+			log.info("{} plugins, up to {} dependencies: serial {} ms, parallel {} ms",
+				graph.nodes().size(), maxDependencies, serialMillis, parallelMillis);
+		}
+	}
+
+	private static MutableGraph<Integer> randomGraph(Random random, int nodes, int maxDependencies)
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+		for (int i = 0; i < nodes; ++i)
+		{
+			graph.addNode(i);
+			// only depend on earlier nodes, so the graph is acyclic
+			for (int j = random.nextInt(maxDependencies + 1); j > 0 && i > 0; --j)
+			{
+				graph.putEdge(random.nextInt(i), i);
+			}
+		}
+		return graph;
+	}
 }
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.banktags;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.Collections;
 import javax.inject.Inject;
 import javax.inject.Named;
 import net.runelite.api.Client;
@@ -35,6 +36,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
 import net.runelite.client.plugins.banktags.tabs.TabInterface;
@@ -45,6 +47,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -113,22 +116,19 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"tag:whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip");
+		setTags(ItemID.ABYSSAL_WHIP, "herb,bossing,whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should be found at the start of the tag
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setTags(ItemID.ABYSSAL_WHIP, "herb,bossing,whip long tag");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should not be be found in the middle of the tag
 		// and explicit search does not allow fall through
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing whip");
+		setTags(ItemID.ABYSSAL_WHIP, "herb,bossing whip");
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(0, client.getIntStack()[0]);
 	}
@@ -139,8 +139,7 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{1, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing");
+		setTags(ItemID.ABYSSAL_WHIP, "herb,bossing");
 
 		assertFalse(tagManager.findTag(ItemID.ABYSSAL_WHIP, "whip"));
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
@@ -153,10 +152,24 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		setTags(ItemID.ABYSSAL_WHIP, "herb,bossing,whip long tag");
 
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 	}
+
+	private void setTags(int itemId, String tags)
+	{
+		// the tag index is built from the config on first use, and then kept up to date by config changes
+		lenient().when(configManager.getConfigurationKeys(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX))
+			.thenReturn(Collections.singletonList(BankTagsPlugin.CONFIG_GROUP + "." + ITEM_KEY_PREFIX + itemId));
+		lenient().when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP, ITEM_KEY_PREFIX + itemId))
+			.thenReturn(tags);
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(BankTagsPlugin.CONFIG_GROUP);
+		configChanged.setKey(ITEM_KEY_PREFIX + itemId);
+		configChanged.setNewValue(tags);
+		bankTagsPlugin.onConfigChanged(configChanged);
+	}
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TagIndexTest
+{
+	@Test
+	public void testPutAndRemove()
+	{
+		TagIndex index = new TagIndex();
+		index.put(100, "Melee,ranged");
+		index.put(200, "melee");
+
+		TagIndex.Items melee = index.getItems("melee");
+		assertTrue(melee.contains(100, -1));
+		assertTrue(melee.contains(200, -1));
+		assertTrue(index.getItems("ranged").contains(100, -1));
+
+		// replacing the tags of an item drops its old tags
+		index.put(100, "magic");
+		assertFalse(index.getItems("melee").contains(100, -1));
+		assertTrue(index.getItems("melee").contains(200, -1));
+		assertTrue(index.getItems("ranged").isEmpty());
+		assertTrue(index.getItems("magic").contains(100, -1));
+
+		index.put(100, null);
+		index.put(200, "");
+		assertTrue(index.getItems("magic").isEmpty());
+		assertTrue(index.getItems("melee").isEmpty());
+	}
+
+	@Test
+	public void testVariations()
+	{
+		TagIndex index = new TagIndex();
+		// negative ids are tags for all variations of an item
+		index.put(-50, "potions");
+		index.put(50, "single");
+
+		TagIndex.Items potions = index.getItems("potions");
+		assertTrue(potions.contains(123, 50));
+		assertFalse(potions.contains(50, -1));
+		assertFalse(potions.contains(123, 51));
+
+		TagIndex.Items single = index.getItems("single");
+		assertTrue(single.contains(50, -1));
+		assertFalse(single.contains(123, 50));
+
+		// the variation and item tags of the same id are independent
+		index.put(-50, null);
+		assertTrue(index.getItems("potions").isEmpty());
+		assertTrue(index.getItems("single").contains(50, -1));
+	}
+
+	@Test
+	public void testSearch()
+	{
+		TagIndex index = new TagIndex();
+		index.put(1, "slayer");
+		index.put(2, "slayer task");
+		index.put(3, "skilling");
+		index.put(-4, "slash");
+
+		TagIndex.Items items = index.search("sla");
+		assertTrue(items.contains(1, -1));
+		assertTrue(items.contains(2, -1));
+		assertTrue(items.contains(-1, 4));
+		assertFalse(items.contains(3, -1));
+
+		assertTrue(index.search("slayer ").contains(2, -1));
+		assertFalse(index.search("slayer ").contains(1, -1));
+		assertTrue(index.search("z").isEmpty());
+		// an empty prefix matches every tag
+		assertTrue(index.search("").contains(3, -1));
+	}
+
+	@Test
+	public void testModCount()
+	{
+		TagIndex index = new TagIndex();
+		int mod = index.getModCount();
+		index.put(1, "a");
+		assertEquals(mod + 1, index.getModCount());
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class ChatFilterEngineTest
+{
+	private static final String[] WORDS = {
+		"buying", "selling", "gf", "bank", "trade", "me", "lol", "free", "armour", "trimming",
+		"gp", "wc", "dicing", "host", "join", "cc", "clan", "world", "fally", "ge", "pls", "ty",
+	};
+
+	@Test
+	public void testWords()
+	{
+		ChatFilterEngine engine = new ChatFilterEngine(Arrays.asList("hat", "HE", "ats", "hello"), Collections.emptyList());
+		assertArrayEquals(new int[]{1, 5}, engine.findMatches("whats up"));
+		assertArrayEquals(new int[]{0, 5, 6, 8}, engine.findMatches("Hello HEY"));
+		assertNull(engine.findMatches("nothing to see"));
+		assertTrue(engine.matchesAny("oh, THAT"));
+		assertFalse(engine.matchesAny("ha ts"));
+		assertEquals("w****", ChatFilterEngine.censor("whats", engine.findMatches("whats")));
+	}
+
+	@Test
+	public void testOverlappingWord()
+	{
+		// a word doesn't overlap its own previous match, the same as Matcher.find()
+		ChatFilterEngine engine = new ChatFilterEngine(Collections.singletonList("aa"), Collections.emptyList());
+		assertArrayEquals(new int[]{0, 4}, engine.findMatches("aaaaa"));
+		assertArrayEquals(new int[]{0, 2}, engine.findMatches("aaa"));
+	}
+
+	@Test
+	public void testRegex()
+	{
+		ChatFilterEngine engine = new ChatFilterEngine(Collections.singletonList("gp"),
+			Arrays.asList(Pattern.compile("5[0-9]x2", Pattern.CASE_INSENSITIVE), Pattern.compile("z*")));
+		assertArrayEquals(new int[]{0, 4, 9, 11}, engine.findMatches("55X2 for gp"));
+		// only empty matches
+		assertArrayEquals(new int[0], engine.findMatches("hi"));
+		assertTrue(engine.matchesAny("hi"));
+	}
+
+	@Test
+	public void testAgainstPatterns()
+	{
+		Random random = new Random(7);
+		List<String> words = new ArrayList<>(Arrays.asList(WORDS));
+		words.add("ë");
+		words.add("ab");
+		words.add("b");
+		List<Pattern> regexes = Collections.singletonList(Pattern.compile("[0-9]+k", Pattern.CASE_INSENSITIVE));
+		ChatFilterEngine engine = new ChatFilterEngine(words, regexes);
+		List<Pattern> patterns = compile(words, regexes);
+
+		for (String message : corpus(random, 2000))
+		{
+			String expected = censorSequentially(patterns, message);
+			int[] spans = engine.findMatches(message);
+			assertEquals(message, expected, spans == null ? null : ChatFilterEngine.censor(message, spans));
+			assertEquals(message, expected != null, engine.matchesAny(message));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Random random = new Random(42);
+		List<String> messages = corpus(random, 10_000);
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < 300; ++i)
+		{
+			words.add(WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)]);
+		}
+		words.addAll(Arrays.asList(WORDS).subList(0, 5));
+		List<Pattern> regexes = Collections.singletonList(Pattern.compile("[0-9]+k", Pattern.CASE_INSENSITIVE));
+		ChatFilterEngine engine = new ChatFilterEngine(words, regexes);
+		List<Pattern> patterns = compile(words, regexes);
+
+		for (int round = 0; round < 5; ++round)
+		{
+			long start = System.nanoTime();
+			int censored = 0;
+			for (String message : messages)
+			{
+				if (censorSequentially(patterns, message) != null)
+				{
+					++censored;
+				}
+			}
+			long sequential = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (String message : messages)
+			{
+				int[] spans = engine.findMatches(message);
+				if (spans != null)
+				{
+					ChatFilterEngine.censor(message, spans);
+				}
+			}
+			long compiled = System.nanoTime() - start;
+
+			log.info("{} filters: sequential {} ns/message, engine {} ns/message ({} censored)",
+				words.size() + regexes.size(), sequential / messages.size(), compiled / messages.size(), censored);
+		}
+	}
+
+	private static List<String> corpus(Random random, int size)
+	{
+		List<String> messages = new ArrayList<>(size);
+		for (int i = 0; i < size; ++i)
+		{
+			StringBuilder sb = new StringBuilder();
+			int words = 1 + random.nextInt(10);
+			for (int w = 0; w < words; ++w)
+			{
+				if (w > 0)
+				{
+					sb.append(' ');
+				}
+
+				switch (random.nextInt(6))
+				{
+					case 0:
+						sb.append(random.nextInt(1000)).append('k');
+						break;
+					case 1:
+						sb.append("plëäsë");
+						break;
+					default:
+						String word = WORDS[random.nextInt(WORDS.length)];
+						sb.append(random.nextBoolean() ? word : word.toUpperCase());
+						break;
+				}
+			}
+			messages.add(sb.toString());
+		}
+		return messages;
+	}
+
+	private static List<Pattern> compile(List<String> words, List<Pattern> regexes)
+	{
+		List<Pattern> patterns = new ArrayList<>();
+		for (String word : words)
+		{
+			patterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+		}
+		patterns.addAll(regexes);
+		return patterns;
+	}
+
+	// how ChatFilterPlugin used to censor words, with one pattern at a time
+	private static String censorSequentially(List<Pattern> patterns, String message)
+	{
+		boolean filtered = false;
+		String censored = message;
+		for (Pattern pattern : patterns)
+		{
+			Matcher m = pattern.matcher(message);
+			StringBuilder sb = new StringBuilder();
+			int idx = 0;
+			while (m.find())
+			{
+				sb.append(censored, idx, m.start());
+				for (int i = m.start(); i < m.end(); ++i)
+				{
+					sb.append('*');
+				}
+				idx = m.end();
+				filtered = true;
+			}
+			sb.append(censored.substring(idx));
+			censored = sb.toString();
+		}
+		return filtered ? censored : null;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.grounditems;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class GroundItemStoreTest
+{
+	@Test
+	public void testPutRemove()
+	{
+		GroundItemStore store = new GroundItemStore();
+		WorldPoint point = new WorldPoint(3200, 3200, 0);
+		GroundItem whip = item(4151);
+		GroundItem coins = item(995);
+
+		store.put(point, WorldView.TOPLEVEL, whip);
+		store.put(point, WorldView.TOPLEVEL, coins);
+		assertEquals(2, store.size());
+		assertSame(whip, store.get(point, 4151));
+		assertNull(store.get(new WorldPoint(3200, 3200, 1), 4151));
+		assertEquals(2, store.getItems(point).size());
+
+		GroundItem whip2 = item(4151);
+		store.put(point, WorldView.TOPLEVEL, whip2);
+		assertEquals(2, store.size());
+		assertSame(whip2, store.get(point, 4151));
+
+		assertSame(whip2, store.remove(point, 4151));
+		assertNull(store.remove(point, 4151));
+		assertSame(coins, store.remove(point, 995));
+		assertEquals(0, store.size());
+		assertTrue(store.getItems(point).isEmpty());
+		assertTrue(store.getLocations().isEmpty());
+	}
+
+	@Test
+	public void testDetached()
+	{
+		GroundItemStore store = new GroundItemStore();
+		store.put(new WorldPoint(3200, 3200, 0), WorldView.TOPLEVEL, item(1));
+		store.put(new WorldPoint(3200, 3200, 1), 3, item(2));
+
+		List<GroundItem> found = new ArrayList<>();
+		store.query(0, 0, 0, 16000, 16000, found::add);
+		assertEquals(1, found.size());
+		store.query(1, 0, 0, 16000, 16000, found::add);
+		assertEquals(1, found.size());
+
+		found.clear();
+		store.forEachDetached(found::add);
+		assertEquals(1, found.size());
+		assertEquals(2, found.get(0).getItemId());
+
+		assertEquals(1, store.removeIf(i -> i.getItemId() == 2));
+		found.clear();
+		store.forEachDetached(found::add);
+		assertTrue(found.isEmpty());
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	public void testRandomized()
+	{
+		Random random = new Random(42);
+		GroundItemStore store = new GroundItemStore();
+		Map<WorldPoint, Map<Integer, GroundItem>> reference = new HashMap<>();
+
+		for (int op = 0; op < 20000; ++op)
+		{
+			WorldPoint point = new WorldPoint(3150 + random.nextInt(100), 3150 + random.nextInt(100), random.nextInt(2));
+			int itemId = random.nextInt(8);
+			switch (random.nextInt(4))
+			{
+				case 0:
+				case 1:
+				{
+					GroundItem item = item(itemId);
+					store.put(point, WorldView.TOPLEVEL, item);
+					reference.computeIfAbsent(point, k -> new HashMap<>()).put(itemId, item);
+					break;
+				}
+				case 2:
+				{
+					GroundItem expected = null;
+					Map<Integer, GroundItem> tile = reference.get(point);
+					if (tile != null)
+					{
+						expected = tile.remove(itemId);
+						if (tile.isEmpty())
+						{
+							reference.remove(point);
+						}
+					}
+					assertSame(expected, store.remove(point, itemId));
+					break;
+				}
+				default:
+				{
+					int x = 3150 + random.nextInt(100);
+					int y = 3150 + random.nextInt(100);
+					int plane = random.nextInt(2);
+					int radius = random.nextInt(30);
+					// GroundItem equality is by value, so compare by identity instead
+					Set<GroundItem> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+					reference.forEach((p, items) ->
+					{
+						if (p.getPlane() == plane && Math.abs(p.getX() - x) <= radius && Math.abs(p.getY() - y) <= radius)
+						{
+							expected.addAll(items.values());
+						}
+					});
+
+					List<GroundItem> found = new ArrayList<>();
+					store.query(plane, x - radius, y - radius, x + radius, y + radius, found::add);
+					assertEquals(expected.size(), found.size());
+					assertTrue(expected.containsAll(found));
+				}
+			}
+		}
+
+		assertEquals(reference.values().stream().mapToInt(Map::size).sum(), store.size());
+		assertEquals(reference.keySet(), new HashSet<>(store.getLocations()));
+
+		int removed = store.removeIf(i -> i.getItemId() % 2 == 0);
+		reference.values().forEach(items -> items.keySet().removeIf(id -> id % 2 == 0));
+		reference.values().removeIf(Map::isEmpty);
+		assertEquals(reference.values().stream().mapToInt(Map::size).sum(), store.size());
+		assertTrue(removed > 0);
+
+		List<GroundItem> found = new ArrayList<>();
+		store.query(0, 0, 0, 0x3FFF, 0x3FFF, found::add);
+		store.query(1, 0, 0, 0x3FFF, 0x3FFF, found::add);
+		assertEquals(store.size(), found.size());
+	}
+
+	private static GroundItem item(int itemId)
+	{
+		return GroundItem.builder()
+			.itemId(itemId)
+			.quantity(1)
+			.build();
+	}
+}
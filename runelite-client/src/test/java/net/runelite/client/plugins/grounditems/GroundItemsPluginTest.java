@@ -34,6 +34,7 @@ import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemLayer;
 import net.runelite.api.Tile;
 import net.runelite.api.TileItem;
+import net.runelite.api.WorldView;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.gameval.ItemID;
@@ -140,8 +141,12 @@ public class GroundItemsPluginTest
 		groundItemsPlugin.onConfigChanged(configChanged);
 
 		// spawn whip
+		WorldView worldView = mock(WorldView.class);
+		when(worldView.getId()).thenReturn(WorldView.TOPLEVEL);
+		ItemLayer itemLayer = mock(ItemLayer.class);
+		when(itemLayer.getWorldView()).thenReturn(worldView);
 		Tile tile = mock(Tile.class);
-		when(tile.getItemLayer()).thenReturn(mock(ItemLayer.class));
+		when(tile.getItemLayer()).thenReturn(itemLayer);
 		when(tile.getWorldLocation()).thenReturn(new WorldPoint(0, 0, 0));
 
 		TileItem tileItem = mock(TileItem.class);
@@ -36,6 +36,7 @@ import net.runelite.api.events.ChatMessage;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.client.Notifier;
+import net.runelite.client.config.ConfigKey;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -188,7 +189,7 @@ public class ItemChargePluginTest
 	@Test
 	public void testRofTwo()
 	{
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class)).thenReturn(140);
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class))).thenReturn(140);
 
 		// Create equipment inventory with ring of forging
 		ItemContainer equipmentItemContainer = mock(ItemContainer.class);
@@ -205,7 +206,7 @@ public class ItemChargePluginTest
 		itemChargePlugin.onChatMessage(chatMessageUse);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 138);
 
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class)).thenReturn(138);
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class))).thenReturn(138);
 		itemChargePlugin.onChatMessage(chatMessageUse);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 137);
 	}
@@ -221,7 +222,7 @@ public class ItemChargePluginTest
 	@Test
 	public void testRof()
 	{
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class)).thenReturn(90);
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class))).thenReturn(90);
 
 		// Create equipment inventory with ring of forging
 		ItemContainer equipmentItemContainer = mock(ItemContainer.class);
@@ -248,7 +249,7 @@ public class ItemChargePluginTest
 		ChatMessage breakMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", BREAK_RING_OF_FORGING, "", 0);
 		itemChargePlugin.onChatMessage(breakMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 141);
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class)).thenReturn(141);
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, Integer.class))).thenReturn(141);
 		ChatMessage useMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", USED_RING_OF_FORGING, "", 0);
 		itemChargePlugin.onChatMessage(useMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_RING_OF_FORGING, 140);
@@ -493,7 +494,7 @@ public class ItemChargePluginTest
 	public void testBloodEssenceExtract()
 	{
 		ChatMessage chatMessage = new ChatMessage(null, ChatMessageType.GAMEMESSAGE, "", EXTRACT_BLOOD_ESSENCE, "", 0);
-		when(configManager.getConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, Integer.class)).thenReturn(1000);
+		when(configManager.getConfiguration(ConfigKey.of(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, Integer.class))).thenReturn(1000);
 		itemChargePlugin.onChatMessage(chatMessage);
 		verify(configManager).setRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BLOOD_ESSENCE, 933);
 	}
@@ -517,7 +518,7 @@ public class ItemChargePluginTest
 	@Test
 	public void testBraceletOfClayUsed()
 	{
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, Integer.class)).thenReturn(25);
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, Integer.class))).thenReturn(25);
 		// Create equipment inventory with bracelet of clay
 		ItemContainer equipmentItemContainer = mock(ItemContainer.class);
 		when(client.getItemContainer(InventoryID.WORN)).thenReturn(equipmentItemContainer);
@@ -541,7 +542,7 @@ public class ItemChargePluginTest
 	public void testBraceletOfClayUseTrahaearn()
 	{
 		// Set bracelet of clay charges to 13
-		when(configManager.getRSProfileConfiguration(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, Integer.class))
+		when(configManager.getConfiguration(ConfigKey.rsProfile(ItemChargeConfig.GROUP, ItemChargeConfig.KEY_BRACELET_OF_CLAY, Integer.class)))
 			.thenReturn(13);
 
 		// Equip bracelet of clay
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static LootAggregate loot(String name, int kills, int... drops)
+	{
+		LootAggregate loot = new LootAggregate(LootRecordType.NPC, name, Instant.EPOCH);
+		loot.kills = kills;
+		for (int i = 0; i < drops.length; i += 2)
+		{
+			loot.add(drops[i], drops[i + 1]);
+		}
+		return loot;
+	}
+
+	@Test
+	public void testAggregate()
+	{
+		LootAggregate loot = loot("Goblin", 1);
+		for (int i = 0; i < 100; ++i)
+		{
+			loot.add(i * 1024, i);
+			loot.add(i * 1024, 1);
+		}
+		loot.add(0, Integer.MAX_VALUE);
+
+		assertEquals(100, loot.numDrops());
+		assertEquals(Integer.MAX_VALUE, loot.getQuantity(0));
+		for (int i = 1; i < 100; ++i)
+		{
+			assertEquals(i * 1024, loot.getId(i));
+			assertEquals(i + 1, loot.getQuantity(i));
+		}
+	}
+
+	@Test
+	public void testReplay() throws IOException
+	{
+		File dir = folder.newFolder();
+		Instant now = Instant.ofEpochMilli(1000);
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(loot("Goblin", 1, 526, 1, 995, 5), now);
+			store.add(loot("Goblin", 2, 995, 10), now.plusSeconds(1));
+			store.add(loot("Cow", 1, 1739, 1), now);
+			store.remove(LootRecordType.NPC, "Cow");
+		}
+
+		// closing compacted the log into the snapshot
+		assertEquals(LootStore.LOG_HEADER_SIZE, new File(dir, LootStore.LOG_FILE).length());
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertEquals(1, store.size());
+			assertNull(store.get(LootRecordType.NPC, "Cow"));
+
+			LootAggregate goblin = store.get(LootRecordType.NPC, "Goblin");
+			assertEquals(3, goblin.getKills());
+			assertEquals(now, goblin.getFirst());
+			assertEquals(now.plusSeconds(1), goblin.getLast());
+			assertEquals(2, goblin.numDrops());
+			assertEquals(526, goblin.getId(0));
+			assertEquals(1, goblin.getQuantity(0));
+			assertEquals(995, goblin.getId(1));
+			assertEquals(15, goblin.getQuantity(1));
+		}
+	}
+
+	@Test
+	public void testTornLog() throws IOException
+	{
+		File dir = folder.newFolder();
+		LootStore store = LootStore.open(dir);
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+
+		// simulate a crash part way through writing the last record
+		File log = new File(dir, LootStore.LOG_FILE);
+		long length = log.length();
+		try (RandomAccessFile raf = new RandomAccessFile(log, "rw"))
+		{
+			raf.setLength(length - 3);
+		}
+
+		store = LootStore.open(dir);
+		assertEquals(1, store.get(LootRecordType.NPC, "Goblin").getKills());
+		assertEquals(LootStore.LOG_HEADER_SIZE + (length - LootStore.LOG_HEADER_SIZE) / 2, log.length());
+
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+		store.close();
+
+		store = LootStore.open(dir);
+		assertEquals(2, store.get(LootRecordType.NPC, "Goblin").getQuantity(0));
+		store.close();
+	}
+
+	@Test
+	public void testCompactCrash() throws IOException
+	{
+		File dir = folder.newFolder();
+		File log = new File(dir, LootStore.LOG_FILE);
+		LootStore store = LootStore.open(dir);
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+		store.compact();
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+		byte[] oldLog = Files.readAllBytes(log.toPath());
+		store.compact();
+
+		// simulate a crash after the snapshot was moved into place but before the log was truncated
+		Files.write(log.toPath(), oldLog);
+
+		store = LootStore.open(dir);
+		assertEquals(2, store.get(LootRecordType.NPC, "Goblin").getKills());
+		assertEquals(LootStore.LOG_HEADER_SIZE, log.length());
+
+		// the log is usable again after being discarded
+		store.add(loot("Goblin", 1, 526, 1), Instant.now());
+		store.close();
+
+		store = LootStore.open(dir);
+		assertEquals(3, store.get(LootRecordType.NPC, "Goblin").getKills());
+		store.close();
+	}
+
+	@Test
+	public void testReplaceAll() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (LootStore store = LootStore.open(dir))
+		{
+			store.add(loot("Goblin", 1, 526, 1), Instant.now());
+			store.add(loot("Man", 1, 995, 3), Instant.now());
+			store.replaceAll(List.of(loot("Goblin", 5), loot("Cow", 5)));
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertEquals(5, store.get(LootRecordType.NPC, "Goblin").getKills());
+			assertEquals(5, store.get(LootRecordType.NPC, "Cow").getKills());
+			assertNull(store.get(LootRecordType.NPC, "Man"));
+
+			store.clear();
+			assertEquals(0, store.size());
+		}
+
+		try (LootStore store = LootStore.open(dir))
+		{
+			assertEquals(0, store.size());
+		}
+	}
+
+	@Test
+	public void testEncode()
+	{
+		LootAggregate loot = loot("Goblin", 3, 526, 3, 995, 120);
+		loot.last = Instant.ofEpochMilli(1000);
+
+		String value = LootStore.encode(loot);
+		LootAggregate decoded = LootStore.decode(LootRecordType.NPC, "Goblin", value);
+		assertEquals(3, decoded.getKills());
+		assertEquals(Instant.EPOCH, decoded.getFirst());
+		assertEquals(Instant.ofEpochMilli(1000), decoded.getLast());
+		assertEquals(2, decoded.numDrops());
+		assertEquals(995, decoded.getId(1));
+		assertEquals(120, decoded.getQuantity(1));
+		assertEquals(value, LootStore.encode(decoded));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDecodeMalformed()
+	{
+		LootStore.decode(LootRecordType.NPC, "Goblin", "3,0,1000,526");
+	}
+}
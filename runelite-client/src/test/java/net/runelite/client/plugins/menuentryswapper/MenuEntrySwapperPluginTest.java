@@ -29,6 +29,7 @@ import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.KeyCode;
 import net.runelite.api.Menu;
@@ -40,11 +41,13 @@ import net.runelite.api.ObjectComposition;
 import net.runelite.api.events.PostMenuSort;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.TestMenuEntry;
 import org.junit.After;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -60,6 +63,7 @@ import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
+@Slf4j
 @RunWith(MockitoJUnitRunner.class)
 public class MenuEntrySwapperPluginTest
 {
@@ -385,4 +389,91 @@ public class MenuEntrySwapperPluginTest
 			menu("Last-destination (AIQ)", "Fairy ring", MenuAction.GAME_OBJECT_SECOND_OPTION),
 		}, argumentCaptor.getValue());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCustomObjectSwap()
+	{
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(MenuEntrySwapperConfig.GROUP);
+		configChanged.setKey("object_0");
+		configChanged.setNewValue("1");
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+
+			menu("Seeds", "Redwood birdhouse", MenuAction.GAME_OBJECT_SECOND_OPTION),
+			menu("Interact", "Redwood birdhouse", MenuAction.GAME_OBJECT_FIRST_OPTION),
+		};
+
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+
+		ArgumentCaptor<MenuEntry[]> argumentCaptor = ArgumentCaptor.forClass(MenuEntry[].class);
+		verify(menu).setMenuEntries(argumentCaptor.capture());
+
+		assertArrayEquals(new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Walk here", "", MenuAction.WALK),
+
+			menu("Interact", "Redwood birdhouse", MenuAction.GAME_OBJECT_FIRST_OPTION),
+			menu("Seeds", "Redwood birdhouse", MenuAction.GAME_OBJECT_SECOND_OPTION),
+		}, argumentCaptor.getValue());
+
+		// unsetting the swap restores the default order, so the menu is not changed again
+		configChanged.setNewValue(null);
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+
+		entries = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Seeds", "Redwood birdhouse", MenuAction.GAME_OBJECT_SECOND_OPTION),
+			menu("Interact", "Redwood birdhouse", MenuAction.GAME_OBJECT_FIRST_OPTION),
+		};
+		menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+		verify(menu).setMenuEntries(any(MenuEntry[].class));
+	}
+
+	@Test
+	@Ignore
+	public void benchmarkCrowdedMenu()
+	{
+		lenient().when(config.swapBank()).thenReturn(true);
+		lenient().when(config.swapTrade()).thenReturn(true);
+
+		MenuEntry[] crowded = new MenuEntry[]{
+			menu("Cancel", "", MenuAction.CANCEL),
+			menu("Examine", "<col=ffff>Bank booth", MenuAction.EXAMINE_OBJECT),
+			menu("Examine", "<col=ffff00>Banker", MenuAction.EXAMINE_NPC),
+			menu("Examine", "<col=ffff00>Banker", MenuAction.EXAMINE_NPC),
+			menu("Walk here", "", MenuAction.WALK),
+			menu("Take", "<col=ff9040>Bones", MenuAction.GROUND_ITEM_THIRD_OPTION),
+			menu("Take", "<col=ff9040>Coins", MenuAction.GROUND_ITEM_THIRD_OPTION),
+			menu("Trade with", "<col=ffffff>Zezima<col=ff00>  (level-126)", MenuAction.PLAYER_FOURTH_OPTION),
+			menu("Follow", "<col=ffffff>Zezima<col=ff00>  (level-126)", MenuAction.PLAYER_THIRD_OPTION),
+			menu("Trade with", "<col=ffffff>Woox<col=ff00>  (level-126)", MenuAction.PLAYER_FOURTH_OPTION),
+			menu("Follow", "<col=ffffff>Woox<col=ff00>  (level-126)", MenuAction.PLAYER_THIRD_OPTION),
+			menu("Collect", "<col=ffff>Bank booth", MenuAction.GAME_OBJECT_THIRD_OPTION),
+			menu("Bank", "<col=ffff>Bank booth", MenuAction.GAME_OBJECT_SECOND_OPTION),
+			menu("Use", "<col=ffff>Bank booth", MenuAction.GAME_OBJECT_FIRST_OPTION),
+			menu("Collect", "<col=ffff00>Banker", MenuAction.NPC_FOURTH_OPTION),
+			menu("Bank", "<col=ffff00>Banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "<col=ffff00>Banker", MenuAction.NPC_FIRST_OPTION),
+			menu("Collect", "<col=ffff00>Banker", MenuAction.NPC_FOURTH_OPTION),
+			menu("Bank", "<col=ffff00>Banker", MenuAction.NPC_THIRD_OPTION),
+			menu("Talk-to", "<col=ffff00>Banker", MenuAction.NPC_FIRST_OPTION),
+		};
+
+		for (int round = 0; round < 5; ++round)
+		{
+			final int iterations = 20_000;
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; ++i)
+			{
+				entries = crowded.clone();
+				menuEntrySwapperPlugin.onPostMenuSort(new PostMenuSort());
+			}
+			long elapsed = System.nanoTime() - start;
+			log.info("{} entries: {} ns/menu", crowded.length, elapsed / iterations);
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerTest
+{
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private Scheduler scheduler;
+	private long start;
+
+	@Before
+	public void before()
+	{
+		scheduler = new Scheduler();
+		start = System.nanoTime();
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.SECONDS)
+	public void delay()
+	{
+	}
+
+	@Schedule(period = 10, unit = ChronoUnit.SECONDS)
+	public void slow()
+	{
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.SECONDS, missedRuns = MissedRunPolicy.COALESCE)
+	public void coalesce()
+	{
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.SECONDS, missedRuns = MissedRunPolicy.CATCH_UP)
+	public void catchUp()
+	{
+	}
+
+	@Schedule(period = 1, unit = ChronoUnit.SECONDS, jitter = 1)
+	public void jitter()
+	{
+	}
+
+	private ScheduledMethod schedule(String name, AtomicInteger runs) throws NoSuchMethodException
+	{
+		Method method = SchedulerTest.class.getMethod(name);
+		ScheduledMethod scheduledMethod = new ScheduledMethod(method.getAnnotation(Schedule.class), method, this, runs::incrementAndGet);
+		scheduler.addScheduledMethod(scheduledMethod);
+		return scheduledMethod;
+	}
+
+	private void tick(double seconds)
+	{
+		scheduler.tick(start + (long) (seconds * SECOND));
+	}
+
+	@Test
+	public void testOnlyDueMethodsRun() throws Exception
+	{
+		AtomicInteger fast = new AtomicInteger();
+		AtomicInteger slow = new AtomicInteger();
+		schedule("delay", fast);
+		schedule("slow", slow);
+
+		tick(0.5);
+		assertEquals(0, fast.get());
+
+		tick(1.2);
+		tick(1.5);
+		assertEquals(1, fast.get());
+		assertEquals(0, slow.get());
+
+		tick(2.3);
+		assertEquals(2, fast.get());
+		assertEquals(0, slow.get());
+	}
+
+	@Test
+	public void testDelay() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		ScheduledMethod method = schedule("delay", runs);
+
+		tick(3.5);
+		assertEquals(1, runs.get());
+		assertEquals(2, method.getMissedRuns());
+
+		// the next run is a period after the last
+		tick(4.2);
+		assertEquals(1, runs.get());
+		tick(4.6);
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	public void testCoalesce() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		ScheduledMethod method = schedule("coalesce", runs);
+
+		tick(3.5);
+		assertEquals(1, runs.get());
+		assertEquals(2, method.getMissedRuns());
+
+		// the next run keeps the rate of the first
+		tick(3.9);
+		assertEquals(1, runs.get());
+		tick(4.2);
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	public void testCatchUp() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		ScheduledMethod method = schedule("catchUp", runs);
+
+		// one run per tick until caught up
+		tick(3.5);
+		tick(3.6);
+		tick(3.7);
+		assertEquals(3, runs.get());
+		tick(3.8);
+		assertEquals(3, runs.get());
+		assertEquals(0, method.getMissedRuns());
+		assertEquals(3, method.getRuns());
+	}
+
+	@Test
+	public void testJitter() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		schedule("jitter", runs);
+
+		tick(0.9);
+		assertEquals(0, runs.get());
+		tick(2.1);
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	public void testRemove() throws Exception
+	{
+		AtomicInteger runs = new AtomicInteger();
+		ScheduledMethod method = schedule("delay", runs);
+		scheduler.removeScheduledMethod(method);
+
+		tick(5);
+		assertEquals(0, runs.get());
+		assertEquals(0, scheduler.getScheduledMethods().size());
+	}
+}
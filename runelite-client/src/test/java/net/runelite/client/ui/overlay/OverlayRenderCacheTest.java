@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class OverlayRenderCacheTest
+{
+	@Test
+	public void testRenderAndDraw()
+	{
+		BufferedImage screen = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = screen.createGraphics();
+		Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+		graphics.setFont(font);
+
+		OverlayRenderCache cache = new OverlayRenderCache();
+		assertFalse(cache.hasOutput());
+		assertFalse(cache.hasCapacity(new Dimension(10, 10)));
+
+		cache.allocate(graphics, new Dimension(10, 10));
+		assertTrue(cache.hasCapacity(new Dimension(20, 20)));
+		assertFalse(cache.hasCapacity(new Dimension(40, 20)));
+
+		Graphics2D cacheGraphics = cache.begin(graphics, null);
+		cacheGraphics.setColor(Color.RED);
+		cacheGraphics.fillRect(0, 0, 10, 10);
+		cacheGraphics.dispose();
+		cache.commit(new Dimension(10, 10));
+
+		assertTrue(cache.isValid(font, null));
+		assertFalse(cache.isValid(font.deriveFont(14f), null));
+		assertFalse(cache.isValid(font, new Dimension(10, 10)));
+
+		graphics.translate(50, 50);
+		cache.draw(graphics);
+		assertEquals(Color.RED.getRGB(), screen.getRGB(55, 55));
+		// only the committed size is drawn
+		assertEquals(0, screen.getRGB(65, 65));
+
+		cache.invalidate();
+		assertFalse(cache.hasOutput());
+	}
+
+	@Test
+	public void testCommitEmpty()
+	{
+		BufferedImage screen = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = screen.createGraphics();
+		Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+		OverlayRenderCache cache = new OverlayRenderCache();
+		cache.allocate(graphics, new Dimension(0, 0));
+		assertFalse(cache.hasOutput());
+
+		cache.commitEmpty(font, null);
+		assertTrue(cache.isValid(font, null));
+		assertEquals(0, cache.getWidth());
+		assertEquals(0, cache.getHeight());
+
+		// drawing without an image is a no-op
+		cache.draw(graphics);
+		assertEquals(0, screen.getRGB(0, 0));
+	}
+}
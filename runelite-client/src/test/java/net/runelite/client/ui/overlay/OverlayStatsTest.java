@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class OverlayStatsTest
+{
+	private static class TestOverlay extends Overlay
+	{
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			return null;
+		}
+	}
+
+	@Test
+	public void testRollingWindow()
+	{
+		OverlayStats stats = new OverlayStats(new TestOverlay());
+		assertEquals(0, stats.getMeanNanos());
+		assertEquals(0, stats.getPercentileNanos(0.99));
+
+		for (int i = 1; i <= 100; ++i)
+		{
+			stats.recordRender(i * 1000L);
+		}
+		assertEquals(100, stats.getRenders());
+		assertEquals(50_500, stats.getMeanNanos());
+		assertEquals(99_000, stats.getPercentileNanos(0.99));
+		assertEquals(100_000, stats.getPercentileNanos(1));
+
+		// once the window is full, old renders no longer count
+		for (int i = 0; i < 1000; ++i)
+		{
+			stats.recordRender(10);
+		}
+		assertEquals(1100, stats.getRenders());
+		assertEquals(10, stats.getMeanNanos());
+		assertEquals(10, stats.getPercentileNanos(0.99));
+	}
+
+	@Test
+	public void testCachedDraws()
+	{
+		OverlayStats stats = new OverlayStats(new TestOverlay());
+		stats.recordCachedDraw(false);
+		stats.recordCachedDraw(true);
+		assertEquals(2, stats.getCachedDraws());
+		assertEquals(1, stats.getDeferred());
+
+		stats.reset();
+		assertEquals(0, stats.getCachedDraws());
+		assertEquals(0, stats.getDeferred());
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.HashTable;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.SceneIndex;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GameEventManagerTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Bind
+	private EventBus eventBus = new EventBus();
+
+	@Inject
+	private SceneIndex sceneIndex;
+
+	@Inject
+	private GameEventManager gameEventManager;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	public static class Subscriber
+	{
+		private final List<Object> events = new ArrayList<>();
+
+		@Subscribe
+		public void onNpcSpawned(NpcSpawned event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		public void onPlayerSpawned(PlayerSpawned event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		public void onGameObjectSpawned(GameObjectSpawned event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		public void onWallObjectSpawned(WallObjectSpawned event)
+		{
+			events.add(event);
+		}
+
+		@Subscribe
+		public void onItemSpawned(ItemSpawned event)
+		{
+			events.add(event);
+		}
+	}
+
+	@Test
+	public void testSimulateSceneEvents()
+	{
+		NPC npc = mock(NPC.class);
+		eventBus.post(new NpcSpawned(npc));
+
+		Player player = mock(Player.class);
+		eventBus.post(new PlayerSpawned(player));
+
+		Tile wallTile = mock(Tile.class);
+		WallObject wall = mock(WallObject.class);
+		when(wall.getWorldLocation()).thenReturn(new WorldPoint(3200, 3200, 0));
+		WallObjectSpawned wallSpawned = new WallObjectSpawned();
+		wallSpawned.setTile(wallTile);
+		wallSpawned.setWallObject(wall);
+		eventBus.post(wallSpawned);
+
+		GameObject gameObject = mock(GameObject.class);
+		when(gameObject.getWorldLocation()).thenReturn(new WorldPoint(3201, 3200, 0));
+		GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
+		gameObjectSpawned.setGameObject(gameObject);
+		eventBus.post(gameObjectSpawned);
+
+		Tile itemTile = mock(Tile.class);
+		ItemLayer itemLayer = mock(ItemLayer.class);
+		TileItem item = mock(TileItem.class);
+		when(itemTile.getItemLayer()).thenReturn(itemLayer);
+		when(itemLayer.getTop()).thenReturn(item);
+		eventBus.post(new ItemSpawned(itemTile, item));
+
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		HashTable<ItemContainer> itemContainers = mock(HashTable.class);
+		when(itemContainers.iterator()).thenReturn(Collections.emptyIterator());
+		when(client.getItemContainers()).thenReturn(itemContainers);
+		doAnswer(invocation ->
+		{
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).when(clientThread).invoke(any(Runnable.class));
+
+		// a plugin starting after the spawns receives them from the index
+		Subscriber subscriber = new Subscriber();
+		gameEventManager.simulateGameEvents(subscriber);
+
+		List<Object> events = subscriber.events;
+		assertEquals(5, events.size());
+		assertSame(npc, ((NpcSpawned) events.get(0)).getNpc());
+		assertSame(player, ((PlayerSpawned) events.get(1)).getPlayer());
+		assertSame(wall, ((WallObjectSpawned) events.get(2)).getWallObject());
+		assertSame(wallTile, ((WallObjectSpawned) events.get(2)).getTile());
+		assertSame(gameObject, ((GameObjectSpawned) events.get(3)).getGameObject());
+		assertSame(itemTile, ((ItemSpawned) events.get(4)).getTile());
+		assertSame(item, ((ItemSpawned) events.get(4)).getItem());
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Test;
+
+@Slf4j
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatchAll()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList(
+			"rune*", // 0
+			"*pouch", // 1
+			"Abyssal whip", // 2
+			"*ite*", // 3
+			"r*e p*h", // 4
+			"*", // 5
+			"rune pouch", // 6
+			"a*a*a" // 7
+		));
+
+		assertArrayEquals(new int[]{0, 1, 4, 5, 6}, set.matchAll("Rune pouch"));
+		assertArrayEquals(new int[]{3, 5}, set.matchAll("Runite ore"));
+		assertArrayEquals(new int[]{2, 5}, set.matchAll("abyssal WHIP"));
+		assertArrayEquals(new int[]{5, 7}, set.matchAll("aaa"));
+		assertArrayEquals(new int[]{5}, set.matchAll("aa"));
+		assertArrayEquals(new int[]{5}, set.matchAll(""));
+		assertTrue(set.matchesAny("anything"));
+	}
+
+	@Test
+	public void testNoWildcard()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList("Goblin", "goblin", ""));
+		assertArrayEquals(new int[]{0, 1}, set.matchAll("GOBLIN"));
+		assertArrayEquals(new int[]{2}, set.matchAll(""));
+		assertFalse(set.matchesAny("Goblins"));
+		assertEquals(0, WildcardMatcherSet.compile(new ArrayList<>()).matchAll("Goblin").length);
+	}
+
+	@Test
+	public void testAgainstMatcher()
+	{
+		Random random = new Random(42);
+		List<String> patterns = randomPatterns(random, 200);
+		WildcardMatcherSet set = WildcardMatcherSet.compile(patterns);
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			String name = randomName(random);
+			List<Integer> expected = new ArrayList<>();
+			for (int j = 0; j < patterns.size(); ++j)
+			{
+				if (name.matches(toRegex(patterns.get(j))))
+				{
+					expected.add(j);
+				}
+			}
+
+			assertArrayEquals(name, expected.stream().mapToInt(Integer::intValue).toArray(), set.matchAll(name));
+			assertEquals(name, !expected.isEmpty(), set.matchesAny(name));
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark()
+	{
+		Random random = new Random(42);
+		List<String> patterns = randomPatterns(random, 500);
+		String[] names = new String[1000];
+		for (int i = 0; i < names.length; ++i)
+		{
+			names[i] = randomName(random);
+		}
+
+		WildcardMatcherSet set = WildcardMatcherSet.compile(patterns);
+		for (int round = 0; round < 5; ++round)
+		{
+			long start = System.nanoTime();
+			int matches = 0;
+			for (String name : names)
+			{
+				for (String pattern : patterns)
+				{
+					if (WildcardMatcher.matches(pattern, name))
+					{
+						++matches;
+						break;
+					}
+				}
+			}
+			long loop = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int setMatches = 0;
+			for (int i = 0; i < 100; ++i)
+			{
+				for (String name : names)
+				{
+					if (set.matchesAny(name))
+					{
+						++setMatches;
+					}
+				}
+			}
+			long compiled = (System.nanoTime() - start) / 100;
+
+			log.info("500 patterns: loop {} ns/name, compiled {} ns/name ({} {})",
+				loop / names.length, compiled / names.length, matches, setMatches / 100);
+		}
+	}
+
+	private static final String[] WORDS = {"rune", "dragon", "bones", "coins", "ore", "bar", "pouch", "whip", "seed", "potion", "shield", "arrow"};
+
+	private static String randomName(Random random)
+	{
+		StringBuilder sb = new StringBuilder();
+		int words = 1 + random.nextInt(3);
+		for (int i = 0; i < words; ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(' ');
+			}
+			String word = WORDS[random.nextInt(WORDS.length)];
+			sb.append(random.nextBoolean() ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+		}
+		return sb.toString();
+	}
+
+	private static List<String> randomPatterns(Random random, int count)
+	{
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < count; ++i)
+		{
+			String name = randomName(random) + random.nextInt(20);
+			switch (random.nextInt(5))
+			{
+				case 0:
+					patterns.add(name);
+					break;
+				case 1:
+					patterns.add(name.substring(0, 1 + random.nextInt(name.length() - 1)) + "*");
+					break;
+				case 2:
+					patterns.add("*" + name.substring(random.nextInt(name.length())));
+					break;
+				case 3:
+					patterns.add("*" + WORDS[random.nextInt(WORDS.length)] + "*");
+					break;
+				default:
+					int split = random.nextInt(name.length());
+					patterns.add(name.substring(0, split) + "*" + name.substring(split + 1));
+					break;
+			}
+		}
+		return patterns;
+	}
+
+	// the regex WildcardMatcher used to match with
+	private static String toRegex(String pattern)
+	{
+		StringBuilder sb = new StringBuilder("(?i)");
+		String[] parts = pattern.split("\\*+", -1);
+		for (int i = 0; i < parts.length; ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(".*");
+			}
+			if (!parts[i].isEmpty())
+			{
+				sb.append(Pattern.quote(parts[i]));
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes the names of the plugin classes in the compiled classes to an index file, so that the
+ * client can load its plugins without scanning the classpath. Class files are read directly, without
+ * loading them, and a class is indexed if it extends Plugin or has a PluginDescriptor.
+ */
+@Mojo(
+	name = "plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN_CLASS = "net/runelite/client/plugins/Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(defaultValue = "net.runelite.client.plugins")
+	private String packageName;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		File packageDirectory = new File(classesDirectory, packageName.replace('.', File.separatorChar));
+		List<String> plugins = new ArrayList<>();
+		try
+		{
+			scan(packageDirectory, packageName, plugins);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error reading plugin classes", ex);
+		}
+
+		Collections.sort(plugins);
+
+		indexFile.getParentFile().mkdirs();
+		try (PrintWriter out = new PrintWriter(indexFile, StandardCharsets.UTF_8.name()))
+		{
+			for (String plugin : plugins)
+			{
+				out.println(plugin);
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error writing plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private static void scan(File directory, String pkg, List<String> plugins) throws IOException
+	{
+		File[] files = directory.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			if (file.isDirectory())
+			{
+				scan(file, pkg + "." + name, plugins);
+			}
+			// only top level classes, like ClassPath#getTopLevelClassesRecursive
+			else if (name.endsWith(".class") && name.indexOf('$') == -1)
+			{
+				try (InputStream in = new BufferedInputStream(new FileInputStream(file)))
+				{
+					if (isPlugin(new DataInputStream(in)))
+					{
+						plugins.add(pkg + "." + name.substring(0, name.length() - ".class".length()));
+					}
+				}
+			}
+		}
+	}
+
+	static boolean isPlugin(DataInputStream in) throws IOException
+	{
+		if (in.readInt() != 0xCAFEBABE)
+		{
+			throw new IOException("not a class file");
+		}
+		in.skipBytes(4); // version
+
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8 = new String[constantPoolCount];
+		int[] classNames = new int[constantPoolCount];
+		for (int i = 1; i < constantPoolCount; ++i)
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case 1: // Utf8
+					utf8[i] = in.readUTF();
+					break;
+				case 7: // Class
+					classNames[i] = in.readUnsignedShort();
+					break;
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					in.skipBytes(2);
+					break;
+				case 15: // MethodHandle
+					in.skipBytes(3);
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					in.skipBytes(4);
+					break;
+				case 5: // Long
+				case 6: // Double
+					in.skipBytes(8);
+					++i;
+					break;
+				default:
+					throw new IOException("unknown constant pool tag " + tag);
+			}
+		}
+
+		in.skipBytes(4); // access flags, this class
+		int superClass = in.readUnsignedShort();
+		if (superClass != 0 && PLUGIN_CLASS.equals(utf8[classNames[superClass]]))
+		{
+			return true;
+		}
+
+		in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+		skipMembers(in); // fields
+		skipMembers(in); // methods
+
+		int attributes = in.readUnsignedShort();
+		for (int i = 0; i < attributes; ++i)
+		{
+			String name = utf8[in.readUnsignedShort()];
+			int length = in.readInt();
+			if (!"RuntimeVisibleAnnotations".equals(name))
+			{
+				in.skipBytes(length);
+				continue;
+			}
+
+			int annotations = in.readUnsignedShort();
+			for (int j = 0; j < annotations; ++j)
+			{
+				if (PLUGIN_DESCRIPTOR.equals(utf8[in.readUnsignedShort()]))
+				{
+					return true;
+				}
+				skipElementValuePairs(in);
+			}
+		}
+		return false;
+	}
+
+	private static void skipMembers(DataInputStream in) throws IOException
+	{
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; ++i)
+		{
+			in.skipBytes(6); // access flags, name, descriptor
+			int attributes = in.readUnsignedShort();
+			for (int j = 0; j < attributes; ++j)
+			{
+				in.skipBytes(2);
+				in.skipBytes(in.readInt());
+			}
+		}
+	}
+
+	private static void skipElementValuePairs(DataInputStream in) throws IOException
+	{
+		int pairs = in.readUnsignedShort();
+		for (int i = 0; i < pairs; ++i)
+		{
+			in.skipBytes(2); // name
+			skipElementValue(in);
+		}
+	}
+
+	private static void skipElementValue(DataInputStream in) throws IOException
+	{
+		int tag = in.readUnsignedByte();
+		switch (tag)
+		{
+			case 'e': // enum
+				in.skipBytes(4);
+				break;
+			case '@': // annotation
+				in.skipBytes(2);
+				skipElementValuePairs(in);
+				break;
+			case '[': // array
+				int values = in.readUnsignedShort();
+				for (int i = 0; i < values; ++i)
+				{
+					skipElementValue(in);
+				}
+				break;
+			default: // constant or class
+				in.skipBytes(2);
+				break;
+		}
+	}
+}